@@ -18,6 +18,7 @@ import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.element.ColumnElement;
 import org.assertj.db.type.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -45,7 +46,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
                    AssertOnNumberOfRows<C>,
                    AssertOnColumnName<C>,
                    AssertOnColumnType<C>,
-                   AssertOnColumnNullity<C> {
+                   AssertOnColumnNullity<C>,
+                   AssertOnColumnAggregates<C> {
 
   /**
    * Position of navigation to value.
@@ -95,7 +97,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    int size = origin.getActual().getNumberOfRows();
+    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
@@ -167,15 +170,67 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
+    // The count is done by the database if the rows are not loaded :
+    // the values are only browsed to describe the failure
+    if (origin.getActual().getNumberOfNotNullValues(column.getName()) == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNullValues(myself, info, getValuesList());
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
+    // The count is done by the database if the rows are not loaded :
+    // the values are only browsed to describe the failure
+    if (origin.getActual().getNumberOfNullValues(column.getName()) == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNotNullValues(myself, info, getValuesList());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public C hasSumBetween(Number start, Number end) {
+    BigDecimal sum = origin.getActual().getSumOfValues(column.getName());
+    return AssertionsOnColumnAggregates.hasSumBetween(myself, info, sum, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasAverageBetween(Number start, Number end) {
+    BigDecimal average = origin.getActual().getAverageOfValues(column.getName());
+    return AssertionsOnColumnAggregates.hasAverageBetween(myself, info, average, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasMinimumBetween(Number start, Number end) {
+    BigDecimal minimum = origin.getActual().getMinimumOfValues(column.getName());
+    return AssertionsOnColumnAggregates.hasMinimumBetween(myself, info, minimum, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasMaximumBetween(Number start, Number end) {
+    BigDecimal maximum = origin.getActual().getMaximumOfValues(column.getName());
+    return AssertionsOnColumnAggregates.hasMaximumBetween(myself, info, maximum, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasNumberOfDistinctValuesBetween(int start, int end) {
+    int number = origin.getActual().getNumberOfDistinctValues(column.getName());
+    return AssertionsOnColumnAggregates.hasNumberOfDistinctValuesBetween(myself, info, number, start, end);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C hasNumberOfNullValuesBetween(int start, int end) {
+    int number = origin.getActual().getNumberOfNullValues(column.getName());
+    return AssertionsOnColumnAggregates.hasNumberOfNullValuesBetween(myself, info, number, start, end);
+  }
+
   /** {@inheritDoc} */
   @Override
   public C hasValues(Object... expected) {
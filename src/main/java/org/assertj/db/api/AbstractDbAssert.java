@@ -14,13 +14,16 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnNumberOfColumns;
 import org.assertj.db.api.assertions.AssertOnNumberOfRows;
+import org.assertj.db.api.assertions.AssertOnRowsContent;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfRows;
+import org.assertj.db.api.assertions.impl.AssertionsOnRowsContent;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRows;
 import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
+import org.assertj.db.type.Dataset;
 import org.assertj.db.type.Row;
 
 import java.util.List;
@@ -44,7 +47,8 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
         extends AbstractAssert<A>
         implements OriginWithColumnsAndRows<C, R>,
                    AssertOnNumberOfColumns<A>,
-                   AssertOnNumberOfRows<A> {
+                   AssertOnNumberOfRows<A>,
+                   AssertOnRowsContent<A> {
 
   /**
    * The actual value on which the assertion is.
@@ -85,6 +89,15 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     };
   }
 
+  /**
+   * Returns the actual value on which the assertion is.
+   *
+   * @return The actual value.
+   */
+  D getActual() {
+    return actual;
+  }
+
   /** {@inheritDoc} */
   @Override
   public R row() {
@@ -118,8 +131,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
@@ -130,4 +142,26 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     int size = columnsNameList.size();
     return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public A hasRows(Object[]... expected) {
+    List<Row> rowsList = actual.getRowsList();
+    int size = actual.getColumnsNameList().size();
+    return AssertionsOnRowsContent.hasRows(myself, info, rowsList, size, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A containsRows(Object[]... expected) {
+    List<Row> rowsList = actual.getRowsList();
+    int size = actual.getColumnsNameList().size();
+    return AssertionsOnRowsContent.containsRows(myself, info, rowsList, size, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A hasRows(Dataset dataset) {
+    return AssertionsOnRowsContent.hasRows(myself, info, actual, dataset);
+  }
 }
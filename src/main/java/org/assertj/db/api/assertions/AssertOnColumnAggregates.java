@@ -0,0 +1,148 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+/**
+ * Defines the assertion methods on the aggregates of the values of a column (sum, average, minimum, maximum, number of
+ * distinct values and number of {@code null} values).
+ * <p>
+ * The aggregates are computed by the database with a SQL aggregate request if the rows are not loaded, so these
+ * assertions do not load the rows.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public interface AssertOnColumnAggregates<T extends AssertOnColumnAggregates<T>> {
+
+  /**
+   * Verifies that the sum of the values of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the sum of the values in the {@code Column} "amount" of the
+   * {@code Table} is between 0 and 1000 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;amount&quot;).hasSumBetween(0, 1000);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the sum is not between the bounds (or if there is no value which is not
+   *                        {@code null}).
+   * @see org.assertj.db.api.AbstractColumnAssert#hasSumBetween(Number, Number)
+   */
+  T hasSumBetween(Number start, Number end);
+
+  /**
+   * Verifies that the average of the values of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the average of the values in the {@code Column} "price" of the
+   * {@code Table} is between 10 and 20.5 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;price&quot;).hasAverageBetween(10, 20.5);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is not between the bounds (or if there is no value which is not
+   *                        {@code null}).
+   * @see org.assertj.db.api.AbstractColumnAssert#hasAverageBetween(Number, Number)
+   */
+  T hasAverageBetween(Number start, Number end);
+
+  /**
+   * Verifies that the minimum of the values of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the minimum of the values in the {@code Column} "quantity" of the
+   * {@code Table} is between 1 and 10 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;quantity&quot;).hasMinimumBetween(1, 10);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the minimum is not between the bounds (or if there is no value which is not
+   *                        {@code null}).
+   * @see org.assertj.db.api.AbstractColumnAssert#hasMinimumBetween(Number, Number)
+   */
+  T hasMinimumBetween(Number start, Number end);
+
+  /**
+   * Verifies that the maximum of the values of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the maximum of the values in the {@code Column} "quantity" of the
+   * {@code Table} is between 1 and 100 :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;quantity&quot;).hasMaximumBetween(1, 100);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the maximum is not between the bounds (or if there is no value which is not
+   *                        {@code null}).
+   * @see org.assertj.db.api.AbstractColumnAssert#hasMaximumBetween(Number, Number)
+   */
+  T hasMaximumBetween(Number start, Number end);
+
+  /**
+   * Verifies that the number of distinct values (not {@code null}) of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the {@code Column} "country" of the {@code Table} has between 1 and 5
+   * distinct values :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;country&quot;).hasNumberOfDistinctValuesBetween(1, 5);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of distinct values is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasNumberOfDistinctValuesBetween(int, int)
+   */
+  T hasNumberOfDistinctValuesBetween(int start, int end);
+
+  /**
+   * Verifies that the number of {@code null} values of the column is between the bounds (inclusive).
+   * <p>
+   * Example where the assertion verifies that the {@code Column} "email" of the {@code Table} has at most 10
+   * {@code null} values :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).column(&quot;email&quot;).hasNumberOfNullValuesBetween(0, 10);
+   * </code></pre>
+   *
+   * @param start The start of the bounds.
+   * @param end   The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of {@code null} values is not between the bounds.
+   * @see org.assertj.db.api.AbstractColumnAssert#hasNumberOfNullValuesBetween(int, int)
+   */
+  T hasNumberOfNullValuesBetween(int start, int end);
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.db.type.Dataset;
+
+/**
+ * Defines the assertion methods on the content of all the rows.
+ * <p>
+ * These assertions compare all the rows in one pass and the failure lists all the differences, instead of navigating
+ * on each row with {@code row(index).hasValues(...)}.
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public interface AssertOnRowsContent<T extends AssertOnRowsContent<T>> {
+
+  /**
+   * Verifies that the rows are equal to the expected rows (in the same order).
+   * <p>
+   * Example where the assertion verifies that the {@code Table} has two rows with the values in parameter :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).hasRows(new Object[] { 1, &quot;Text&quot;, TimeValue.of(9, 1) },
+   *                           new Object[] { 2, &quot;Other text&quot;, TimeValue.of(10, 1) });
+   * </code></pre>
+   *
+   * @param expected The expected values of the rows.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not equal to the expected rows.
+   * @see org.assertj.db.api.AbstractDbAssert#hasRows(Object[]...)
+   */
+  T hasRows(Object[]... expected);
+
+  /**
+   * Verifies that the rows are the expected rows (in any order).
+   * <p>
+   * Example where the assertion verifies that the {@code Request} has two rows with the values in parameter :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(request).containsRows(new Object[] { 2, &quot;Other text&quot; },
+   *                                  new Object[] { 1, &quot;Text&quot; });
+   * </code></pre>
+   *
+   * @param expected The expected values of the rows.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not the expected rows.
+   * @see org.assertj.db.api.AbstractDbAssert#containsRows(Object[]...)
+   */
+  T containsRows(Object[]... expected);
+
+  /**
+   * Verifies that the rows are equal to the rows of a dataset file (CSV or TSV).
+   * <p>
+   * The rows are read in the database and in the file at the same time and are not kept in memory, so the number of
+   * rows compared is not bounded by the memory. If there are primary keys, the rows are matched on the values of the
+   * primary keys (the file must be sorted on the primary keys), otherwise the rows are compared in the order of the
+   * request.
+   * </p>
+   * <p>
+   * The texts of the primary keys are compared in the order of {@link String#compareTo(String)} : the file and the
+   * collation of the database must sort them in this order (for example with a binary collation), otherwise an
+   * {@link org.assertj.db.exception.AssertJDBException} is thrown.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the {@code Table} has the rows of a CSV file with a header :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).hasRows(new Dataset(new File(&quot;movie.csv&quot;)));
+   * </code></pre>
+   *
+   * @param dataset The dataset.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not equal to the rows of the dataset.
+   * @see org.assertj.db.api.AbstractDbAssert#hasRows(Dataset)
+   */
+  T hasRows(Dataset dataset);
+}
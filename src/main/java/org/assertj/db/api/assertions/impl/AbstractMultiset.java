@@ -0,0 +1,219 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multiset of elements (values or rows) grouped by key, used to find and remove the elements equal to expected
+ * elements.
+ * <p>
+ * An expected element is only compared to the elements with the same key (and to the elements without key) instead
+ * of all the elements. When the expected element has no key, it is compared to all the remaining elements. The
+ * element removed is always the first remaining element (in the order of addition) which is equal to the expected
+ * element, like when comparing with all the elements.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @param <T> The class of the expected elements.
+ * @since 1.1.0
+ */
+abstract class AbstractMultiset<T> {
+
+  /**
+   * Map of the indexes of the elements by key.
+   */
+  private final Map<Object, Indexes> indexesMap = new HashMap<>();
+  /**
+   * Indexes of the elements without key.
+   */
+  private final Indexes indexesWithoutKey = new Indexes();
+  /**
+   * Indexes of the elements already removed.
+   */
+  private final BitSet removedIndexesSet = new BitSet();
+  /**
+   * Number of elements added.
+   */
+  private int size;
+
+  /**
+   * Returns if the element at the index is equal to the expected element.
+   *
+   * @param index    The index of the element.
+   * @param expected The expected element.
+   * @return {@code true} if the element is equal to the expected element, {@code false} otherwise.
+   */
+  protected abstract boolean isEqual(int index, T expected);
+
+  /**
+   * Adds the next element (its index is the number of elements added before).
+   *
+   * @param key The key of the element ({@code null} if the element is compared to all the expected elements).
+   */
+  void add(Object key) {
+    if (key == null) {
+      indexesWithoutKey.add(size);
+    } else {
+      Indexes indexes = indexesMap.get(key);
+      if (indexes == null) {
+        indexes = new Indexes();
+        indexesMap.put(key, indexes);
+      }
+      indexes.add(size);
+    }
+    size++;
+  }
+
+  /**
+   * Removes the first remaining element which is equal to the expected element.
+   *
+   * @param key      The key of the expected element ({@code null} to compare to all the remaining elements).
+   * @param expected The expected element.
+   * @return The index of the element removed ({@code -1} if not found).
+   */
+  int remove(Object key, T expected) {
+    int index;
+    if (key == null) {
+      index = findInAll(expected);
+    } else {
+      Indexes indexes = indexesMap.get(key);
+      index = indexes == null ? findIn(indexesWithoutKey, expected) : findIn(indexes, indexesWithoutKey, expected);
+    }
+    if (index != -1) {
+      removedIndexesSet.set(index);
+    }
+    return index;
+  }
+
+  /**
+   * Returns the index of the next remaining element.
+   *
+   * @param fromIndex The index to start from.
+   * @return The index ({@code -1} if there is no more remaining element).
+   */
+  int nextRemainingIndex(int fromIndex) {
+    int index = removedIndexesSet.nextClearBit(fromIndex);
+    return index < size ? index : -1;
+  }
+
+  /**
+   * Returns the index of the first remaining element which is equal to the expected element.
+   *
+   * @param expected The expected element.
+   * @return The index ({@code -1} if not found).
+   */
+  private int findInAll(T expected) {
+    for (int index = nextRemainingIndex(0); index != -1; index = nextRemainingIndex(index + 1)) {
+      if (isEqual(index, expected)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first remaining element in the indexes which is equal to the expected element.
+   *
+   * @param indexes  The indexes of the elements.
+   * @param expected The expected element.
+   * @return The index ({@code -1} if not found).
+   */
+  private int findIn(Indexes indexes, T expected) {
+    indexes.skipRemoved(removedIndexesSet);
+    for (int i = indexes.head; i < indexes.size; i++) {
+      int index = indexes.array[i];
+      if (!removedIndexesSet.get(index) && isEqual(index, expected)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first remaining element in the two indexes (merged in the order of the elements) which is
+   * equal to the expected element.
+   *
+   * @param indexes1 The first indexes of the elements.
+   * @param indexes2 The second indexes of the elements.
+   * @param expected The expected element.
+   * @return The index ({@code -1} if not found).
+   */
+  private int findIn(Indexes indexes1, Indexes indexes2, T expected) {
+    if (indexes2.size == 0) {
+      return findIn(indexes1, expected);
+    }
+    indexes1.skipRemoved(removedIndexesSet);
+    indexes2.skipRemoved(removedIndexesSet);
+    int i1 = indexes1.head;
+    int i2 = indexes2.head;
+    while (i1 < indexes1.size || i2 < indexes2.size) {
+      int index;
+      if (i2 >= indexes2.size || (i1 < indexes1.size && indexes1.array[i1] < indexes2.array[i2])) {
+        index = indexes1.array[i1++];
+      } else {
+        index = indexes2.array[i2++];
+      }
+      if (!removedIndexesSet.get(index) && isEqual(index, expected)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Indexes of elements in ascending order.
+   */
+  private static final class Indexes {
+
+    /**
+     * The indexes.
+     */
+    private int[] array = new int[4];
+    /**
+     * The number of indexes.
+     */
+    private int size;
+    /**
+     * The position of the first index which is perhaps not removed.
+     */
+    private int head;
+
+    /**
+     * Adds an index.
+     *
+     * @param index The index.
+     */
+    private void add(int index) {
+      if (size == array.length) {
+        int[] newArray = new int[size * 2];
+        System.arraycopy(array, 0, newArray, 0, size);
+        array = newArray;
+      }
+      array[size++] = index;
+    }
+
+    /**
+     * Skips the removed indexes at the start.
+     *
+     * @param removedIndexesSet The indexes already removed.
+     */
+    private void skipRemoved(BitSet removedIndexesSet) {
+      while (head < size && removedIndexesSet.get(array[head])) {
+        head++;
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.exception.AssertJDBException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.db.error.ShouldBeBetween.shouldBeBetween;
+
+/**
+ * Implements the assertion methods on the aggregates of the values of a column.
+ * <p>
+ * The aggregates are computed before (by the database or from the rows) and these methods only compare them to the
+ * bounds.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnColumnAggregates
+ * @since 1.1.0
+ */
+public class AssertionsOnColumnAggregates {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private final static Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnColumnAggregates() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the sum of the values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param sum       The sum of the values ({@code null} if there is no value which is not {@code null}).
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the sum is not between the bounds.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If one of the bounds is not a finite number (NaN or infinity).
+   */
+  public static <A extends AbstractAssert> A hasSumBetween(A assertion, WritableAssertionInfo info, BigDecimal sum,
+                                                           Number start, Number end) {
+    return isBetween(assertion, info, "the sum of the values", sum, start, end);
+  }
+
+  /**
+   * Verifies that the average of the values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param average   The average of the values ({@code null} if there is no value which is not {@code null}).
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the average is not between the bounds.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If one of the bounds is not a finite number (NaN or infinity).
+   */
+  public static <A extends AbstractAssert> A hasAverageBetween(A assertion, WritableAssertionInfo info,
+                                                               BigDecimal average, Number start, Number end) {
+    return isBetween(assertion, info, "the average of the values", average, start, end);
+  }
+
+  /**
+   * Verifies that the minimum of the values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param minimum   The minimum of the values ({@code null} if there is no value which is not {@code null}).
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the minimum is not between the bounds.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If one of the bounds is not a finite number (NaN or infinity).
+   */
+  public static <A extends AbstractAssert> A hasMinimumBetween(A assertion, WritableAssertionInfo info,
+                                                               BigDecimal minimum, Number start, Number end) {
+    return isBetween(assertion, info, "the minimum of the values", minimum, start, end);
+  }
+
+  /**
+   * Verifies that the maximum of the values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param maximum   The maximum of the values ({@code null} if there is no value which is not {@code null}).
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the maximum is not between the bounds.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If one of the bounds is not a finite number (NaN or infinity).
+   */
+  public static <A extends AbstractAssert> A hasMaximumBetween(A assertion, WritableAssertionInfo info,
+                                                               BigDecimal maximum, Number start, Number end) {
+    return isBetween(assertion, info, "the maximum of the values", maximum, start, end);
+  }
+
+  /**
+   * Verifies that the number of distinct values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param number    The number of distinct values.
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of distinct values is not between the bounds.
+   */
+  public static <A extends AbstractAssert> A hasNumberOfDistinctValuesBetween(A assertion, WritableAssertionInfo info,
+                                                                              int number, int start, int end) {
+    if (number < start || number > end) {
+      throw failures.failure(info, shouldBeBetween("the number of distinct values", number, start, end));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the number of {@code null} values of the column is between the bounds (inclusive).
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param number    The number of {@code null} values.
+   * @param start     The start of the bounds.
+   * @param end       The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the number of {@code null} values is not between the bounds.
+   */
+  public static <A extends AbstractAssert> A hasNumberOfNullValuesBetween(A assertion, WritableAssertionInfo info,
+                                                                          int number, int start, int end) {
+    if (number < start || number > end) {
+      throw failures.failure(info, shouldBeBetween("the number of null values", number, start, end));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that an aggregate is between the bounds (inclusive).
+   *
+   * @param <A>         The type of the assertion which call this method.
+   * @param assertion   The assertion which call this method.
+   * @param info        Writable information about an assertion.
+   * @param description The description of the aggregate.
+   * @param aggregate   The aggregate ({@code null} if there is no value which is not {@code null}).
+   * @param start       The start of the bounds.
+   * @param end         The end of the bounds.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the aggregate is not between the bounds.
+   * @throws NullPointerException If one of the bounds is {@code null}.
+   * @throws AssertJDBException If one of the bounds is not a finite number (NaN or infinity).
+   */
+  private static <A extends AbstractAssert> A isBetween(A assertion, WritableAssertionInfo info, String description,
+                                                        BigDecimal aggregate, Number start, Number end) {
+    if (start == null) {
+      throw new NullPointerException("start must be not null");
+    }
+    if (end == null) {
+      throw new NullPointerException("end must be not null");
+    }
+    checkIsFinite("start", start);
+    checkIsFinite("end", end);
+    BigDecimal startValue = toBigDecimal(start);
+    BigDecimal endValue = toBigDecimal(end);
+    if (aggregate == null || aggregate.compareTo(startValue) < 0 || aggregate.compareTo(endValue) > 0) {
+      throw failures.failure(info, shouldBeBetween(description, aggregate, startValue, endValue));
+    }
+    return assertion;
+  }
+
+  /**
+   * Checks that a bound is a finite number.
+   *
+   * @param name   The name of the bound.
+   * @param number The bound.
+   * @throws AssertJDBException If the bound is a {@code Float} or a {@code Double} which is NaN or infinite.
+   */
+  private static void checkIsFinite(String name, Number number) {
+    if ((number instanceof Double && (((Double) number).isNaN() || ((Double) number).isInfinite()))
+        || (number instanceof Float && (((Float) number).isNaN() || ((Float) number).isInfinite()))) {
+      throw new AssertJDBException("%s must be a finite number (but was <%s>)", name, number);
+    }
+  }
+
+  /**
+   * Returns a bound as a {@code BigDecimal}.
+   *
+   * @param number The bound.
+   * @return The bound as a {@code BigDecimal}.
+   */
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+      return BigDecimal.valueOf(number.longValue());
+    }
+    return new BigDecimal(number.toString());
+  }
+}
@@ -58,28 +58,22 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, Object... expected) {
+    ValuesMultiset<Object> multiset = new ValuesMultiset<Object>(valuesList) {
+      @Override
+      protected boolean areEqual(Value value, Object expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Object val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Object.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -98,29 +92,26 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, Boolean... expected) {
-    AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
+    ValuesMultiset<Boolean> multiset = new ValuesMultiset<Boolean>(valuesList, ValueType.BOOLEAN,
+                                                                   ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, Boolean expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Boolean val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Boolean.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -139,29 +130,26 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, Number... expected) {
-    AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
+    ValuesMultiset<Number> multiset = new ValuesMultiset<Number>(valuesList, ValueType.NUMBER,
+                                                                 ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, Number expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Number val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Number.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -180,29 +168,26 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, byte[]... expected) {
-    AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
+    ValuesMultiset<byte[]> multiset = new ValuesMultiset<byte[]>(valuesList, ValueType.BYTES,
+                                                                 ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, byte[] expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (byte[] val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, byte[].class));
         }
         throw failures.failure(info, shouldContainsValue(index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -221,30 +206,29 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, String... expected) {
-    AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
-                                         ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
+    ValuesMultiset<String> multiset = new ValuesMultiset<String>(valuesList, ValueType.TEXT, ValueType.NUMBER,
+                                                                 ValueType.DATE, ValueType.TIME, ValueType.DATE_TIME,
+                                                                 ValueType.UUID, ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, String expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER,
+                                           ValueType.DATE, ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID,
+                                           ValueType.NOT_IDENTIFIED);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (String val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, String.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -263,29 +247,25 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, UUID... expected) {
-    AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
+    ValuesMultiset<UUID> multiset = new ValuesMultiset<UUID>(valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, UUID expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (UUID val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, UUID.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -304,30 +284,28 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, DateValue... expected) {
-    AssertionsOnColumnType
-            .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
+    ValuesMultiset<DateValue> multiset = new ValuesMultiset<DateValue>(valuesList, ValueType.DATE,
+                                                                       ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, DateValue expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType
+              .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
+                             ValueType.NOT_IDENTIFIED);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (DateValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -346,29 +324,26 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, TimeValue... expected) {
-    AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
+    ValuesMultiset<TimeValue> multiset = new ValuesMultiset<TimeValue>(valuesList, ValueType.TIME,
+                                                                       ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, TimeValue expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (TimeValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, TimeValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -387,30 +362,28 @@ public class AssertionsOnColumnContent {
    */
   public static <A extends AbstractAssert> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, DateTimeValue... expected) {
-    AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
-                                         ValueType.NOT_IDENTIFIED);
+    ValuesMultiset<DateTimeValue> multiset = new ValuesMultiset<DateTimeValue>(valuesList, ValueType.DATE,
+                                                                               ValueType.DATE_TIME,
+                                                                               ValueType.NOT_IDENTIFIED) {
+      @Override
+      protected boolean areEqual(Value value, DateTimeValue expected) {
+        return Values.areEqual(value, expected);
+      }
+    };
+    if (!multiset.areOfAnyTypeIn()) {
+      AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
+                                           ValueType.NOT_IDENTIFIED);
+    }
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (DateTimeValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateTimeValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
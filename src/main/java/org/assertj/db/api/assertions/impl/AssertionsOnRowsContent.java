@@ -0,0 +1,261 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Dataset;
+import org.assertj.db.type.DatasetReader;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.db.error.ShouldContainsRows.shouldContainsRows;
+import static org.assertj.db.error.ShouldHaveRows.MAXIMUM_NUMBER_OF_ROWS;
+import static org.assertj.db.error.ShouldHaveRows.shouldHaveRows;
+import static org.assertj.db.error.ShouldHaveRowsOfDataset.shouldHaveRowsOfDataset;
+
+/**
+ * Implements the assertion methods on the content of all the rows.
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnRowsContent
+ * @since 1.1.0
+ */
+public class AssertionsOnRowsContent {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private final static Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnRowsContent() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the rows are equal to the expected rows (in the same order).
+   * <p>
+   * The rows are compared one by one with the expected row at the same index, and all the different rows are reported
+   * in the same failure.
+   * </p>
+   *
+   * @param <A>             The type of the assertion which call this method.
+   * @param assertion       The assertion which call this method.
+   * @param info            Writable information about an assertion.
+   * @param rowsList        The list of rows.
+   * @param numberOfColumns The number of columns.
+   * @param expected        The expected values of the rows.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not equal to the expected rows.
+   */
+  public static <A extends AbstractAssert> A hasRows(A assertion, WritableAssertionInfo info, List<Row> rowsList,
+                                                     int numberOfColumns, Object[]... expected) {
+    AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, rowsList.size(), expected.length);
+    for (Object[] values : expected) {
+      AssertionsOnNumberOfColumns.hasNumberOfColumns(assertion, info, numberOfColumns, values.length);
+    }
+
+    int numberOfDifferentRows = 0;
+    List<Integer> indexesList = new ArrayList<>();
+    List<Object[]> actualList = new ArrayList<>();
+    List<Object[]> expectedList = new ArrayList<>();
+    int index = 0;
+    for (Row row : rowsList) {
+      List<Value> valuesList = row.getValuesList();
+      Object[] values = expected[index];
+      if (!areEqual(valuesList, values)) {
+        if (numberOfDifferentRows < MAXIMUM_NUMBER_OF_ROWS) {
+          indexesList.add(index);
+          actualList.add(getRepresentations(valuesList, values));
+          expectedList.add(values);
+        }
+        numberOfDifferentRows++;
+      }
+      index++;
+    }
+    if (numberOfDifferentRows > 0) {
+      throw failures.failure(info, shouldHaveRows(numberOfDifferentRows, indexesList, actualList, expectedList));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the rows are the expected rows (in any order).
+   * <p>
+   * The rows are grouped by the keys of their values, so each expected row is only compared to the rows which can be
+   * equal to it. All the expected rows which are not found and all the rows which are not expected are reported in the
+   * same failure.
+   * </p>
+   *
+   * @param <A>             The type of the assertion which call this method.
+   * @param assertion       The assertion which call this method.
+   * @param info            Writable information about an assertion.
+   * @param rowsList        The list of rows.
+   * @param numberOfColumns The number of columns.
+   * @param expected        The expected values of the rows.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not the expected rows.
+   */
+  public static <A extends AbstractAssert> A containsRows(A assertion, WritableAssertionInfo info, List<Row> rowsList,
+                                                          int numberOfColumns, Object[]... expected) {
+    AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, rowsList.size(), expected.length);
+    for (Object[] values : expected) {
+      AssertionsOnNumberOfColumns.hasNumberOfColumns(assertion, info, numberOfColumns, values.length);
+    }
+
+    RowsMultiset multiset = new RowsMultiset(rowsList, numberOfColumns);
+    int numberOfNotFound = 0;
+    List<Integer> notFoundIndexesList = new ArrayList<>();
+    List<Object[]> notFoundList = new ArrayList<>();
+    int index = 0;
+    for (Object[] values : expected) {
+      if (!multiset.remove(values)) {
+        if (numberOfNotFound < MAXIMUM_NUMBER_OF_ROWS) {
+          notFoundIndexesList.add(index);
+          notFoundList.add(values);
+        }
+        numberOfNotFound++;
+      }
+      index++;
+    }
+    if (numberOfNotFound > 0) {
+      // The number of rows is equal to the number of expected rows, so there are as many rows not expected
+      List<Integer> notExpectedIndexesList = new ArrayList<>();
+      List<Object[]> notExpectedList = new ArrayList<>();
+      // The values are represented in front of the first expected row (the columns have the same types in all rows)
+      Object[] representationValues = expected[0];
+      for (int i = multiset.nextRemainingIndex(0); i != -1 && notExpectedIndexesList.size() < MAXIMUM_NUMBER_OF_ROWS;
+           i = multiset.nextRemainingIndex(i + 1)) {
+        notExpectedIndexesList.add(i);
+        notExpectedList.add(getRepresentations(multiset.getValuesList(i), representationValues));
+      }
+      throw failures.failure(info, shouldContainsRows(numberOfNotFound, notFoundIndexesList, notFoundList,
+                                                      numberOfNotFound, notExpectedIndexesList, notExpectedList));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that the rows are equal to the rows of the dataset.
+   * <p>
+   * The rows of the data are browsed in the database (see {@link AbstractDbData#browseRows})
+   * while the rows of the dataset are read, so neither are kept in memory. If the data have primary keys, the rows
+   * are matched on the values of the primary keys (the dataset must be sorted on the primary keys like the database
+   * sorts them, and the database must sort the texts like {@link String#compareTo(String)}, see
+   * {@link DatasetComparator}), otherwise the rows are compared in order. The values of the dataset are compared to the
+   * values of the rows like expected {@code String}s.
+   * </p>
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data.
+   * @param dataset   The dataset.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are not equal to the rows of the dataset.
+   * @throws AssertJDBException If a column does not exist in the header of the dataset, if the dataset can not be
+   *                            read or if the database does not sort the primary keys in the order of the comparison.
+   */
+  public static <A extends AbstractAssert> A hasRows(A assertion, WritableAssertionInfo info, AbstractDbData<?> data,
+                                                     Dataset dataset) {
+    List<String> columnsNameList = data.getColumnsNameList();
+    int numberOfColumns = columnsNameList.size();
+    try (DatasetReader reader = dataset.openReader()) {
+      String[] columnsNames = reader.getColumnsNames();
+      int[] indexes = new int[numberOfColumns];
+      int numberOfValues = numberOfColumns;
+      if (columnsNames == null) {
+        for (int index = 0; index < numberOfColumns; index++) {
+          indexes[index] = index;
+        }
+      } else {
+        AssertionsOnNumberOfColumns.hasNumberOfColumns(assertion, info, numberOfColumns, columnsNames.length);
+        numberOfValues = columnsNames.length;
+        for (int index = 0; index < numberOfColumns; index++) {
+          indexes[index] = getIndexOfColumn(columnsNames, columnsNameList.get(index));
+        }
+      }
+
+      DatasetComparator comparator = new DatasetComparator(reader, indexes, numberOfValues);
+      data.browseRows(comparator);
+      comparator.finish();
+      if (comparator.getNumberOfDifferences() > 0) {
+        throw failures.failure(info, shouldHaveRowsOfDataset(comparator.getNumberOfDifferentRows(),
+                                                             comparator.getNumberOfRowsNotInDataset(),
+                                                             comparator.getNumberOfRowsNotFound(),
+                                                             comparator.getIndexesList(),
+                                                             comparator.getLineNumbersList(),
+                                                             comparator.getActualList(),
+                                                             comparator.getExpectedList()));
+      }
+    }
+    return assertion;
+  }
+
+  /**
+   * Returns the index of the column in the header of the dataset.
+   *
+   * @param columnsNames The columns name of the header.
+   * @param columnName   The name of the column.
+   * @return The index of the column.
+   * @throws AssertJDBException If the column does not exist in the header.
+   */
+  private static int getIndexOfColumn(String[] columnsNames, String columnName) {
+    for (int index = 0; index < columnsNames.length; index++) {
+      if (columnName.equalsIgnoreCase(columnsNames[index])) {
+        return index;
+      }
+    }
+    throw new AssertJDBException("Column <%s> does not exist in the header of the dataset", columnName);
+  }
+
+  /**
+   * Returns if the values of a row are equal to the expected values.
+   *
+   * @param valuesList The values of the row.
+   * @param expected   The expected values.
+   * @return {@code true} if the values are equal, {@code false} otherwise.
+   */
+  private static boolean areEqual(List<Value> valuesList, Object[] expected) {
+    int index = 0;
+    for (Value value : valuesList) {
+      if (!Values.areEqual(value, expected[index])) {
+        return false;
+      }
+      index++;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the representation of the values of a row in front of the expected values (for the error message).
+   *
+   * @param valuesList The values of the row.
+   * @param expected   The expected values.
+   * @return The representation of the values.
+   */
+  private static Object[] getRepresentations(List<Value> valuesList, Object[] expected) {
+    return Values.getRepresentationsFromValuesInFrontOfExpected(valuesList.toArray(new Value[valuesList.size()]),
+                                                                expected);
+  }
+}
@@ -0,0 +1,520 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DatasetReader;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.RowVisitor;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.db.error.ShouldHaveRowsOfDataset.MAXIMUM_NUMBER_OF_DIFFERENCES;
+
+/**
+ * Comparator of the rows of a data with the rows of a dataset, used as a visitor of the rows read in the database.
+ * <p>
+ * The rows of the dataset are read one by one during the browsing of the rows of the data, so neither the rows of
+ * the data nor the rows of the dataset are kept in memory (except the {@value
+ * org.assertj.db.error.ShouldHaveRowsOfDataset#MAXIMUM_NUMBER_OF_DIFFERENCES} first differences).
+ * </p>
+ * <p>
+ * If the data have primary keys, the rows are matched on the values of the primary keys : the rows of the data and of
+ * the dataset are both sorted on the primary keys and merged. Otherwise the rows are compared in order.
+ * </p>
+ * <p>
+ * The merge compares the texts with {@link String#compareTo(String)} (and the other values with their natural
+ * order), while the database sorts the texts with its collation : the dataset must be sorted like the database and
+ * the merge is only possible if the database sorts the primary keys in the same order than the comparison (for example
+ * with a binary collation). Otherwise an {@link AssertJDBException} is thrown when two rows of the data are not in
+ * the order of the comparison. An {@link AssertJDBException} is also thrown when two rows of the dataset are not in
+ * this order (the values of the primary keys of the dataset are compared with the types of the values of the data).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class DatasetComparator implements RowVisitor {
+
+  /**
+   * The reader of the dataset.
+   */
+  private final DatasetReader reader;
+  /**
+   * The index of the value in the records of the dataset for each column.
+   */
+  private final int[] indexes;
+  /**
+   * The number of values in the records of the dataset.
+   */
+  private final int numberOfValues;
+  /**
+   * The indexes of the columns of the primary keys ({@code null} before the first row).
+   */
+  private int[] pksIndexes;
+  /**
+   * The values of the primary keys of the previous row ({@code null} before the first row).
+   */
+  private Value[] previousPksValues;
+  /**
+   * The values of the current row of the dataset in the order of the columns ({@code null} at the end of the dataset).
+   */
+  private String[] expected;
+  /**
+   * The number of the line of the current row of the dataset.
+   */
+  private int expectedLineNumber;
+  /**
+   * The index of the current row of the data.
+   */
+  private int index;
+  /**
+   * The number of different rows.
+   */
+  private int numberOfDifferentRows;
+  /**
+   * The number of rows which are not in the dataset.
+   */
+  private int numberOfRowsNotInDataset;
+  /**
+   * The number of rows of the dataset which are not found.
+   */
+  private int numberOfRowsNotFound;
+  /**
+   * The indexes of the rows of the detailed differences.
+   */
+  private final List<Integer> indexesList = new ArrayList<>();
+  /**
+   * The line numbers in the dataset of the detailed differences.
+   */
+  private final List<Integer> lineNumbersList = new ArrayList<>();
+  /**
+   * The actual values of the detailed differences.
+   */
+  private final List<Object[]> actualList = new ArrayList<>();
+  /**
+   * The expected values of the detailed differences.
+   */
+  private final List<Object[]> expectedList = new ArrayList<>();
+
+  /**
+   * Constructor.
+   *
+   * @param reader         The reader of the dataset.
+   * @param indexes        The index of the value in the records of the dataset for each column.
+   * @param numberOfValues The number of values in the records of the dataset.
+   * @throws AssertJDBException If the first row of the dataset can not be read.
+   */
+  DatasetComparator(DatasetReader reader, int[] indexes, int numberOfValues) {
+    this.reader = reader;
+    this.indexes = indexes;
+    this.numberOfValues = numberOfValues;
+    readExpected();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void visit(Row row) {
+    List<Value> valuesList = row.getValuesList();
+    Value[] pksValues = row.getPksValues();
+    if (pksValues.length == 0) {
+      if (expected == null) {
+        addRowNotInDataset(valuesList);
+      } else {
+        compareToExpected(valuesList);
+      }
+    } else {
+      if (pksIndexes == null) {
+        List<String> columnsNameList = row.getColumnsNameList();
+        List<String> pksNameList = row.getPksNameList();
+        pksIndexes = new int[pksNameList.size()];
+        for (int i = 0; i < pksIndexes.length; i++) {
+          pksIndexes[i] = columnsNameList.indexOf(pksNameList.get(i));
+        }
+      }
+      if (previousPksValues != null && compare(previousPksValues, pksValues) > 0) {
+        throw new AssertJDBException("The primary keys %s are sorted by the database before %s, which is not the order "
+                                     + "of the comparison with the dataset (the collation of the database may be "
+                                     + "different)", getObjects(previousPksValues), getObjects(pksValues));
+      }
+      previousPksValues = pksValues;
+      // The rows of the dataset before the row are not in the data
+      int comparison = expected == null ? -1 : compareToExpectedPks(pksValues);
+      while (comparison > 0) {
+        addRowNotFound();
+        readExpected();
+        comparison = expected == null ? -1 : compareToExpectedPks(pksValues);
+      }
+      if (comparison == 0) {
+        compareToExpected(valuesList);
+      } else {
+        addRowNotInDataset(valuesList);
+      }
+    }
+    index++;
+  }
+
+  /**
+   * Finishes the comparison after the browsing of the rows : the remaining rows of the dataset are not found.
+   */
+  void finish() {
+    while (expected != null) {
+      addRowNotFound();
+      readExpected();
+    }
+  }
+
+  /**
+   * Returns the number of differences.
+   *
+   * @return The number of differences.
+   */
+  int getNumberOfDifferences() {
+    return numberOfDifferentRows + numberOfRowsNotInDataset + numberOfRowsNotFound;
+  }
+
+  /**
+   * Returns the number of different rows.
+   *
+   * @return The number of different rows.
+   */
+  int getNumberOfDifferentRows() {
+    return numberOfDifferentRows;
+  }
+
+  /**
+   * Returns the number of rows which are not in the dataset.
+   *
+   * @return The number of rows which are not in the dataset.
+   */
+  int getNumberOfRowsNotInDataset() {
+    return numberOfRowsNotInDataset;
+  }
+
+  /**
+   * Returns the number of rows of the dataset which are not found.
+   *
+   * @return The number of rows of the dataset which are not found.
+   */
+  int getNumberOfRowsNotFound() {
+    return numberOfRowsNotFound;
+  }
+
+  /**
+   * Returns the indexes of the rows of the detailed differences.
+   *
+   * @return The indexes ({@code null} for a row of the dataset which is not found).
+   */
+  List<Integer> getIndexesList() {
+    return indexesList;
+  }
+
+  /**
+   * Returns the line numbers in the dataset of the detailed differences.
+   *
+   * @return The line numbers ({@code null} for a row which is not in the dataset).
+   */
+  List<Integer> getLineNumbersList() {
+    return lineNumbersList;
+  }
+
+  /**
+   * Returns the actual values of the detailed differences.
+   *
+   * @return The actual values.
+   */
+  List<Object[]> getActualList() {
+    return actualList;
+  }
+
+  /**
+   * Returns the expected values of the detailed differences.
+   *
+   * @return The expected values.
+   */
+  List<Object[]> getExpectedList() {
+    return expectedList;
+  }
+
+  /**
+   * Reads the next row of the dataset.
+   * <p>
+   * When the data have primary keys, the row is compared to the previous row of the dataset : the rows of the dataset
+   * must be sorted on the primary keys.
+   * </p>
+   *
+   * @throws AssertJDBException If the row can not be read, if the number of values is not correct or if the row is
+   *                            not sorted after the previous row.
+   */
+  private void readExpected() {
+    String[] record = reader.readRecord();
+    if (record == null) {
+      expected = null;
+      return;
+    }
+    String[] previousExpected = expected;
+    int previousExpectedLineNumber = expectedLineNumber;
+    expectedLineNumber = reader.getLineNumber();
+    if (record.length != numberOfValues) {
+      throw new AssertJDBException("The row at line %s of the dataset has %s values instead of %s",
+                                   expectedLineNumber, record.length, numberOfValues);
+    }
+    expected = new String[indexes.length];
+    for (int i = 0; i < indexes.length; i++) {
+      expected[i] = record[indexes[i]];
+    }
+    if (pksIndexes != null && previousExpected != null && compareExpectedPks(previousExpected, expected) > 0) {
+      throw new AssertJDBException("The row at line %s of the dataset is not sorted on the primary keys after the row "
+                                   + "at line %s", expectedLineNumber, previousExpectedLineNumber);
+    }
+  }
+
+  /**
+   * Compares the values of the row to the current row of the dataset and reads the next row of the dataset.
+   *
+   * @param valuesList The values of the row.
+   */
+  private void compareToExpected(List<Value> valuesList) {
+    int i = 0;
+    for (Value value : valuesList) {
+      if (!areEqual(value, expected[i])) {
+        if (indexesList.size() < MAXIMUM_NUMBER_OF_DIFFERENCES) {
+          indexesList.add(index);
+          lineNumbersList.add(expectedLineNumber);
+          actualList.add(Values.getRepresentationsFromValuesInFrontOfExpected(
+                  valuesList.toArray(new Value[valuesList.size()]), expected));
+          expectedList.add(expected);
+        }
+        numberOfDifferentRows++;
+        break;
+      }
+      i++;
+    }
+    readExpected();
+  }
+
+  /**
+   * Adds a row which is not in the dataset.
+   *
+   * @param valuesList The values of the row.
+   */
+  private void addRowNotInDataset(List<Value> valuesList) {
+    if (indexesList.size() < MAXIMUM_NUMBER_OF_DIFFERENCES) {
+      Object[] representations = new Object[valuesList.size()];
+      int i = 0;
+      for (Value value : valuesList) {
+        representations[i] = Values.getRepresentationFromValueInFrontOfClass(value, String.class);
+        i++;
+      }
+      indexesList.add(index);
+      lineNumbersList.add(null);
+      actualList.add(representations);
+      expectedList.add(null);
+    }
+    numberOfRowsNotInDataset++;
+  }
+
+  /**
+   * Adds the current row of the dataset which is not found.
+   */
+  private void addRowNotFound() {
+    if (indexesList.size() < MAXIMUM_NUMBER_OF_DIFFERENCES) {
+      indexesList.add(null);
+      lineNumbersList.add(expectedLineNumber);
+      actualList.add(null);
+      expectedList.add(expected);
+    }
+    numberOfRowsNotFound++;
+  }
+
+  /**
+   * Compares the values of the primary keys to the values of the primary keys of the current row of the dataset.
+   *
+   * @param pksValues The values of the primary keys.
+   * @return The result of the comparison (like {@link Comparable#compareTo(Object)}).
+   */
+  private int compareToExpectedPks(Value[] pksValues) {
+    for (int i = 0; i < pksValues.length; i++) {
+      int comparison = compare(pksValues[i], expected[pksIndexes[i]]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares the values of the primary keys of two rows of the dataset, in the same order than
+   * {@link #compare(Value, String)} : the values are compared with the types of the values of the primary keys of the
+   * current row of the data.
+   *
+   * @param expected1 The values of the first row of the dataset.
+   * @param expected2 The values of the second row of the dataset.
+   * @return The result of the comparison (like {@link Comparable#compareTo(Object)}).
+   */
+  private int compareExpectedPks(String[] expected1, String[] expected2) {
+    for (int i = 0; i < pksIndexes.length; i++) {
+      Object object = previousPksValues[i].getValue();
+      String value1 = expected1[pksIndexes[i]];
+      String value2 = expected2[pksIndexes[i]];
+      int comparison;
+      if (value1 == null || value2 == null) {
+        comparison = value1 == null ? (value2 == null ? 0 : 1) : -1;
+      } else if (object == null) {
+        // The type of the primary key is unknown
+        comparison = 0;
+      } else {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> comparable1 = (Comparable<Object>) parse(object, value1);
+        comparison = comparable1.compareTo(parse(object, value2));
+      }
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares the values of the primary keys of two rows of the data, in the same order than
+   * {@link #compare(Value, String)}.
+   *
+   * @param pksValues1 The values of the primary keys of the first row.
+   * @param pksValues2 The values of the primary keys of the second row.
+   * @return The result of the comparison (like {@link Comparable#compareTo(Object)}).
+   */
+  private static int compare(Value[] pksValues1, Value[] pksValues2) {
+    for (int i = 0; i < pksValues1.length; i++) {
+      Object object1 = pksValues1[i].getValue();
+      Object object2 = pksValues2[i].getValue();
+      int comparison;
+      if (object1 == null || object2 == null) {
+        comparison = object1 == null ? (object2 == null ? 0 : 1) : -1;
+      } else if (object1 instanceof Number && object2 instanceof Number) {
+        comparison = Values.compare(pksValues1[i], (Number) object2);
+      } else if (object1 instanceof Comparable && object1.getClass() == object2.getClass()) {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> comparable1 = (Comparable<Object>) object1;
+        comparison = comparable1.compareTo(object2);
+      } else {
+        comparison = 0;
+      }
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the objects of the values.
+   *
+   * @param values The values.
+   * @return The list of the objects.
+   */
+  private static List<Object> getObjects(Value[] values) {
+    List<Object> objectsList = new ArrayList<>(values.length);
+    for (Value value : values) {
+      objectsList.add(value.getValue());
+    }
+    return objectsList;
+  }
+
+  /**
+   * Returns if the value is equal to the value of the dataset.
+   *
+   * @param value    The value.
+   * @param expected The value of the dataset.
+   * @return {@code true} if the value is equal to the value of the dataset, {@code false} otherwise.
+   */
+  private static boolean areEqual(Value value, String expected) {
+    Object object = value.getValue();
+    if (object instanceof Boolean && expected != null) {
+      return expected.equalsIgnoreCase(object.toString());
+    }
+    return Values.areEqual(value, expected);
+  }
+
+  /**
+   * Compares the value of a primary key to the value of the dataset.
+   * <p>
+   * The {@code null} values are after the other values.
+   * </p>
+   *
+   * @param value    The value.
+   * @param expected The value of the dataset.
+   * @return The result of the comparison (like {@link Comparable#compareTo(Object)}).
+   * @throws AssertJDBException If the value can not be compared to the value of the dataset.
+   */
+  private static int compare(Value value, String expected) {
+    Object object = value.getValue();
+    if (object == null || expected == null) {
+      return object == null ? (expected == null ? 0 : 1) : -1;
+    }
+    Object expectedObject = parse(object, expected);
+    if (object instanceof Number) {
+      return Values.compare(value, (BigDecimal) expectedObject);
+    } else if (object instanceof String) {
+      return ((String) object).compareTo((String) expectedObject);
+    } else if (object instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) object).compareTo((DateTimeValue) expectedObject);
+    } else if (object instanceof Date) {
+      return DateTimeValue.of(DateValue.from((Date) object)).compareTo((DateTimeValue) expectedObject);
+    } else if (object instanceof Time) {
+      return TimeValue.from((Time) object).compareTo((TimeValue) expectedObject);
+    }
+    return ((UUID) object).compareTo((UUID) expectedObject);
+  }
+
+  /**
+   * Parses the value of the dataset in the comparable form corresponding to the type of the value of a primary key.
+   *
+   * @param object   The value of the primary key.
+   * @param expected The value of the dataset (not {@code null}).
+   * @return The value of the dataset parsed.
+   * @throws AssertJDBException If the value of the primary key can not be compared to the dataset or if the value of
+   *                            the dataset is not correct.
+   */
+  private static Comparable<?> parse(Object object, String expected) {
+    try {
+      if (object instanceof Number) {
+        return new BigDecimal(expected);
+      } else if (object instanceof String) {
+        return expected;
+      } else if (object instanceof Timestamp || object instanceof Date) {
+        return DateTimeValue.parse(expected);
+      } else if (object instanceof Time) {
+        return TimeValue.parse(expected);
+      } else if (object instanceof UUID) {
+        return UUID.fromString(expected);
+      }
+    } catch (ParseException | IllegalArgumentException e) {
+      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, object);
+    }
+    throw new AssertJDBException("The value <%s> of the primary key can not be compared to the dataset", object);
+  }
+}
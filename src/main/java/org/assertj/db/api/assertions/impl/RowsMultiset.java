@@ -0,0 +1,119 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multiset of the rows of a data, used to find and remove the rows equal to the expected rows.
+ * <p>
+ * The key of a row is the list of the keys of its values (see {@link ValueKeys}, with one instance by column), so an
+ * expected row is only compared to the rows which can be equal to it instead of all the rows.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class RowsMultiset extends AbstractMultiset<Object[]> {
+
+  /**
+   * The list of the values of the rows.
+   */
+  private final List<List<Value>> valuesListList;
+  /**
+   * The keys of the values of each column.
+   */
+  private final ValueKeys[] valueKeysArray;
+
+  /**
+   * Constructor.
+   *
+   * @param rowsList        The list of rows.
+   * @param numberOfColumns The number of columns.
+   */
+  RowsMultiset(List<Row> rowsList, int numberOfColumns) {
+    valuesListList = new ArrayList<>(rowsList.size());
+    valueKeysArray = new ValueKeys[numberOfColumns];
+    for (int index = 0; index < numberOfColumns; index++) {
+      valueKeysArray[index] = new ValueKeys();
+    }
+    for (Row row : rowsList) {
+      List<Value> valuesList = row.getValuesList();
+      valuesListList.add(valuesList);
+      Object[] keys = new Object[numberOfColumns];
+      for (int index = 0; index < numberOfColumns; index++) {
+        keys[index] = valueKeysArray[index].getValueKey(valuesList.get(index));
+      }
+      add(getRowKey(keys));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean isEqual(int index, Object[] expected) {
+    List<Value> valuesList = valuesListList.get(index);
+    for (int i = 0; i < expected.length; i++) {
+      if (!Values.areEqual(valuesList.get(i), expected[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the values of the row at the index.
+   *
+   * @param index The index of the row.
+   * @return The values.
+   */
+  List<Value> getValuesList(int index) {
+    return valuesListList.get(index);
+  }
+
+  /**
+   * Removes the first remaining row which is equal to the expected row.
+   *
+   * @param expected The expected values of the row.
+   * @return {@code true} if a row is found and removed, {@code false} otherwise.
+   */
+  boolean remove(Object[] expected) {
+    Object[] keys = new Object[expected.length];
+    for (int index = 0; index < expected.length; index++) {
+      keys[index] = valueKeysArray[index].getExpectedKey(expected[index]);
+    }
+    return remove(getRowKey(keys), expected) != -1;
+  }
+
+  /**
+   * Returns the key of a row from the keys of its values.
+   *
+   * @param keys The keys of the values.
+   * @return The key ({@code null} if one of the values has no key).
+   */
+  private static Object getRowKey(Object[] keys) {
+    for (Object key : keys) {
+      if (key == null) {
+        return null;
+      }
+    }
+    return Arrays.asList(keys);
+  }
+}
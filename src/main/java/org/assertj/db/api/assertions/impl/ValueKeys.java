@@ -0,0 +1,297 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.type.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.UUID;
+
+/**
+ * Keys of the values of a column and of the expected values, used to group the values before the comparisons.
+ * <p>
+ * Two values which are equal (with the {@code Values.areEqual} methods) have always the same key. When the key of an
+ * expected value can not be computed safely (for example a floating number in a column of integers, the comparison is
+ * not exact), the key is {@code null} and the expected value must be compared to all the values. The key of the
+ * expected values depends on the values of the column, so all the values must be added with
+ * {@link #getValueKey(Value)} before the first call to {@link #getExpectedKey(Object)}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class ValueKeys {
+
+  /**
+   * Key of the {@code null} values.
+   */
+  private static final Object NULL_KEY = new Object();
+
+  /**
+   * Family of the values in the column : used to compute the key of an expected {@code String}.
+   */
+  private enum Family {
+    TEXT, INTEGER, FLOAT, DOUBLE, BIG_INTEGER, BIG_DECIMAL, DATE_TIME, TIME, UUID, OTHER
+  }
+
+  /**
+   * Family of the not {@code null} values with a key ({@code null} if there are several families).
+   */
+  private Family family;
+  /**
+   * If there are several families of values.
+   */
+  private boolean severalFamilies;
+  /**
+   * If there are {@code Float} or {@code Double} values.
+   */
+  private boolean hasFloatingNumbers;
+  /**
+   * If there are {@code Float} values (compared as {@code float} to the expected values).
+   */
+  private boolean hasFloats;
+  /**
+   * If there are integral numbers, {@code BigInteger} or {@code BigDecimal} values.
+   */
+  private boolean hasExactNumbers;
+  /**
+   * If there are {@code BigDecimal} values.
+   */
+  private boolean hasBigDecimals;
+
+  /**
+   * Returns the key of a value and updates the information about the families of the values.
+   *
+   * @param value The value.
+   * @return The key ({@code null} if the value is compared to all the expected values).
+   */
+  Object getValueKey(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return NULL_KEY;
+    }
+    if (value.getValueType() == ValueType.NOT_IDENTIFIED) {
+      return null;
+    }
+
+    Object key;
+    Family valueFamily;
+    if (object instanceof String) {
+      key = object;
+      valueFamily = Family.TEXT;
+    } else if (object instanceof Byte || object instanceof Short || object instanceof Integer
+               || object instanceof Long) {
+      key = ((Number) object).longValue();
+      valueFamily = Family.INTEGER;
+      hasExactNumbers = true;
+    } else if (object instanceof Float) {
+      key = getKey(((Float) object).doubleValue());
+      valueFamily = Family.FLOAT;
+      hasFloatingNumbers = true;
+      hasFloats = true;
+    } else if (object instanceof Double) {
+      key = getKey(((Double) object).doubleValue());
+      valueFamily = Family.DOUBLE;
+      hasFloatingNumbers = true;
+    } else if (object instanceof BigInteger) {
+      key = getKey((BigInteger) object);
+      valueFamily = Family.BIG_INTEGER;
+      hasExactNumbers = true;
+    } else if (object instanceof BigDecimal) {
+      key = getKey((BigDecimal) object);
+      valueFamily = Family.BIG_DECIMAL;
+      hasExactNumbers = true;
+      hasBigDecimals = true;
+    } else if (object instanceof Date) {
+      key = DateTimeValue.of(DateValue.from((Date) object));
+      valueFamily = Family.DATE_TIME;
+    } else if (object instanceof Timestamp) {
+      key = DateTimeValue.from((Timestamp) object);
+      valueFamily = Family.DATE_TIME;
+    } else if (object instanceof Time) {
+      key = TimeValue.from((Time) object);
+      valueFamily = Family.TIME;
+    } else if (object instanceof UUID) {
+      key = object;
+      valueFamily = Family.UUID;
+    } else if (object instanceof Boolean) {
+      key = object;
+      valueFamily = Family.OTHER;
+    } else if (object instanceof byte[]) {
+      key = ByteBuffer.wrap((byte[]) object);
+      valueFamily = Family.OTHER;
+    } else {
+      return null;
+    }
+
+    if (family == null) {
+      family = valueFamily;
+    } else if (family != valueFamily) {
+      severalFamilies = true;
+    }
+    return key;
+  }
+
+  /**
+   * Returns the key of an expected value.
+   *
+   * @param expected The expected value.
+   * @return The key ({@code null} if the expected value must be compared to all the values).
+   */
+  Object getExpectedKey(Object expected) {
+    if (expected == null) {
+      return NULL_KEY;
+    }
+
+    if (expected instanceof String) {
+      return getExpectedKey((String) expected);
+    } else if (expected instanceof Byte || expected instanceof Short || expected instanceof Integer
+               || expected instanceof Long) {
+      return hasFloatingNumbers ? null : ((Number) expected).longValue();
+    } else if (expected instanceof Float || expected instanceof Double) {
+      return getExpectedKey((Number) expected);
+    } else if (expected instanceof BigInteger) {
+      return hasFloatingNumbers || hasBigDecimals ? null : getKey((BigInteger) expected);
+    } else if (expected instanceof BigDecimal) {
+      return hasFloatingNumbers ? null : getKey((BigDecimal) expected);
+    } else if (expected instanceof DateValue) {
+      return DateTimeValue.of((DateValue) expected);
+    } else if (expected instanceof DateTimeValue || expected instanceof TimeValue || expected instanceof UUID
+               || expected instanceof Boolean) {
+      return expected;
+    } else if (expected instanceof Date) {
+      return DateTimeValue.of(DateValue.from((Date) expected));
+    } else if (expected instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) expected);
+    } else if (expected instanceof Time) {
+      return TimeValue.from((Time) expected);
+    } else if (expected instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) expected);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key of an expected floating number.
+   * <p>
+   * The {@code Float} values are compared as {@code float} : if all the values are {@code Float}, the key is the
+   * expected number rounded to a {@code float} (like the comparison), and if there are {@code Float} values with
+   * other values, the expected number must be compared to all the values.
+   * </p>
+   *
+   * @param expected The expected {@code Float} or {@code Double}.
+   * @return The key ({@code null} if the expected value must be compared to all the values).
+   */
+  private Object getExpectedKey(Number expected) {
+    if (hasExactNumbers) {
+      return null;
+    }
+    if (hasFloats) {
+      return severalFamilies ? null : getKey((double) expected.floatValue());
+    }
+    return getKey(expected.doubleValue());
+  }
+
+  /**
+   * Returns the key of an expected {@code String} : the {@code String} is parsed like for the comparison with the
+   * family of the values.
+   *
+   * @param expected The expected {@code String}.
+   * @return The key ({@code null} if the expected value must be compared to all the values, for example if there are
+   * several families of values or if the {@code String} can not be parsed).
+   */
+  private Object getExpectedKey(String expected) {
+    if (severalFamilies) {
+      return null;
+    }
+    if (family == null) {
+      return expected;
+    }
+    try {
+      switch (family) {
+      case INTEGER:
+        return Long.parseLong(expected);
+      case FLOAT:
+        return getKey(Float.parseFloat(expected));
+      case DOUBLE:
+        return getKey(Double.parseDouble(expected));
+      case BIG_INTEGER:
+        return getKey(new BigInteger(expected));
+      case BIG_DECIMAL:
+        return getKey(new BigDecimal(expected));
+      case DATE_TIME:
+        return DateTimeValue.parse(expected);
+      case TIME:
+        return TimeValue.parse(expected);
+      case UUID:
+        return UUID.fromString(expected);
+      default:
+        return expected;
+      }
+    } catch (IllegalArgumentException | ParseException e) {
+      // The comparisons with all the values throw the exception like without multiset
+      return null;
+    }
+  }
+
+  /**
+   * Returns the key of a floating number.
+   *
+   * @param d The floating number.
+   * @return The key.
+   */
+  private static Object getKey(double d) {
+    // -0.0 is equal to 0.0
+    return d == 0 ? 0d : d;
+  }
+
+  /**
+   * Returns the key of a {@code BigInteger} : a {@code Long} if possible, like the integral numbers.
+   *
+   * @param bi The {@code BigInteger}.
+   * @return The key.
+   */
+  private static Object getKey(BigInteger bi) {
+    if (bi.bitLength() < 64) {
+      return bi.longValue();
+    }
+    return new BigDecimal(bi).stripTrailingZeros();
+  }
+
+  /**
+   * Returns the key of a {@code BigDecimal} : a {@code Long} if possible, like the integral numbers, or else the
+   * {@code BigDecimal} without trailing zeros (the keys of equal {@code BigDecimal} are then equal).
+   *
+   * @param bd The {@code BigDecimal}.
+   * @return The key.
+   */
+  private static Object getKey(BigDecimal bd) {
+    if (bd.signum() == 0) {
+      return 0L;
+    }
+    BigDecimal stripped = bd.stripTrailingZeros();
+    if (stripped.scale() <= 0) {
+      BigInteger bi = stripped.toBigInteger();
+      if (bi.bitLength() < 64) {
+        return bi.longValue();
+      }
+    }
+    return stripped;
+  }
+}
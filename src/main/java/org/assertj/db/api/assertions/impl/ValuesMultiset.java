@@ -0,0 +1,118 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+
+import java.util.List;
+
+/**
+ * Multiset of the values of a column, used to find and remove the values equal to the expected values.
+ * <p>
+ * The values are grouped by their keys (see {@link ValueKeys}), so an expected value is only compared to the values
+ * which can be equal to it instead of all the values of the column.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @param <T> The class of the expected values.
+ * @since 1.1.0
+ */
+abstract class ValuesMultiset<T> extends AbstractMultiset<T> {
+
+  /**
+   * The list of values.
+   */
+  private final List<Value> valuesList;
+  /**
+   * The keys of the values.
+   */
+  private final ValueKeys valueKeys = new ValueKeys();
+  /**
+   * Index of the first value which is not of one of the types ({@code -1} if all the values are of one of the types).
+   */
+  private int indexOfOtherType = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param valuesList The list of values.
+   * @param types      The types expected for the values (no control if empty).
+   */
+  ValuesMultiset(List<Value> valuesList, ValueType... types) {
+    this.valuesList = valuesList;
+    int index = 0;
+    for (Value value : valuesList) {
+      if (indexOfOtherType == -1 && !isOfAnyTypeIn(value.getValueType(), types)) {
+        indexOfOtherType = index;
+      }
+      add(valueKeys.getValueKey(value));
+      index++;
+    }
+  }
+
+  /**
+   * Returns if the value is equal to the expected value (with the same comparison as the assertion).
+   *
+   * @param value    The value.
+   * @param expected The expected value.
+   * @return {@code true} if the value is equal to the expected value, {@code false} otherwise.
+   */
+  protected abstract boolean areEqual(Value value, T expected);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean isEqual(int index, T expected) {
+    return areEqual(valuesList.get(index), expected);
+  }
+
+  /**
+   * Returns if all the values are of one of the types in parameter of the constructor.
+   *
+   * @return {@code true} if all the values are of one of the types, {@code false} otherwise.
+   */
+  boolean areOfAnyTypeIn() {
+    return indexOfOtherType == -1;
+  }
+
+  /**
+   * Removes the first remaining value which is equal to the expected value.
+   *
+   * @param expected The expected value.
+   * @return {@code true} if a value is found and removed, {@code false} otherwise.
+   */
+  boolean remove(T expected) {
+    return remove(valueKeys.getExpectedKey(expected), expected) != -1;
+  }
+
+  /**
+   * Returns if the type is one of the types.
+   *
+   * @param type  The type.
+   * @param types The types (all the types are accepted if empty).
+   * @return {@code true} if the type is one of the types, {@code false} otherwise.
+   */
+  private static boolean isOfAnyTypeIn(ValueType type, ValueType... types) {
+    if (types.length == 0) {
+      return true;
+    }
+    for (ValueType valueType : types) {
+      if (type == valueType) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
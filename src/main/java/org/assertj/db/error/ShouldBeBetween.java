@@ -0,0 +1,51 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an aggregate of the values of a column is
+ * between two bounds failed.
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ShouldBeBetween extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeBetween}</code>.
+   *
+   * @param description The description of the aggregate (for example "the sum of the values").
+   * @param actual      The actual aggregate in the failed assertion.
+   * @param start       The start of the bounds.
+   * @param end         The end of the bounds.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeBetween(String description, Object actual, Object start, Object end) {
+    return new ShouldBeBetween(description, actual, start, end);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param description The description of the aggregate.
+   * @param actual      The actual aggregate in the failed assertion.
+   * @param start       The start of the bounds.
+   * @param end         The end of the bounds.
+   */
+  private ShouldBeBetween(String description, Object actual, Object start, Object end) {
+    super("%nExpecting " + description + ":%n  <%s>%nto be between %n  <%s> and <%s>", actual, start, end);
+  }
+}
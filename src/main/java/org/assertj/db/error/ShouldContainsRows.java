@@ -0,0 +1,99 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the rows are the expected rows (in any
+ * order) failed.
+ * <p>
+ * All the expected rows which are not found and all the rows which are not expected are counted in the message, but
+ * only the {@value ShouldHaveRows#MAXIMUM_NUMBER_OF_ROWS} first of each are detailed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ShouldContainsRows extends BasicErrorMessageFactory {
+
+  private static final String EXPECTED_MESSAGE =
+          "%nExpecting to contain the expected rows (in any order) but %s expected rows are not found";
+  private static final String EXPECTED_MESSAGE_NOT_EXPECTED = "%nand %s rows are not expected";
+  private static final String EXPECTED_MESSAGE_ROW = "%n  <%s> at index %s";
+  private static final String EXPECTED_MESSAGE_OTHER_ROWS = "%n  and %s other rows";
+
+  /**
+   * Creates a new <code>{@link ShouldContainsRows}</code>.
+   *
+   * @param numberOfNotFound       The number of expected rows which are not found.
+   * @param notFoundIndexesList    The indexes of the expected rows which are not found (at most
+   *                               {@link ShouldHaveRows#MAXIMUM_NUMBER_OF_ROWS}).
+   * @param notFoundList           The expected rows which are not found.
+   * @param numberOfNotExpected    The number of rows which are not expected.
+   * @param notExpectedIndexesList The indexes of the rows which are not expected (at most
+   *                               {@link ShouldHaveRows#MAXIMUM_NUMBER_OF_ROWS}).
+   * @param notExpectedList        The values of the rows which are not expected.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainsRows(int numberOfNotFound, List<Integer> notFoundIndexesList,
+                                                       List<Object[]> notFoundList, int numberOfNotExpected,
+                                                       List<Integer> notExpectedIndexesList,
+                                                       List<Object[]> notExpectedList) {
+    List<Object> argumentsList = new ArrayList<>();
+    StringBuilder stringBuilder = new StringBuilder(EXPECTED_MESSAGE);
+    argumentsList.add(numberOfNotFound);
+    appendRows(stringBuilder, argumentsList, numberOfNotFound, notFoundIndexesList, notFoundList);
+    stringBuilder.append(EXPECTED_MESSAGE_NOT_EXPECTED);
+    argumentsList.add(numberOfNotExpected);
+    appendRows(stringBuilder, argumentsList, numberOfNotExpected, notExpectedIndexesList, notExpectedList);
+    return new ShouldContainsRows(stringBuilder.toString(), argumentsList.toArray());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format    The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldContainsRows(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Appends the detailed rows to the format and to the arguments of the message.
+   *
+   * @param stringBuilder The format of the message.
+   * @param argumentsList The arguments of the message.
+   * @param numberOfRows  The number of rows.
+   * @param indexesList   The indexes of the detailed rows.
+   * @param rowsList      The values of the detailed rows.
+   */
+  private static void appendRows(StringBuilder stringBuilder, List<Object> argumentsList, int numberOfRows,
+                                 List<Integer> indexesList, List<Object[]> rowsList) {
+    int numberOfDetailedRows = indexesList.size();
+    for (int i = 0; i < numberOfDetailedRows; i++) {
+      stringBuilder.append(EXPECTED_MESSAGE_ROW);
+      argumentsList.add(rowsList.get(i));
+      argumentsList.add(indexesList.get(i));
+    }
+    if (numberOfRows > numberOfDetailedRows) {
+      stringBuilder.append(EXPECTED_MESSAGE_OTHER_ROWS);
+      argumentsList.add(numberOfRows - numberOfDetailedRows);
+    }
+  }
+}
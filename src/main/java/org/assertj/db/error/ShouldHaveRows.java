@@ -0,0 +1,81 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the rows are equal to expected rows (in
+ * the same order) failed.
+ * <p>
+ * All the different rows are counted in the message, but only the {@value #MAXIMUM_NUMBER_OF_ROWS} first are
+ * detailed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ShouldHaveRows extends BasicErrorMessageFactory {
+
+  /**
+   * Maximum number of different rows detailed in the message.
+   */
+  public static final int MAXIMUM_NUMBER_OF_ROWS = 10;
+
+  private static final String EXPECTED_MESSAGE =
+          "%nExpecting rows to be equal to the expected rows but %s rows are different";
+  private static final String EXPECTED_MESSAGE_ROW = "%n  the row at index %s:%n    <%s>%n  to be equal to: %n    <%s>";
+  private static final String EXPECTED_MESSAGE_OTHER_ROWS = "%n  and %s other rows";
+
+  /**
+   * Creates a new <code>{@link ShouldHaveRows}</code>.
+   *
+   * @param numberOfRows The number of different rows.
+   * @param indexesList  The indexes of the different rows (at most {@link #MAXIMUM_NUMBER_OF_ROWS}).
+   * @param actualList   The actual values of the different rows.
+   * @param expectedList The expected values of the different rows.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRows(int numberOfRows, List<Integer> indexesList,
+                                                   List<Object[]> actualList, List<Object[]> expectedList) {
+    List<Object> argumentsList = new ArrayList<>();
+    StringBuilder stringBuilder = new StringBuilder(EXPECTED_MESSAGE);
+    argumentsList.add(numberOfRows);
+    int numberOfDetailedRows = indexesList.size();
+    for (int i = 0; i < numberOfDetailedRows; i++) {
+      stringBuilder.append(EXPECTED_MESSAGE_ROW);
+      argumentsList.add(indexesList.get(i));
+      argumentsList.add(actualList.get(i));
+      argumentsList.add(expectedList.get(i));
+    }
+    if (numberOfRows > numberOfDetailedRows) {
+      stringBuilder.append(EXPECTED_MESSAGE_OTHER_ROWS);
+      argumentsList.add(numberOfRows - numberOfDetailedRows);
+    }
+    return new ShouldHaveRows(stringBuilder.toString(), argumentsList.toArray());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format    The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldHaveRows(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the rows are equal to the rows of a
+ * dataset failed.
+ * <p>
+ * All the differences are counted in the message, but only the {@value #MAXIMUM_NUMBER_OF_DIFFERENCES} first are
+ * detailed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ShouldHaveRowsOfDataset extends BasicErrorMessageFactory {
+
+  /**
+   * Maximum number of differences detailed in the message.
+   */
+  public static final int MAXIMUM_NUMBER_OF_DIFFERENCES = 10;
+
+  private static final String EXPECTED_MESSAGE =
+          "%nExpecting rows to be equal to the rows of the dataset but %s rows are different, %s rows are not in the "
+          + "dataset and %s rows of the dataset are not found";
+  private static final String EXPECTED_MESSAGE_DIFFERENT_ROW =
+          "%n  the row at index %s:%n    <%s>%n  to be equal to the row at line %s of the dataset: %n    <%s>";
+  private static final String EXPECTED_MESSAGE_ROW_NOT_IN_DATASET =
+          "%n  the row at index %s is not in the dataset:%n    <%s>";
+  private static final String EXPECTED_MESSAGE_ROW_NOT_FOUND =
+          "%n  the row at line %s of the dataset is not found:%n    <%s>";
+  private static final String EXPECTED_MESSAGE_OTHER_DIFFERENCES = "%n  and %s other differences";
+
+  /**
+   * Creates a new <code>{@link ShouldHaveRowsOfDataset}</code>.
+   * <p>
+   * Each detailed difference is a different row (with an index and a line number), a row which is not in the dataset
+   * (without line number) or a row of the dataset which is not found (without index).
+   * </p>
+   *
+   * @param numberOfDifferentRows    The number of different rows.
+   * @param numberOfRowsNotInDataset The number of rows which are not in the dataset.
+   * @param numberOfRowsNotFound     The number of rows of the dataset which are not found.
+   * @param indexesList              The indexes of the rows of the detailed differences ({@code null} for a row of
+   *                                 the dataset which is not found).
+   * @param lineNumbersList          The line numbers in the dataset of the detailed differences ({@code null} for a
+   *                                 row which is not in the dataset).
+   * @param actualList               The actual values of the detailed differences.
+   * @param expectedList             The expected values of the detailed differences.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRowsOfDataset(int numberOfDifferentRows, int numberOfRowsNotInDataset,
+                                                            int numberOfRowsNotFound, List<Integer> indexesList,
+                                                            List<Integer> lineNumbersList, List<Object[]> actualList,
+                                                            List<Object[]> expectedList) {
+    List<Object> argumentsList = new ArrayList<>();
+    StringBuilder stringBuilder = new StringBuilder(EXPECTED_MESSAGE);
+    argumentsList.add(numberOfDifferentRows);
+    argumentsList.add(numberOfRowsNotInDataset);
+    argumentsList.add(numberOfRowsNotFound);
+    int numberOfDetailedDifferences = indexesList.size();
+    for (int i = 0; i < numberOfDetailedDifferences; i++) {
+      Integer index = indexesList.get(i);
+      Integer lineNumber = lineNumbersList.get(i);
+      if (lineNumber == null) {
+        stringBuilder.append(EXPECTED_MESSAGE_ROW_NOT_IN_DATASET);
+        argumentsList.add(index);
+        argumentsList.add(actualList.get(i));
+      } else if (index == null) {
+        stringBuilder.append(EXPECTED_MESSAGE_ROW_NOT_FOUND);
+        argumentsList.add(lineNumber);
+        argumentsList.add(expectedList.get(i));
+      } else {
+        stringBuilder.append(EXPECTED_MESSAGE_DIFFERENT_ROW);
+        argumentsList.add(index);
+        argumentsList.add(actualList.get(i));
+        argumentsList.add(lineNumber);
+        argumentsList.add(expectedList.get(i));
+      }
+    }
+    int numberOfDifferences = numberOfDifferentRows + numberOfRowsNotInDataset + numberOfRowsNotFound;
+    if (numberOfDifferences > numberOfDetailedDifferences) {
+      stringBuilder.append(EXPECTED_MESSAGE_OTHER_DIFFERENCES);
+      argumentsList.add(numberOfDifferences - numberOfDetailedDifferences);
+    }
+    return new ShouldHaveRowsOfDataset(stringBuilder.toString(), argumentsList.toArray());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format    The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldHaveRowsOfDataset(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
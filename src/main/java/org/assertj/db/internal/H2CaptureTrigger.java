@@ -0,0 +1,135 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.internal;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Trigger used by the capture of the changes with triggers on H2 (see
+ * {@link org.assertj.db.type.Changes#setCapturingByTriggers(boolean)}).
+ * <p>
+ * This trigger inserts the row before the change and/or the row after the change in the audit table of the table.
+ * It is created and dropped by {@link org.assertj.db.type.Changes} : it is not intended to be used directly (this
+ * class is public only to be instantiated by H2, and this package is not exported).
+ * </p>
+ * <p>
+ * The name of the trigger is {@code ADB_T_<id>_<table>} : the name of the audit table ({@code ADB_A_<id>_<table>})
+ * and the name of the sequence ({@code ADB_S_<id>}) are deduced from it, with the identifier of the capture.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class H2CaptureTrigger implements Trigger {
+
+  /**
+   * Prefix of the name of the triggers.
+   */
+  private static final String TRIGGER_PREFIX = "ADB_T_";
+  /**
+   * Prefix of the name of the audit tables.
+   */
+  private static final String AUDIT_TABLE_PREFIX = "ADB_A_";
+  /**
+   * Prefix of the name of the sequences.
+   */
+  private static final String SEQUENCE_PREFIX = "ADB_S_";
+  /**
+   * Kind of image : the row before the change.
+   */
+  private static final String OLD_IMAGE = "O";
+  /**
+   * Kind of image : the row after the change.
+   */
+  private static final String NEW_IMAGE = "N";
+
+  /**
+   * The SQL statement which inserts an image in the audit table (built at the first change).
+   */
+  private String insert;
+  /**
+   * The name of the audit table (with the schema).
+   */
+  private String auditTableName;
+  /**
+   * The name of the sequence (with the schema).
+   */
+  private String sequenceName;
+
+  /** {@inheritDoc} */
+  @Override
+  public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before, int type)
+      throws SQLException {
+
+    // The name of the trigger is the identifier of the capture and the name of the table after the prefix
+    String suffix = triggerName.substring(TRIGGER_PREFIX.length());
+    String id = suffix.substring(0, suffix.indexOf('_'));
+    auditTableName = schemaName + "." + AUDIT_TABLE_PREFIX + suffix;
+    sequenceName = schemaName + "." + SEQUENCE_PREFIX + id;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+    if (oldRow != null) {
+      insert(conn, OLD_IMAGE, oldRow);
+    }
+    if (newRow != null) {
+      insert(conn, NEW_IMAGE, newRow);
+    }
+  }
+
+  /**
+   * Inserts an image in the audit table.
+   *
+   * @param connection The connection to the database.
+   * @param image The kind of image.
+   * @param row The values of the row.
+   * @throws SQLException SQL Exception.
+   */
+  private void insert(Connection connection, String image, Object[] row) throws SQLException {
+    if (insert == null) {
+      StringBuilder stringBuilder = new StringBuilder("INSERT INTO ");
+      stringBuilder.append(auditTableName).append(" VALUES (NEXT VALUE FOR ").append(sequenceName).append(", ?");
+      for (int index = 0; index < row.length; index++) {
+        stringBuilder.append(", ?");
+      }
+      stringBuilder.append(")");
+      insert = stringBuilder.toString();
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(insert)) {
+      statement.setString(1, image);
+      for (int index = 0; index < row.length; index++) {
+        statement.setObject(index + 2, row[index]);
+      }
+      statement.executeUpdate();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() {
+    // Nothing to close
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void remove() {
+    // Nothing to remove
+  }
+}
@@ -16,10 +16,19 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.RowComparator;
 
 import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -58,6 +67,18 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the columns.
    */
   private List<Column> columnsList;
+  /**
+   * The options of the loading ({@code null} for the default options).
+   */
+  private LoadOptions loadOptions;
+  /**
+   * The index of the rows on the primary keys values (built at the first search of a row).
+   */
+  private PksIndex pksIndex;
+  /**
+   * The filter of the rows kept during the loading ({@code null} to keep all the rows).
+   */
+  private RowFilter rowFilter;
 
   /**
    * Default constructor.
@@ -114,6 +135,50 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public abstract String getRequest();
 
+  /**
+   * Returns the options used during the loading.
+   *
+   * @see #setLoadOptions(LoadOptions)
+   * @see LoadOptions#getDefault()
+   * @return The options used during the loading (a copy of the default options if no option is set).
+   */
+  public LoadOptions getLoadOptions() {
+    if (loadOptions == null) {
+      return LoadOptions.getDefault();
+    }
+    return loadOptions;
+  }
+
+  /**
+   * Sets the options used during the loading.
+   *
+   * @see #getLoadOptions()
+   * @param loadOptions The options used during the loading ({@code null} for the default options).
+   * @return The actual instance.
+   */
+  public D setLoadOptions(LoadOptions loadOptions) {
+    this.loadOptions = loadOptions;
+    return myself;
+  }
+
+  /**
+   * Returns the filter of the rows kept during the loading.
+   *
+   * @return The filter of the rows ({@code null} if all the rows are kept).
+   */
+  RowFilter getRowFilter() {
+    return rowFilter;
+  }
+
+  /**
+   * Sets the filter of the rows kept during the loading.
+   *
+   * @param rowFilter The filter of the rows ({@code null} to keep all the rows).
+   */
+  void setRowFilter(RowFilter rowFilter) {
+    this.rowFilter = rowFilter;
+  }
+
   /**
    * Loads the informations of the data from the database.
    * <p>
@@ -126,8 +191,20 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   private void load() {
     try (Connection connection = getConnection()) {
-      // Call the specific loading depending of Table or Request.
-      loadImpl(connection);
+      // Set the read-only mode if needed (and restore it after the loading)
+      boolean readOnly = getLoadOptions().isReadOnly() && !connection.isReadOnly();
+      if (readOnly) {
+        connection.setReadOnly(true);
+      }
+      pksIndex = null;
+      try {
+        // Call the specific loading depending of Table or Request.
+        loadImpl(connection);
+      } finally {
+        if (readOnly) {
+          connection.setReadOnly(false);
+        }
+      }
       Collections.sort(rowsList, RowComparator.INSTANCE);
       if (pksNameList == null) {
         pksNameList = new ArrayList<>();
@@ -137,6 +214,288 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
   }
 
+  /**
+   * Browses the rows of the data in the database, without keeping them.
+   * <p>
+   * Each row read in the database is given to the visitor and then forgotten, so the number of rows browsed is not
+   * bounded by the memory. If there are primary keys, the rows are browsed in the order of the primary keys (sorted by
+   * the database), otherwise they are browsed in the order of the request.<br>
+   * The rows are read in the database even if they are already loaded or if only a sample of the rows is loaded (see
+   * {@link LoadOptions#getSampleSize()}), so the rows are always browsed in the same order (the loaded rows are sorted
+   * in another order, see {@link #getRowsList()}). Only the rows loaded without {@link #dataSource} and
+   * {@link #source} (for example read in a snapshot) are browsed in memory.
+   * </p>
+   *
+   * @param visitor The visitor of the rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the browsing.
+   * @since 1.1.0
+   */
+  public void browseRows(RowVisitor visitor) {
+    if (rowsList != null && getSource() == null && getDataSource() == null) {
+      for (Row row : rowsList) {
+        visitor.visit(row);
+      }
+      return;
+    }
+
+    List<String> columnsNameList = getColumnsNameList();
+    try (Connection connection = getConnection()) {
+      // Set the read-only mode if needed (and restore it after the browsing)
+      boolean readOnly = getLoadOptions().isReadOnly() && !connection.isReadOnly();
+      if (readOnly) {
+        connection.setReadOnly(true);
+      }
+      try {
+        if (pksNameList == null) {
+          collectPksName(connection);
+        }
+        List<String> pksNameList = this.pksNameList == null ? new ArrayList<String>() : this.pksNameList;
+
+        String request = getRequest();
+        if (pksNameList.size() > 0) {
+          // The request is used as a sub-request to sort the rows on the primary keys
+          StringBuilder stringBuilder = new StringBuilder("SELECT * FROM (").append(request).append(") T ORDER BY ");
+          for (int index = 0; index < pksNameList.size(); index++) {
+            if (index > 0) {
+              stringBuilder.append(", ");
+            }
+            stringBuilder.append(pksNameList.get(index));
+          }
+          request = stringBuilder.toString();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(request)) {
+          getLoadOptions().applyTo(statement);
+          Object[] parameters = getRequestParameters();
+          if (parameters != null) {
+            for (int i = 0; i < parameters.length; i++) {
+              statement.setObject(i + 1, parameters[i]);
+            }
+          }
+          try (ResultSet resultSet = statement.executeQuery()) {
+            browseRowsFromResultSet(resultSet, columnsNameList, pksNameList, visitor);
+          }
+        }
+      } finally {
+        if (readOnly) {
+          connection.setReadOnly(false);
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the rows can be browsed or counted in the database instead of in the loaded rows.
+   *
+   * @return {@code true} if the rows are not loaded and if there is no sample, {@code false} otherwise.
+   */
+  private boolean canUseDatabase() {
+    return rowsList == null && getLoadOptions().getSampleSize() == 0;
+  }
+
+  /**
+   * Collects the primary keys name from the database, without loading the rows.
+   * <p>
+   * This method is called before browsing the rows (see {@link #browseRows(RowVisitor)}) when the primary keys name
+   * are not known. By default there is no primary key to collect : it is overridden by the sub-classes which can get
+   * them from the database.
+   * </p>
+   *
+   * @see Table#collectPksName(Connection)
+   * @param connection {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  protected void collectPksName(Connection connection) throws SQLException {
+    // Empty
+  }
+
+  /**
+   * Returns the parameters of the SQL request.
+   * <p>
+   * These parameters are bound on the request when it is used as a sub-request (for example to count the rows).
+   * </p>
+   *
+   * @return The parameters of the SQL request ({@code null} if there is no parameter).
+   */
+  protected Object[] getRequestParameters() {
+    return null;
+  }
+
+  /**
+   * Executes a request of aggregates on the data, without loading the rows.
+   * <p>
+   * The SQL request of the data ({@link #getRequest()}) is used as a sub-request : {@code SELECT aggregates FROM
+   * (request) T}.
+   * </p>
+   * <p>
+   * If the database does not support this request (see {@link #isNotSupported(SQLException)}), {@code null} is
+   * returned and the values must be computed from the loaded rows.
+   * </p>
+   *
+   * @param aggregates The aggregate expressions (for example {@code COUNT(*)}).
+   * @return The values of the aggregates ({@code null} if the request is not supported).
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} which does not mean
+   *           that the request is not supported.
+   */
+  Object[] getAggregateValues(String... aggregates) {
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    for (int index = 0; index < aggregates.length; index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(aggregates[index]);
+    }
+    stringBuilder.append(" FROM (").append(getRequest()).append(") T");
+
+    try (Connection connection = getConnection()) {
+      try (PreparedStatement statement = connection.prepareStatement(stringBuilder.toString())) {
+        getLoadOptions().applyTo(statement);
+        Object[] parameters = getRequestParameters();
+        if (parameters != null) {
+          for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+          }
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+          resultSet.next();
+          Object[] values = new Object[aggregates.length];
+          for (int i = 0; i < aggregates.length; i++) {
+            values[i] = resultSet.getObject(i + 1);
+          }
+          return values;
+        }
+      }
+    } catch (SQLException e) {
+      if (isNotSupported(e)) {
+        return null;
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the exception means that the database does not support a request of aggregates : a syntax error or an
+   * access rule violation (SQL state of class {@code 42}, for example if the request can not be used as a
+   * sub-request), a feature not supported (class {@code 0A}) or a numeric value out of range (SQL state {@code 22003},
+   * for example if the sum is too big for the type of the column).
+   * <p>
+   * The other exceptions (connection, timeout, ...) would also happen during the loading of the rows.
+   * </p>
+   *
+   * @param e The exception.
+   * @return {@code true} if the request is not supported, {@code false} otherwise.
+   */
+  private static boolean isNotSupported(SQLException e) {
+    if (e instanceof SQLSyntaxErrorException || e instanceof SQLFeatureNotSupportedException) {
+      return true;
+    }
+    String sqlState = e.getSQLState();
+    return sqlState != null && (sqlState.startsWith("42") || sqlState.startsWith("0A") || sqlState.equals("22003"));
+  }
+
+  /**
+   * Returns a count read in the database as an {@code int}.
+   *
+   * @param count The count.
+   * @return The count.
+   * @throws AssertJDBException If the count is greater than the maximum of an {@code int}.
+   */
+  private static int toInt(Object count) {
+    BigDecimal bigDecimal = new BigDecimal(count.toString());
+    if (bigDecimal.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+      throw new AssertJDBException("The count <%s> is greater than the maximum of an int", count);
+    }
+    return bigDecimal.intValue();
+  }
+
+  /**
+   * Loads the columns name of the data from the database, without loading the rows.
+   * <p>
+   * The {@link ResultSetMetaData} is got from the prepared statement of the request, without executing it. If the
+   * driver is not able to give it, the request is executed to read at most one row.
+   * </p>
+   *
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null} or if the
+   *           request is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadColumnsName() {
+    String request = getRequest();
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    MetaDataCache metaDataCache = getMetaDataCache();
+    if (metaDataCache != null) {
+      List<String> columnsLabelsList = metaDataCache.get(this, MetaDataCache.COLUMNS, request);
+      if (columnsLabelsList != null) {
+        collectColumnsName(columnsLabelsList);
+        return;
+      }
+    }
+
+    try (Connection connection = getConnection()) {
+      try (PreparedStatement statement = connection.prepareStatement(request)) {
+        ResultSetMetaData metaData = statement.getMetaData();
+        if (metaData != null) {
+          collectColumnsName(metaData);
+        } else {
+          statement.setMaxRows(1);
+          Object[] parameters = getRequestParameters();
+          if (parameters != null) {
+            for (int i = 0; i < parameters.length; i++) {
+              statement.setObject(i + 1, parameters[i]);
+            }
+          }
+          try (ResultSet resultSet = statement.executeQuery()) {
+            collectColumnsName(resultSet.getMetaData());
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Collects the columns name from the {@link ResultSetMetaData} of the request.
+   * <p>
+   * The labels of the columns are kept in the cache of the metadata (if there is one) and
+   * {@link #collectColumnsName(List)} is called with them.
+   * </p>
+   *
+   * @param metaData The {@link ResultSetMetaData}.
+   * @throws SQLException SQL Exception.
+   */
+  protected void collectColumnsName(ResultSetMetaData metaData) throws SQLException {
+    List<String> columnsLabelsList = new ArrayList<>();
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      columnsLabelsList.add(metaData.getColumnLabel(i));
+    }
+    MetaDataCache metaDataCache = getMetaDataCache();
+    if (metaDataCache != null) {
+      metaDataCache.put(this, MetaDataCache.COLUMNS, columnsLabelsList, getRequest());
+    }
+    collectColumnsName(columnsLabelsList);
+  }
+
+  /**
+   * Collects the columns name from the labels of the columns of the request.
+   * <p>
+   * This method is called by the {@link #loadColumnsName()} private method and during the specific loading. It is
+   * implemented in the sub-classes depending of the need of the sub-class.
+   * </p>
+   *
+   * @see Table#collectColumnsName(List)
+   * @see Request#collectColumnsName(List)
+   * @param columnsLabelsList The labels of the columns in the order of the request.
+   */
+  protected abstract void collectColumnsName(List<String> columnsLabelsList);
+
   /**
    * Implementation of the loading that depends of the kind of data.
    * <p>
@@ -158,58 +517,150 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * This method browse the {@link ResultSet} in parameter to get the data and fill the list of {@link Row} (
    * {@link #rowsList}) with these data.
    * </p>
+   * <p>
+   * If there is a filter of the rows, only the rows accepted by the filter are kept. If there is a sample in the
+   * {@link LoadOptions}, only a sample of these rows is kept.
+   * </p>
    * 
    * @param resultSet The {@link ResultSet}.
    * @throws SQLException A SQL Exception.
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
-    ResultSetMetaData metaData = resultSet.getMetaData();
+    LoadOptions loadOptions = getLoadOptions();
+    final RowSampler rowSampler = loadOptions.getSampleSize() > 0 ?
+        new RowSampler(loadOptions.getSampleSize(), loadOptions.getSampleSeed()) : null;
     rowsList = new ArrayList<>();
-    while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (columnName.equalsIgnoreCase(metaData.getColumnLabel(i))) {
-            index = i;
-            break;
+    browseRowsFromResultSet(resultSet, columnsNameList, pksNameList, new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        if (rowFilter == null || rowFilter.accept(row)) {
+          if (rowSampler == null) {
+            rowsList.add(row);
+          } else {
+            rowSampler.add(row);
           }
         }
-        Object object;
-        int type = metaData.getColumnType(index);
-        switch (type) {
-          case Types.DATE:
-            object = resultSet.getDate(columnName);
-            break;
-          case Types.TIME:
-            object = resultSet.getTime(columnName);
-            break;
-          case Types.TIMESTAMP:
-            object = resultSet.getTimestamp(columnName);
-            break;
-          case Types.BLOB:
-            object = resultSet.getBytes(columnName);
-            break;
-          case Types.CLOB:
-            object = resultSet.getString(columnName);
-            break;
-
-          default:
-            object = resultSet.getObject(columnName);
-            break;
-        }
-        valuesList.add(new Value(columnName, object));
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList));
+    });
+    if (rowSampler != null) {
+      rowsList = rowSampler.getRowsList();
+    }
+  }
+
+  /**
+   * Browses the rows of a {@link ResultSet}.
+   * <p>
+   * This method browse the {@link ResultSet} in parameter to get the data and gives each {@link Row} to the visitor.
+   * </p>
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param columnsNameList The list of the columns name.
+   * @param pksNameList The list of the primary keys name.
+   * @param visitor The visitor of the rows.
+   * @throws SQLException A SQL Exception.
+   */
+  private void browseRowsFromResultSet(ResultSet resultSet, List<String> columnsNameList, List<String> pksNameList,
+                                       RowVisitor visitor) throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    int columnsCount = columnsNameList.size();
+    // The index and the type of each column are resolved once before browsing the rows
+    int[] indexes = new int[columnsCount];
+    int[] types = new int[columnsCount];
+    ValueDictionary[] dictionaries = new ValueDictionary[columnsCount];
+    for (int i = 0; i < columnsCount; i++) {
+      indexes[i] = getColumnIndex(metaData, columnsNameList.get(i));
+      types[i] = metaData.getColumnType(indexes[i]);
+      dictionaries[i] = new ValueDictionary(columnsNameList.get(i), getValueType(types[i]));
+    }
+
+    while (resultSet.next()) {
+      List<Value> valuesList = new ArrayList<>(columnsCount);
+      for (int i = 0; i < columnsCount; i++) {
+        Object object = getObject(resultSet, indexes[i], types[i]);
+        valuesList.add(dictionaries[i].getValue(object));
+      }
+      visitor.visit(new Row(pksNameList, columnsNameList, valuesList));
+    }
+  }
+
+  /**
+   * Returns the index of the column in the {@link ResultSetMetaData}.
+   *
+   * @param metaData The {@link ResultSetMetaData}.
+   * @param columnName The name of the column.
+   * @return The index of the column (starting at 1).
+   * @throws SQLException A SQL Exception.
+   * @throws AssertJDBException If the column is not in the {@link ResultSetMetaData}.
+   */
+  private static int getColumnIndex(ResultSetMetaData metaData, String columnName) throws SQLException {
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      if (columnName.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+        return i;
+      }
+    }
+    throw new AssertJDBException("Column <%s> does not exist in the result", columnName);
+  }
+
+  /**
+   * Returns the object in the current row of the {@link ResultSet} for the column at the index.
+   * <p>
+   * The getter used depends of the SQL type of the column.
+   * </p>
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param index The index of the column (starting at 1).
+   * @param type The SQL type of the column (from {@link Types}).
+   * @return The object.
+   * @throws SQLException A SQL Exception.
+   */
+  private static Object getObject(ResultSet resultSet, int index, int type) throws SQLException {
+    switch (type) {
+      case Types.DATE:
+        return resultSet.getDate(index);
+      case Types.TIME:
+        return resultSet.getTime(index);
+      case Types.TIMESTAMP:
+        return resultSet.getTimestamp(index);
+      case Types.BLOB:
+        return resultSet.getBytes(index);
+      case Types.CLOB:
+        return resultSet.getString(index);
+
+      default:
+        return resultSet.getObject(index);
+    }
+  }
+
+  /**
+   * Returns the type of the values read by {@link #getObject(ResultSet, int, int)} for a SQL type, if it only depends
+   * of the SQL type.
+   *
+   * @param type The SQL type of the column.
+   * @return The type of the values ({@code null} if the type depends of the objects returned by the driver).
+   */
+  private static ValueType getValueType(int type) {
+    switch (type) {
+      case Types.DATE:
+        return ValueType.DATE;
+      case Types.TIME:
+        return ValueType.TIME;
+      case Types.TIMESTAMP:
+        return ValueType.DATE_TIME;
+      case Types.BLOB:
+        return ValueType.BYTES;
+      case Types.CLOB:
+        return ValueType.TEXT;
+
+      default:
+        return null;
     }
   }
 
   /**
    * Return the list of the columns name for the data from database.
    * <p>
-   * If it is the first call to {@code getColumnsNameList()}, the data are loaded from database by calling the
-   * {@link #load()} private method.
+   * If it is the first call to {@code getColumnsNameList()}, the columns name are loaded from database by calling the
+   * {@link #loadColumnsName()} private method (the rows are not loaded).
    * </p>
    * 
    * @return The list of the columns name.
@@ -218,7 +669,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<String> getColumnsNameList() {
     if (columnsNameList == null) {
-      load();
+      loadColumnsName();
     }
     return columnsNameList;
   }
@@ -283,6 +734,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
         row.setPksNameList(this.pksNameList);
       }
     }
+    pksIndex = null;
     controlIfAllThePksNameExistInTheColumns();
   }
 
@@ -304,6 +756,423 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return rowsList;
   }
 
+  /**
+   * Returns if the rows are loaded.
+   *
+   * @return {@code true} if the rows are loaded, {@code false} otherwise.
+   */
+  boolean isLoaded() {
+    return rowsList != null;
+  }
+
+  /**
+   * Sets the list of the rows (instead of loading them from the database).
+   *
+   * @param rowsList The list of the rows.
+   */
+  void setRowsList(List<Row> rowsList) {
+    this.rowsList = rowsList;
+    pksIndex = null;
+  }
+
+  /**
+   * Writes a snapshot of the data (the columns name, the primary keys name and the rows) in a binary format.
+   * <p>
+   * If the data are not loaded, they are loaded from the database. The output stream is flushed but not closed.
+   * </p>
+   *
+   * @param outputStream The output stream.
+   * @return The actual instance.
+   * @throws NullPointerException If {@code outputStream} is {@code null}.
+   * @throws AssertJDBException If the snapshot can not be written.
+   * @see #readSnapshot(InputStream)
+   * @since 1.1.0
+   */
+  public D writeSnapshot(OutputStream outputStream) {
+    if (outputStream == null) {
+      throw new NullPointerException("outputStream must be not null");
+    }
+    SnapshotCodec.write(outputStream, Collections.singletonList(this));
+    return myself;
+  }
+
+  /**
+   * Reads a snapshot of the data written by {@link #writeSnapshot(OutputStream)} instead of loading the data from the
+   * database.
+   * <p>
+   * The snapshot must contain one data of the same type. If the name of the table (or the SQL request) is set, the data
+   * of the snapshot must have the same name with the same columns to check and to exclude (or the same parameters).
+   * The input stream is not closed, but the bytes after the snapshot can be read too.
+   * </p>
+   *
+   * @param inputStream The input stream.
+   * @return The actual instance.
+   * @throws NullPointerException If {@code inputStream} is {@code null}.
+   * @throws AssertJDBException If the snapshot can not be read or if it does not correspond to the data.
+   * @see #writeSnapshot(OutputStream)
+   * @since 1.1.0
+   */
+  public D readSnapshot(InputStream inputStream) {
+    if (inputStream == null) {
+      throw new NullPointerException("inputStream must be not null");
+    }
+    List<AbstractDbData<?>> dataList = SnapshotCodec.read(inputStream);
+    if (dataList.size() != 1 || dataList.get(0).getDataType() != dataType) {
+      throw new AssertJDBException("The snapshot does not contain one %s", dataType);
+    }
+    AbstractDbData<?> data = dataList.get(0);
+    String name = SnapshotCodec.getName(this);
+    if (name == null) {
+      if (this instanceof Table) {
+        ((Table) this).setName(SnapshotCodec.getName(data)).setColumnsToCheck(((Table) data).getColumnsToCheck())
+                      .setColumnsToExclude(((Table) data).getColumnsToExclude());
+      } else {
+        ((Request) this).setRequest(SnapshotCodec.getName(data)).setParameters(((Request) data).getParameters());
+      }
+    } else {
+      SnapshotCodec.checkCorrespondence(this, data);
+    }
+    setColumnsNameList(new ArrayList<>(data.getColumnsNameList()));
+    setPksNameList(data.getPksNameList());
+    List<Row> rowsList = new ArrayList<>(data.getRowsList().size());
+    for (Row row : data.getRowsList()) {
+      rowsList.add(new Row(pksNameList, columnsNameList, row.getValuesList()));
+    }
+    setRowsList(rowsList);
+    return myself;
+  }
+
+  /**
+   * Returns the number of rows for the data from database.
+   * <p>
+   * If the rows are already loaded, this method returns the size of {@link #getRowsList()}. Otherwise a
+   * {@code SELECT COUNT(*)} request is executed and the rows are not loaded (if the database does not support this
+   * request, the rows are loaded by calling the {@link #load()} private method).<br>
+   * If only a sample of the rows is loaded (see {@link LoadOptions#getSampleSize()}), the rows of the sample are
+   * counted. It is the same for the other counts and aggregates of the values.
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public int getNumberOfRows() {
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues("COUNT(*)");
+      if (values != null) {
+        return toInt(values[0]);
+      }
+    }
+    return getRowsList().size();
+  }
+
+  /**
+   * Returns the number of {@code null} values in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the values are counted in the rows. Otherwise a
+   * {@code SELECT COUNT(*) - COUNT(column)} request is executed and the rows are not loaded (if the database does not
+   * support this request, the rows are loaded by calling the {@link #load()} private method).
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The number of {@code null} values.
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist or if triggered, this exception wrap a possible
+   *           {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public int getNumberOfNullValues(String columnName) {
+    int index = getColumnIndex(columnName);
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues("COUNT(*) - COUNT(" + getColumnsNameList().get(index) + ")");
+      if (values != null) {
+        return toInt(values[0]);
+      }
+    }
+    int count = 0;
+    for (Row row : getRowsList()) {
+      if (row.getColumnValue(index).getValue() == null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of not {@code null} values in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the values are counted in the rows. Otherwise a {@code SELECT COUNT(column)}
+   * request is executed and the rows are not loaded (if the database does not support this request, the rows are loaded
+   * by calling the {@link #load()} private method).
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The number of not {@code null} values.
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist or if triggered, this exception wrap a possible
+   *           {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public int getNumberOfNotNullValues(String columnName) {
+    int index = getColumnIndex(columnName);
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues("COUNT(" + getColumnsNameList().get(index) + ")");
+      if (values != null) {
+        return toInt(values[0]);
+      }
+    }
+    return getRowsList().size() - getNumberOfNullValues(columnName);
+  }
+
+  /**
+   * Returns the number of distinct values (not {@code null}) in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the values are counted in the rows. Otherwise a
+   * {@code SELECT COUNT(DISTINCT column)} request is executed and the rows are not loaded (if the database does not
+   * support this request, the rows are loaded by calling the {@link #load()} private method).
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The number of distinct values.
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist or if triggered, this exception wrap a possible
+   *           {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public int getNumberOfDistinctValues(String columnName) {
+    int index = getColumnIndex(columnName);
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues("COUNT(DISTINCT " + getColumnsNameList().get(index) + ")");
+      if (values != null) {
+        return toInt(values[0]);
+      }
+    }
+    Set<Object> valuesSet = new HashSet<>();
+    for (Row row : getRowsList()) {
+      Object object = row.getColumnValue(index).getValue();
+      if (object != null) {
+        valuesSet.add(getDistinctKey(object));
+      }
+    }
+    return valuesSet.size();
+  }
+
+  /**
+   * Returns the sum of the values in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the sum is computed from the rows. Otherwise a {@code SELECT SUM(column)} request
+   * is executed and the rows are not loaded (if the database does not support this request, the rows are loaded by
+   * calling the {@link #load()} private method). The {@code null} values are ignored.
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The sum of the values ({@code null} if there is no value which is not {@code null}).
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist, if the values are not numbers or if triggered, this
+   *           exception wrap a possible {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public BigDecimal getSumOfValues(String columnName) {
+    int index = getColumnIndex(columnName);
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues("SUM(" + getColumnsNameList().get(index) + ")");
+      if (values != null) {
+        return toBigDecimal(columnName, values[0]);
+      }
+    }
+    BigDecimal sum = null;
+    for (Row row : getRowsList()) {
+      BigDecimal value = toBigDecimal(columnName, row.getColumnValue(index).getValue());
+      if (value != null) {
+        sum = sum == null ? value : sum.add(value);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the average of the values in the column corresponding to the column name.
+   * <p>
+   * The average is the sum of the values divided by the number of values which are not {@code null}. If the rows are
+   * already loaded, it is computed from the rows. Otherwise a {@code SELECT SUM(column), COUNT(column)} request is
+   * executed and the rows are not loaded (if the database does not support this request, the rows are loaded by calling
+   * the {@link #load()} private method). The division is done here rather than with the {@code AVG} function, because
+   * some databases round the average of integers to an integer.
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The average of the values ({@code null} if there is no value which is not {@code null}).
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist, if the values are not numbers or if triggered, this
+   *           exception wrap a possible {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public BigDecimal getAverageOfValues(String columnName) {
+    int index = getColumnIndex(columnName);
+    BigDecimal sum = null;
+    long count = 0;
+    Object[] values = null;
+    if (canUseDatabase()) {
+      String name = getColumnsNameList().get(index);
+      values = getAggregateValues("SUM(" + name + ")", "COUNT(" + name + ")");
+    }
+    if (values != null) {
+      sum = toBigDecimal(columnName, values[0]);
+      // The count is not converted to an int : it can be greater than the maximum of an int
+      count = new BigDecimal(values[1].toString()).longValue();
+    } else {
+      for (Row row : getRowsList()) {
+        BigDecimal value = toBigDecimal(columnName, row.getColumnValue(index).getValue());
+        if (value != null) {
+          sum = sum == null ? value : sum.add(value);
+          count++;
+        }
+      }
+    }
+    if (sum == null || count == 0) {
+      return null;
+    }
+    return sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+  }
+
+  /**
+   * Returns the minimum of the values in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the minimum is searched in the rows. Otherwise a {@code SELECT MIN(column)} request
+   * is executed and the rows are not loaded (if the database does not support this request, the rows are loaded by
+   * calling the {@link #load()} private method). The {@code null} values are ignored.
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The minimum of the values ({@code null} if there is no value which is not {@code null}).
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist, if the values are not numbers or if triggered, this
+   *           exception wrap a possible {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public BigDecimal getMinimumOfValues(String columnName) {
+    return getExtremumOfValues(columnName, "MIN", -1);
+  }
+
+  /**
+   * Returns the maximum of the values in the column corresponding to the column name.
+   * <p>
+   * If the rows are already loaded, the maximum is searched in the rows. Otherwise a {@code SELECT MAX(column)} request
+   * is executed and the rows are not loaded (if the database does not support this request, the rows are loaded by
+   * calling the {@link #load()} private method). The {@code null} values are ignored.
+   * </p>
+   *
+   * @param columnName The column name.
+   * @return The maximum of the values ({@code null} if there is no value which is not {@code null}).
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist, if the values are not numbers or if triggered, this
+   *           exception wrap a possible {@link SQLException} during the loading.
+   * @since 1.1.0
+   */
+  public BigDecimal getMaximumOfValues(String columnName) {
+    return getExtremumOfValues(columnName, "MAX", 1);
+  }
+
+  /**
+   * Returns the minimum or the maximum of the values in the column corresponding to the column name.
+   *
+   * @param columnName The column name.
+   * @param function The SQL function ({@code MIN} or {@code MAX}).
+   * @param sign The sign of the comparison of a value with the extremum to replace it ({@code -1} for the minimum,
+   *          {@code 1} for the maximum).
+   * @return The extremum of the values ({@code null} if there is no value which is not {@code null}).
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist, if the values are not numbers or if triggered, this
+   *           exception wrap a possible {@link SQLException} during the loading.
+   */
+  private BigDecimal getExtremumOfValues(String columnName, String function, int sign) {
+    int index = getColumnIndex(columnName);
+    if (canUseDatabase()) {
+      Object[] values = getAggregateValues(function + "(" + getColumnsNameList().get(index) + ")");
+      if (values != null) {
+        return toBigDecimal(columnName, values[0]);
+      }
+    }
+    BigDecimal extremum = null;
+    for (Row row : getRowsList()) {
+      BigDecimal value = toBigDecimal(columnName, row.getColumnValue(index).getValue());
+      if (value != null && (extremum == null || Integer.signum(value.compareTo(extremum)) == sign)) {
+        extremum = value;
+      }
+    }
+    return extremum;
+  }
+
+  /**
+   * Returns a value of a column as a {@code BigDecimal}.
+   *
+   * @param columnName The column name.
+   * @param object The value.
+   * @return The value as a {@code BigDecimal} ({@code null} if the value is {@code null}).
+   * @throws AssertJDBException If the value is not a number.
+   */
+  private static BigDecimal toBigDecimal(String columnName, Object object) {
+    if (object == null) {
+      return null;
+    }
+    if (object instanceof BigDecimal) {
+      return (BigDecimal) object;
+    }
+    if (object instanceof BigInteger) {
+      return new BigDecimal((BigInteger) object);
+    }
+    if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+      return BigDecimal.valueOf(((Number) object).longValue());
+    }
+    if (object instanceof Number) {
+      try {
+        return new BigDecimal(object.toString());
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("The value <%s> of the column <%s> can not be used in a computation", object,
+                                     columnName);
+      }
+    }
+    throw new AssertJDBException("The values of the column <%s> are not numbers", columnName);
+  }
+
+  /**
+   * Returns the key of a value to count the distinct values (the equal values have the same key).
+   *
+   * @param object The value (not {@code null}).
+   * @return The key of the value.
+   */
+  private static Object getDistinctKey(Object object) {
+    if (object instanceof BigDecimal) {
+      // 1.0 and 1.00 are the same value for the database
+      BigDecimal bigDecimal = (BigDecimal) object;
+      return bigDecimal.signum() == 0 ? BigDecimal.ZERO : bigDecimal.stripTrailingZeros();
+    }
+    if (object instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) object);
+    }
+    return object;
+  }
+
+  /**
+   * Returns the index of the column corresponding to the column name.
+   *
+   * @param columnName The column name.
+   * @return The index of the column.
+   * @throws NullPointerException If the {@code columnName} parameter is {@code null}.
+   * @throws AssertJDBException If the column does not exist.
+   */
+  private int getColumnIndex(String columnName) {
+    if (columnName == null) {
+      throw new NullPointerException("Column name must be not null");
+    }
+    int index = getColumnsNameList().indexOf(columnName.toUpperCase());
+    if (index == -1) {
+      throw new AssertJDBException("Column <%s> does not exist", columnName);
+    }
+    return index;
+  }
+
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
@@ -368,9 +1237,10 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   }
 
   /**
-   * Returns the values of the column corresponding to the column name.
+   * Returns the values of the column corresponding to the column index.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getRowsList()}.<br>
+   * The list returned is a read-only view on the values of the rows.<br>
+   * The access to the values of the list calls {@link #getRowsList()}.<br>
    * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
    * database by calling the {@link #load()} private method.
    * </p>
@@ -380,27 +1250,63 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
-  private List<Value> getValuesList(int index) {
-    List<Value> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
-    }
+  private List<Value> getValuesList(final int index) {
+    // The values are not copied : the list is a view on the values in the rows
+    // and the rows are loaded at the first access to the values
+    return new AbstractList<Value>() {
+      @Override
+      public Value get(int rowIndex) {
+        return getRowsList().get(rowIndex).getColumnValue(index);
+      }
 
-    return valuesList;
+      @Override
+      public int size() {
+        return getRowsList().size();
+      }
+    };
   }
 
   /**
    * Returns the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * The row is searched with a hash index on the primary keys values (built at the first call).
+   * </p>
    * 
    * @param pksValues The primary keys values.
    * @return The {@link Row} with the same primary keys values.
    */
   public Row getRowFromPksValues(Value... pksValues) {
-    for (Row row : getRowsList()) {
+    int index = getRowIndexFromPksValues(pksValues);
+    if (index == -1) {
+      return null;
+    }
+    return getRowsList().get(index);
+  }
+
+  /**
+   * Returns the index of the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * The row is searched with a hash index on the primary keys values (built at the first call).
+   * </p>
+   * 
+   * @param pksValues The primary keys values.
+   * @return The index of the {@link Row} with the same primary keys values ({@code -1} if there is no row).
+   */
+  int getRowIndexFromPksValues(Value... pksValues) {
+    List<Row> rowsList = getRowsList();
+    if (pksIndex == null) {
+      pksIndex = new PksIndex(rowsList);
+    }
+    if (pksIndex.isUsableFor(pksValues)) {
+      return pksIndex.getRowIndex(rowsList, pksValues);
+    }
+    int index = 0;
+    for (Row row : rowsList) {
       if (row.hasPksValuesEqualTo(pksValues)) {
-        return row;
+        return index;
       }
+      index++;
     }
-    return null;
+    return -1;
   }
 }
@@ -14,7 +14,6 @@ package org.assertj.db.type;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
@@ -41,6 +40,10 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
    * Data source.
    */
   private DataSource dataSource;
+  /**
+   * Cache of the metadata of the database ({@code null} if the metadata are read each time).
+   */
+  private MetaDataCache metaDataCache;
 
   /**
    * Default constructor.
@@ -126,6 +129,28 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     return myself;
   }
 
+  /**
+   * Returns the cache of the metadata of the database.
+   *
+   * @see #setMetaDataCache(MetaDataCache)
+   * @return The cache of the metadata ({@code null} if the metadata are read each time).
+   */
+  public MetaDataCache getMetaDataCache() {
+    return metaDataCache;
+  }
+
+  /**
+   * Sets the cache of the metadata of the database.
+   *
+   * @see #getMetaDataCache()
+   * @param metaDataCache The cache of the metadata ({@code null} to read the metadata each time).
+   * @return The actual instance.
+   */
+  public D setMetaDataCache(MetaDataCache metaDataCache) {
+    this.metaDataCache = metaDataCache;
+    return myself;
+  }
+
   /**
    * Returns a {@link Connection} from a {@link DataSource} or from a {@link Source}.
    * 
@@ -141,7 +166,7 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     if (dataSource != null) {
       return dataSource.getConnection();
     } else {
-      return DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+      return source.getConnection();
     }
   }
 
@@ -14,13 +14,19 @@ package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.ChangeComparator;
+import org.assertj.db.util.RowComparator;
 
 import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.db.type.Change.*;
 
@@ -30,7 +36,7 @@ import static org.assertj.db.type.Change.*;
  * @author Régis Pouiller
  * 
  */
-public class Changes extends AbstractDbElement<Changes> {
+public class Changes extends AbstractDbElement<Changes> implements AutoCloseable {
 
   /**
    * The list of the tables.
@@ -60,6 +66,43 @@ public class Changes extends AbstractDbElement<Changes> {
    * The list of the changes.
    */
   private List<Change> changesList;
+  /**
+   * The maximum number of tables loaded at the same time (so the maximum number of simultaneous connections).
+   */
+  private int parallelism = 1;
+  /**
+   * If the rows at end point are compared during the loading (only the changed rows are kept in memory).
+   */
+  private boolean streaming;
+  /**
+   * If the checksums of the rows are compared at end point before loading and comparing the rows.
+   */
+  private boolean usingChecksums;
+  /**
+   * The checksums of the data at start point (computed if the checksums are used).
+   */
+  private final Map<AbstractDbData<?>, List<Object>> checksumsMap =
+      Collections.synchronizedMap(new IdentityHashMap<AbstractDbData<?>, List<Object>>());
+  /**
+   * If the database can compute the hashes of the rows ({@code null} if it is not known yet).
+   */
+  private volatile Boolean hashingInDatabase;
+  /**
+   * If the changes on the tables are captured with triggers.
+   */
+  private boolean capturingByTriggers;
+  /**
+   * The capture with triggers in progress (or finished).
+   */
+  private TriggerCapture triggerCapture;
+  /**
+   * The budget of memory for the rows at start point and at end point (in bytes, {@code 0} if there is no budget).
+   */
+  private long heapBudget;
+  /**
+   * The estimated memory used by the rows kept in memory since the start point.
+   */
+  private final AtomicLong usedHeap = new AtomicLong();
 
   /**
    * Constructor.
@@ -115,6 +158,7 @@ public class Changes extends AbstractDbElement<Changes> {
    * @return {@code this} actual instance.
    */
   public Changes setTables(Table... tables) {
+    cancelTriggerCapture();
     request = null;
     requestAtStartPoint = null;
     requestAtEndPoint = null;
@@ -153,6 +197,7 @@ public class Changes extends AbstractDbElement<Changes> {
     if (request == null) {
       throw new NullPointerException("The request must be not null");
     }
+    cancelTriggerCapture();
     tablesList = null;
     tablesAtStartPointList = null;
     tablesAtEndPointList = null;
@@ -172,6 +217,188 @@ public class Changes extends AbstractDbElement<Changes> {
     return request;
   }
 
+  /**
+   * Returns the maximum number of tables loaded at the same time at start point and at end point.
+   *
+   * @return The maximum number of tables loaded at the same time.
+   * @see #setParallelism(int)
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of tables loaded at the same time at start point and at end point.
+   * <p>
+   * Each table loaded uses its own connection, so it is also the maximum number of simultaneous connections.
+   * The default value is {@code 1} (the tables are loaded one after another).
+   * Whatever the value, the order of the tables (and so the order of the changes) is the same.
+   * </p>
+   *
+   * @param parallelism The maximum number of tables loaded at the same time (must be at least {@code 1}).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code parallelism} is less than {@code 1}.
+   * @see #getParallelism()
+   */
+  public Changes setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be at least 1");
+    }
+    this.parallelism = parallelism;
+    return myself;
+  }
+
+  /**
+   * Returns if the rows at end point are compared with the rows at start point during the loading.
+   *
+   * @return {@code true} if the rows at end point are compared during the loading, {@code false} otherwise.
+   * @see #setStreaming(boolean)
+   */
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * Sets if the rows at end point are compared with the rows at start point during the loading.
+   * <p>
+   * With this mode, the rows at end point are read in the order of the primary keys ({@code ORDER BY} on the primary
+   * keys) and each row is merged with the rows at start point, which are sorted in the same order : a row at end point
+   * is kept in memory only if it is created or modified, and the rows at start point are read only once, one after the
+   * other. So the memory used at end point depends of the number of changes and not of the size of the data.<br>
+   * The consequence is that the {@link Table}s at end point (or the {@link Request} at end point) only contain the
+   * created and the modified rows.
+   * </p>
+   * <p>
+   * This mode is used only on the data with primary keys at start point. The changes found are the same than without
+   * this mode : if the database does not sort the primary keys values like Java (for example the texts with another
+   * collation), the rows at start point are found with an index of their primary keys values. The default value is
+   * {@code false}.
+   * </p>
+   * <p>
+   * The rows at start point are loaded at start point and they are kept until the end point. So to compare data which
+   * are larger than the memory, this mode must be combined with a budget of memory (see {@link #setHeapBudget(long)}) :
+   * the rows at start point are then written in a temporary file, sorted, and the merge reads them from this file.
+   * </p>
+   *
+   * @param streaming {@code true} if the rows at end point are compared during the loading.
+   * @return {@code this} actual instance.
+   * @see #isStreaming()
+   */
+  public Changes setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    return myself;
+  }
+
+  /**
+   * Returns if the checksums of the rows are compared at end point before loading and comparing the rows.
+   *
+   * @return {@code true} if the checksums are used, {@code false} otherwise.
+   * @see #setUsingChecksums(boolean)
+   */
+  public boolean isUsingChecksums() {
+    return usingChecksums;
+  }
+
+  /**
+   * Sets if the checksums of the rows are compared at end point before loading and comparing the rows.
+   * <p>
+   * With this mode, a checksum of each data (the number of rows and sums of hashes of the rows, which do not depend of
+   * the order of the rows) is computed in the database at start point and at end point, with a request of aggregates
+   * which does not read the rows. If the checksum is the same than at start point, the data are unchanged : the rows
+   * are not loaded at end point (they are the rows at start point) and they are not compared. Otherwise the rows are
+   * loaded and compared.
+   * </p>
+   * <p>
+   * The hashes can only be computed in a H2 database : with the other databases, the rows are always loaded at end
+   * point. There is no checksum for the start point read from a snapshot (see {@link #setStartPointFrom(InputStream)}).
+   * </p>
+   * <p>
+   * This mode is useful when most of the data are unchanged. The default value is {@code false}.
+   * </p>
+   *
+   * @param usingChecksums {@code true} if the checksums are used.
+   * @return {@code this} actual instance.
+   * @see #isUsingChecksums()
+   */
+  public Changes setUsingChecksums(boolean usingChecksums) {
+    this.usingChecksums = usingChecksums;
+    return myself;
+  }
+
+  /**
+   * Returns if the changes on the tables are captured with triggers.
+   *
+   * @return {@code true} if the changes are captured with triggers, {@code false} otherwise.
+   * @see #setCapturingByTriggers(boolean)
+   */
+  public boolean isCapturingByTriggers() {
+    return capturingByTriggers;
+  }
+
+  /**
+   * Sets if the changes on the tables are captured with triggers.
+   * <p>
+   * With this mode, {@link #setStartPointNow()} does not read the tables but creates an audit table and triggers in
+   * the database for each table. The triggers note the rows inserted, updated and deleted. {@link #setEndPointNow()}
+   * reads the audit tables to build the changes and drops the objects created. So the cost depends of the number of
+   * changes and not of the size of the tables.<br>
+   * The consequence is that the {@link Table}s at start point and at end point only contain the changed rows. An end
+   * point can be set only once after each start point.
+   * </p>
+   * <p>
+   * This mode is possible on H2 and HSQLDB and only on tables (a {@link Request} is read like without this mode). The
+   * user must be allowed to create tables, sequences and triggers. The default value is {@code false}.<br>
+   * If the end point may not be set, {@link #close()} must be called to drop the objects created in the database.
+   * </p>
+   *
+   * @param capturingByTriggers {@code true} if the changes are captured with triggers.
+   * @return {@code this} actual instance.
+   * @see #isCapturingByTriggers()
+   */
+  public Changes setCapturingByTriggers(boolean capturingByTriggers) {
+    this.capturingByTriggers = capturingByTriggers;
+    return myself;
+  }
+
+  /**
+   * Returns the budget of memory for the rows at start point and at end point.
+   *
+   * @return The budget of memory in bytes ({@code 0} if there is no budget).
+   * @see #setHeapBudget(long)
+   */
+  public long getHeapBudget() {
+    return heapBudget;
+  }
+
+  /**
+   * Sets the budget of memory for the rows at start point and at end point.
+   * <p>
+   * The memory used by the rows is estimated during the loading. When the budget is exceeded, the rows of the data
+   * loaded are written in a temporary file (mapped in memory) instead of being kept in memory. Each access to a row
+   * written in the file decodes it again (so the same row is not always the same instance).<br>
+   * Only the usual values (texts, numbers, booleans, bytes, dates, times and UUIDs) can be written in the file : if a
+   * data has another value (for example an array or a type specific to a driver), all its rows are kept in
+   * memory.<br>
+   * The rows at end point which are only compared during the loading (in streaming mode) are not concerned.
+   * </p>
+   * <p>
+   * The budget is an estimation and not a strict limit. The default value is {@code 0} (no budget : all the rows are
+   * kept in memory).
+   * </p>
+   *
+   * @param heapBudget The budget of memory in bytes ({@code 0} if there is no budget).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code heapBudget} is negative.
+   * @see #getHeapBudget()
+   */
+  public Changes setHeapBudget(long heapBudget) {
+    if (heapBudget < 0) {
+      throw new IllegalArgumentException("heapBudget must be positive or 0");
+    }
+    this.heapBudget = heapBudget;
+    return myself;
+  }
+
   /**
    * Returns the list of the {@link Table}s at start point.
    * 
@@ -225,6 +452,9 @@ public class Changes extends AbstractDbElement<Changes> {
     if (elementToCopy.getDataSource() != null) {
       element.setDataSource(elementToCopy.getDataSource());
     }
+    if (elementToCopy.getMetaDataCache() != null) {
+      element.setMetaDataCache(elementToCopy.getMetaDataCache());
+    }
   }
 
   /**
@@ -236,6 +466,7 @@ public class Changes extends AbstractDbElement<Changes> {
   private static Request getDuplicatedRequest(Request request) {
     Request r = new Request();
     copyElement(request, r);
+    r.setLoadOptions(request.getLoadOptions().withoutSample());
     return r.setRequest(request.getRequest()).setParameters(request.getParameters())
         .setPksName(request.getPksNameList().toArray(new String[request.getPksNameList().size()]));
   }
@@ -249,8 +480,330 @@ public class Changes extends AbstractDbElement<Changes> {
   private static Table getDuplicatedTable(Table table) {
     Table t = new Table();
     copyElement(table, t);
+    t.setLoadOptions(table.getLoadOptions().withoutSample());
     return t.setName(table.getName()).setColumnsToCheck(table.getColumnsToCheck())
-        .setColumnsToExclude(table.getColumnsToExclude());
+        .setColumnsToExclude(table.getColumnsToExclude()).setVersionColumnName(table.getVersionColumnName());
+  }
+
+  /**
+   * Returns the duplications of the tables, with the rows loaded.
+   * <p>
+   * If the parallelism is greater than {@code 1}, the tables are loaded at the same time (with at most
+   * {@link #getParallelism()} tables loaded at the same time). The order of the tables is kept.
+   * </p>
+   * <p>
+   * At end point, the tables can be unchanged (if the checksums are used) or only the changed rows can be kept (in
+   * streaming mode).
+   * </p>
+   *
+   * @param tablesAtStartPointList The list of the tables at start point if the tables are loaded at end point
+   *          ({@code null} at start point).
+   * @return The list of the tables loaded.
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the loading.
+   */
+  private List<Table> getLoadedTables(List<Table> tablesAtStartPointList) {
+    final List<Table> tablesAtStartPointArrayList =
+        tablesAtStartPointList == null ? null : new ArrayList<>(tablesAtStartPointList);
+    List<Table> loadedTablesList = new LinkedList<>();
+    if (parallelism == 1 || tablesList.size() <= 1) {
+      for (int index = 0; index < tablesList.size(); index++) {
+        Table tableAtStartPoint = tablesAtStartPointArrayList == null ? null : tablesAtStartPointArrayList.get(index);
+        loadedTablesList.add(getLoadedTable(tablesList.get(index), tableAtStartPoint));
+      }
+      return loadedTablesList;
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, tablesList.size()));
+    try {
+      List<Future<Table>> futuresList = new ArrayList<>();
+      for (int index = 0; index < tablesList.size(); index++) {
+        final Table table = tablesList.get(index);
+        final Table tableAtStartPoint =
+            tablesAtStartPointArrayList == null ? null : tablesAtStartPointArrayList.get(index);
+        futuresList.add(executorService.submit(new Callable<Table>() {
+          @Override
+          public Table call() {
+            return getLoadedTable(table, tableAtStartPoint);
+          }
+        }));
+      }
+      // The futures are got in the order of the tables
+      for (Future<Table> future : futuresList) {
+        loadedTablesList.add(future.get());
+      }
+      return loadedTablesList;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertJDBException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new AssertJDBException(e);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the duplication of the table, with the rows loaded.
+   * <p>
+   * At end point, if the checksums are used and if the table is not changed, the rows are not loaded but they are the
+   * same than at start point (see {@link #loadRowsAtEndPoint(AbstractDbData, AbstractDbData)}).<br>
+   * If the table has a version column and primary keys, only the rows inserted or updated since the start point are
+   * loaded (see {@link #getLoadedTableFromVersion(Table, Table, Object)}).
+   * </p>
+   *
+   * @param table The table to duplicate.
+   * @param tableAtStartPoint The table at start point if the table is loaded at end point ({@code null} at start
+   *          point).
+   * @return The table loaded.
+   */
+  private Table getLoadedTable(Table table, Table tableAtStartPoint) {
+    if (tableAtStartPoint != null && table.getVersionColumnName() != null
+        && tableAtStartPoint.getPksNameList().size() > 0) {
+      Object maxVersion = getMaxVersion(tableAtStartPoint, table.getVersionColumnName());
+      if (maxVersion != null) {
+        return getLoadedTableFromVersion(table, tableAtStartPoint, maxVersion);
+      }
+    }
+
+    Table t = getDuplicatedTable(table);
+    if (tableAtStartPoint != null) {
+      loadRowsAtEndPoint(tableAtStartPoint, t);
+    } else {
+      loadRowsAtStartPoint(t);
+    }
+    return t;
+  }
+
+  /**
+   * Returns the duplication of the table at end point, with the rows loaded from the version column.
+   * <p>
+   * Only the primary keys of the table (to find the deleted rows) and the rows with a version greater than or equal to
+   * the greatest version at start point (the inserted and updated rows) are read. The other rows are the same than at
+   * start point. In streaming mode, only the changed rows are kept.
+   * </p>
+   *
+   * @param table The table to duplicate.
+   * @param tableAtStartPoint The table at start point.
+   * @param maxVersion The greatest version at start point.
+   * @return The table loaded.
+   */
+  private Table getLoadedTableFromVersion(Table table, Table tableAtStartPoint, Object maxVersion) {
+    final ChangedRowsFilter changedRowsFilter = new ChangedRowsFilter(tableAtStartPoint, false);
+
+    // Read the primary keys to find the rows which are not deleted
+    List<String> pksNameList = tableAtStartPoint.getPksNameList();
+    Table pksTable = getDuplicatedTable(table).setColumnsToCheck(pksNameList.toArray(new String[pksNameList.size()]))
+        .setColumnsToExclude(null);
+    pksTable.setRowFilter(new RowFilter() {
+      @Override
+      public boolean accept(Row row) {
+        changedRowsFilter.find(row);
+        return false;
+      }
+    });
+    pksTable.getRowsList();
+
+    // Read the rows inserted or updated since the start point
+    Table t = getDuplicatedTable(table).setCondition(table.getVersionColumnName() + " >= ?", maxVersion);
+    t.setRowFilter(changedRowsFilter);
+    t.getRowsList();
+    t.setCondition(null);
+    if (!streaming) {
+      t.setRowsList(getRebuiltRowsList(tableAtStartPoint, t.getRowsList(), changedRowsFilter));
+      t.setRowFilter(null);
+    }
+    return t;
+  }
+
+  /**
+   * Returns the rows at end point rebuilt from the rows at start point and the changed rows.
+   *
+   * @param dataAtStartPoint The data at start point.
+   * @param changedRowsList The changed rows (created or modified).
+   * @param changedRowsFilter The filter which found the rows at end point.
+   * @return The rows at end point.
+   */
+  private static List<Row> getRebuiltRowsList(AbstractDbData<?> dataAtStartPoint, List<Row> changedRowsList,
+      ChangedRowsFilter changedRowsFilter) {
+
+    Map<Integer, Row> modifiedRowsMap = new HashMap<>();
+    List<Row> createdRowsList = new ArrayList<>();
+    for (Row row : changedRowsList) {
+      int indexAtStartPoint = changedRowsFilter.getIndexAtStartPoint(row);
+      if (indexAtStartPoint == -1) {
+        createdRowsList.add(row);
+      } else {
+        modifiedRowsMap.put(indexAtStartPoint, row);
+      }
+    }
+
+    List<Row> rowsList = new ArrayList<>();
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    for (int index = 0; index < rowsAtStartPointList.size(); index++) {
+      if (changedRowsFilter.isFound(index)) {
+        Row modifiedRow = modifiedRowsMap.get(index);
+        rowsList.add(modifiedRow == null ? rowsAtStartPointList.get(index) : modifiedRow);
+      }
+    }
+    rowsList.addAll(createdRowsList);
+    // The rows are sorted like in a loading (so the created rows are at the same index)
+    Collections.sort(rowsList, RowComparator.INSTANCE);
+    return rowsList;
+  }
+
+  /**
+   * Returns the greatest version of the rows at start point.
+   *
+   * @param tableAtStartPoint The table at start point.
+   * @param versionColumnName The name of the version column.
+   * @return The greatest version ({@code null} if there is no version).
+   * @throws AssertJDBException If the version column does not exist or if the versions can not be compared.
+   */
+  private static Object getMaxVersion(Table tableAtStartPoint, String versionColumnName) {
+    if (!tableAtStartPoint.getColumnsNameList().contains(versionColumnName)) {
+      throw new AssertJDBException("Column <%s> does not exist in the table <%s>", versionColumnName,
+          tableAtStartPoint.getName());
+    }
+    Object maxVersion = null;
+    for (Row row : tableAtStartPoint.getRowsList()) {
+      Object version = row.getColumnValue(versionColumnName).getValue();
+      if (version != null && (maxVersion == null || compareVersions(versionColumnName, version, maxVersion) > 0)) {
+        maxVersion = version;
+      }
+    }
+    return maxVersion;
+  }
+
+  /**
+   * Compares two versions.
+   *
+   * @param versionColumnName The name of the version column.
+   * @param version The first version.
+   * @param otherVersion The second version.
+   * @return The result of the comparison (like {@link Comparable#compareTo(Object)}).
+   * @throws AssertJDBException If the versions can not be compared.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static int compareVersions(String versionColumnName, Object version, Object otherVersion) {
+    if (version instanceof Number && otherVersion instanceof Number) {
+      return new BigDecimal(version.toString()).compareTo(new BigDecimal(otherVersion.toString()));
+    }
+    if (version instanceof Comparable && version.getClass().equals(otherVersion.getClass())) {
+      return ((Comparable) version).compareTo(otherVersion);
+    }
+    throw new AssertJDBException("The values of the version column <%s> can not be compared", versionColumnName);
+  }
+
+  /**
+   * Loads the rows of the data at start point.
+   * <p>
+   * If the checksums are used, the checksum of the data is also computed in the database (see
+   * {@link #getChecksum(AbstractDbData, List)}) to be compared at end point.
+   * </p>
+   *
+   * @param data The data at start point (not loaded).
+   */
+  private void loadRowsAtStartPoint(AbstractDbData<?> data) {
+    loadRows(data);
+    if (usingChecksums) {
+      List<Object> checksum = getChecksum(data, data.getColumnsNameList());
+      if (checksum != null) {
+        checksumsMap.put(data, checksum);
+      }
+    }
+  }
+
+  /**
+   * Loads the rows of the data at end point.
+   * <p>
+   * If the checksums are used and if the checksum computed in the database is the same than at start point, the data
+   * are unchanged : the rows are not loaded and the rows at end point are the rows at start point (see
+   * {@link #setUsingChecksums(boolean)}). Otherwise the rows are loaded.
+   * </p>
+   *
+   * @param dataAtStartPoint The data at start point.
+   * @param dataAtEndPoint The data at end point (not loaded).
+   */
+  private void loadRowsAtEndPoint(AbstractDbData<?> dataAtStartPoint, AbstractDbData<?> dataAtEndPoint) {
+    List<Object> checksumAtStartPoint = checksumsMap.get(dataAtStartPoint);
+    if (checksumAtStartPoint != null
+        && checksumAtStartPoint.equals(getChecksum(dataAtEndPoint, dataAtStartPoint.getColumnsNameList()))) {
+      dataAtEndPoint.setColumnsNameList(dataAtStartPoint.getColumnsNameList());
+      dataAtEndPoint.setPksNameList(dataAtStartPoint.getPksNameList());
+      dataAtEndPoint.setRowsList(dataAtStartPoint.getRowsList());
+      return;
+    }
+    if (streaming && dataAtStartPoint.getPksNameList().size() > 0) {
+      browseChangedRows(dataAtStartPoint, dataAtEndPoint);
+    } else {
+      loadRows(dataAtEndPoint);
+    }
+  }
+
+  /**
+   * Returns the checksum of the data, computed in the database without loading the rows.
+   * <p>
+   * The checksum is the number of rows and two sums of hashes (on 32 bits) of the rows : so it does not depend of the
+   * order of the rows. The hash of a row is computed from the values of the columns converted in text (with their
+   * length, to separate them).
+   * </p>
+   * <p>
+   * Only H2 has a hash function which can be used in an aggregate. For the other databases (or if the request of
+   * aggregates is not supported, see {@link AbstractDbData#getAggregateValues(String...)}), there is no checksum and
+   * the rows are loaded at end point.
+   * </p>
+   *
+   * @param data The data (the rows are not loaded).
+   * @param columnsNameList The list of the columns name used to compute the hashes.
+   * @return The checksum ({@code null} if the database can not compute it).
+   */
+  private List<Object> getChecksum(AbstractDbData<?> data, List<String> columnsNameList) {
+    if (!isHashingInDatabase(data)) {
+      return null;
+    }
+    StringBuilder stringBuilder = new StringBuilder("STRINGTOUTF8(CONCAT(''");
+    for (String columnName : columnsNameList) {
+      String text = "CAST(" + columnName + " AS VARCHAR)";
+      stringBuilder.append(", COALESCE(LENGTH(").append(text).append(") || ':' || ").append(text).append(", '-')");
+    }
+    stringBuilder.append("))");
+    String row = stringBuilder.toString();
+    // The number of iterations of the hash function gives two different hashes
+    Object[] values = data.getAggregateValues("COUNT(*)",
+        "SUM(CAST(CAST(HASH('SHA256', " + row + ", 1) AS BINARY(4)) AS INT))",
+        "SUM(CAST(CAST(HASH('SHA256', " + row + ", 2) AS BINARY(4)) AS INT))");
+    return values == null ? null : Arrays.asList(values);
+  }
+
+  /**
+   * Returns if the database of the data can compute the hashes of the rows (see
+   * {@link #getChecksum(AbstractDbData, List)}).
+   * <p>
+   * The product name of the database is read once for the changes.
+   * </p>
+   *
+   * @param data The data.
+   * @return {@code true} if the database is H2, {@code false} otherwise.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  private boolean isHashingInDatabase(AbstractDbData<?> data) {
+    Boolean hashingInDatabase = this.hashingInDatabase;
+    if (hashingInDatabase == null) {
+      try (Connection connection = data.getConnection()) {
+        hashingInDatabase = "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+      this.hashingInDatabase = hashingInDatabase;
+    }
+    return hashingInDatabase;
   }
 
   /**
@@ -262,11 +815,29 @@ public class Changes extends AbstractDbElement<Changes> {
     if (request == null && tablesList == null) {
       try (Connection connection = getConnection()) {
         tablesList = new LinkedList<>();
-        DatabaseMetaData metaData = connection.getMetaData();
-        ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-            new String[] { "TABLE" });
-        while (resultSet.next()) {
-          String tableName = resultSet.getString("TABLE_NAME");
+        String catalog = getCatalog(connection);
+        String schema = getSchema(connection);
+        MetaDataCache metaDataCache = getMetaDataCache();
+        List<String> tablesNameList = null;
+        if (metaDataCache != null) {
+          tablesNameList = metaDataCache.get(this, MetaDataCache.TABLES, catalog, schema);
+        }
+        if (tablesNameList == null) {
+          tablesNameList = new ArrayList<>();
+          DatabaseMetaData metaData = connection.getMetaData();
+          ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" });
+          while (resultSet.next()) {
+            String tableName = resultSet.getString("TABLE_NAME");
+            // The audit tables of the captures with triggers in progress are not compared
+            if (!TriggerCapture.isAuditTableName(tableName)) {
+              tablesNameList.add(tableName);
+            }
+          }
+          if (metaDataCache != null) {
+            metaDataCache.put(this, MetaDataCache.TABLES, tablesNameList, catalog, schema);
+          }
+        }
+        for (String tableName : tablesNameList) {
           Table t = new Table().setName(tableName);
           copyElement(this, t);
           tablesList.add(t);
@@ -276,18 +847,135 @@ public class Changes extends AbstractDbElement<Changes> {
       }
     }
 
+    checksumsMap.clear();
     if (request != null) {
       tablesAtStartPointList = null;
+      usedHeap.set(0);
       requestAtStartPoint = getDuplicatedRequest(request);
-      requestAtStartPoint.getRowsList();
+      loadRowsAtStartPoint(requestAtStartPoint);
     } else {
       requestAtStartPoint = null;
-      tablesAtStartPointList = new LinkedList<>();
+      tablesAtStartPointList = null;
+      cancelTriggerCapture();
+      if (capturingByTriggers) {
+        List<Table> capturedTablesList = new ArrayList<>();
+        for (Table table : tablesList) {
+          Table t = getDuplicatedTable(table);
+          t.getColumnsNameList();
+          t.loadPksName();
+          capturedTablesList.add(t);
+        }
+        triggerCapture = new TriggerCapture(this, capturedTablesList);
+        triggerCapture.start();
+        tablesAtStartPointList = capturedTablesList;
+      } else {
+        usedHeap.set(0);
+        tablesAtStartPointList = getLoadedTables(null);
+      }
+    }
+    tablesAtEndPointList = null;
+    requestAtEndPoint = null;
+    changesList = null;
+
+    return myself;
+  }
+
+  /**
+   * Writes the start point in a snapshot (the tables or the request at start point, with their rows).
+   * <p>
+   * The snapshot can be read with {@link #setStartPointFrom(InputStream)}, for example in another JVM, instead of
+   * reading the database at start point. The output stream is flushed but not closed.
+   * </p>
+   *
+   * @param outputStream The output stream.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code outputStream} is {@code null}.
+   * @throws AssertJDBException If the start point is not set, if the changes are captured with triggers or if the
+   *           snapshot can not be written.
+   * @see AbstractDbData#writeSnapshot(OutputStream)
+   * @since 1.1.0
+   */
+  public Changes writeStartPoint(OutputStream outputStream) {
+    if (outputStream == null) {
+      throw new NullPointerException("outputStream must be not null");
+    }
+    if (requestAtStartPoint == null && tablesAtStartPointList == null) {
+      throw new AssertJDBException("Start point must be set before");
+    }
+    if (triggerCapture != null) {
+      throw new AssertJDBException("The start point can not be written when the changes are captured with triggers");
+    }
+    if (requestAtStartPoint != null) {
+      SnapshotCodec.write(outputStream, Collections.singletonList(requestAtStartPoint));
+    } else {
+      SnapshotCodec.write(outputStream, tablesAtStartPointList);
+    }
+    return myself;
+  }
+
+  /**
+   * Sets the start point for comparison from a snapshot written by {@link #writeStartPoint(OutputStream)}.
+   * <p>
+   * The database is not read. If the tables are not set (and if there is no request), the tables are the tables of the
+   * snapshot. Otherwise the snapshot must contain each table (or the request) on which are the comparison, with the
+   * same columns to check and to exclude (or the same parameters). The input stream is not closed, but the bytes after
+   * the snapshot can be read too.
+   * </p>
+   *
+   * @param inputStream The input stream.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code inputStream} is {@code null}.
+   * @throws AssertJDBException If the snapshot can not be read or if it does not correspond to the comparison.
+   * @since 1.1.0
+   */
+  public Changes setStartPointFrom(InputStream inputStream) {
+    if (inputStream == null) {
+      throw new NullPointerException("inputStream must be not null");
+    }
+    List<AbstractDbData<?>> dataList = SnapshotCodec.read(inputStream);
+    cancelTriggerCapture();
+    usedHeap.set(0);
+    checksumsMap.clear();
+
+    if (request != null) {
+      if (dataList.size() != 1 || !(dataList.get(0) instanceof Request)
+          || !request.getRequest().equals(((Request) dataList.get(0)).getRequest())) {
+        throw new AssertJDBException("The snapshot does not contain the request <%s>", request.getRequest());
+      }
+      SnapshotCodec.checkCorrespondence(request, dataList.get(0));
+      tablesAtStartPointList = null;
+      requestAtStartPoint = (Request) dataList.get(0);
+      copyElement(this, requestAtStartPoint);
+    } else {
+      Map<String, Table> tablesMap = new LinkedHashMap<>();
+      for (AbstractDbData<?> data : dataList) {
+        if (!(data instanceof Table)) {
+          throw new AssertJDBException("The snapshot does not contain only tables");
+        }
+        tablesMap.put(((Table) data).getName().toUpperCase(), (Table) data);
+      }
+      if (tablesList == null) {
+        tablesList = new LinkedList<>();
+        for (Table table : tablesMap.values()) {
+          Table t = new Table().setName(table.getName()).setColumnsToCheck(table.getColumnsToCheck())
+              .setColumnsToExclude(table.getColumnsToExclude());
+          copyElement(this, t);
+          tablesList.add(t);
+        }
+      }
+      List<Table> loadedTablesList = new LinkedList<>();
       for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtStartPointList.add(t);
+        Table t = tablesMap.get(table.getName().toUpperCase());
+        if (t == null) {
+          throw new AssertJDBException("The snapshot does not contain the table <%s>", table.getName());
+        }
+        SnapshotCodec.checkCorrespondence(table, t);
+        copyElement(this, t);
+        t.setVersionColumnName(table.getVersionColumnName());
+        loadedTablesList.add(t);
       }
+      requestAtStartPoint = null;
+      tablesAtStartPointList = loadedTablesList;
     }
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
@@ -309,20 +997,160 @@ public class Changes extends AbstractDbElement<Changes> {
 
     if (requestAtStartPoint != null) {
       requestAtEndPoint = getDuplicatedRequest(request);
-      requestAtEndPoint.getRowsList();
-    } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
+      loadRowsAtEndPoint(requestAtStartPoint, requestAtEndPoint);
+    } else if (triggerCapture != null) {
+      if (triggerCapture.isFinished()) {
+        throw new AssertJDBException("Start point must be set before (the changes are captured with triggers)");
       }
+      List<Table> capturedTablesList = getTablesAtEndPointForCapture();
+      triggerCapture.finish(capturedTablesList);
+      tablesAtEndPointList = capturedTablesList;
+    } else {
+      tablesAtEndPointList = getLoadedTables(tablesAtStartPointList);
     }
     changesList = null;
 
     return myself;
   }
 
+  /**
+   * Drops the objects created in the database by the capture with triggers in progress (if there is one).
+   * <p>
+   * The objects are dropped by {@link #setEndPointNow()}, but this method must be called (for example in a
+   * {@code finally} block) if the end point may not be set, like when a test fails before. The objects left in the
+   * database are also dropped at the end of the JVM, or at the start of a capture one day after (so the captures in
+   * progress in other JVMs on the same database are not concerned).
+   * </p>
+   *
+   * @see #setCapturingByTriggers(boolean)
+   * @since 1.1.0
+   */
+  @Override
+  public void close() {
+    cancelTriggerCapture();
+  }
+
+  /**
+   * Cancels the capture with triggers in progress (the objects created in the database are dropped).
+   */
+  private void cancelTriggerCapture() {
+    if (triggerCapture != null) {
+      triggerCapture.cancel();
+      triggerCapture = null;
+    }
+  }
+
+  /**
+   * Returns the duplications of the tables at end point, without the rows, for the capture with triggers.
+   *
+   * @return The list of the tables.
+   */
+  private List<Table> getTablesAtEndPointForCapture() {
+    List<Table> tablesList = new ArrayList<>();
+    for (Table table : tablesAtStartPointList) {
+      tablesList.add(getDuplicatedTable(table));
+    }
+    return tablesList;
+  }
+
+  /**
+   * Loads the rows of the data.
+   * <p>
+   * If there is a budget of memory and if the data have no other filter, the rows are written in a temporary file
+   * when the budget is exceeded.
+   * </p>
+   *
+   * @param data The data (not loaded).
+   * @see #setHeapBudget(long)
+   */
+  private void loadRows(AbstractDbData<?> data) {
+    if (heapBudget > 0 && data.getRowFilter() == null) {
+      SpillingRowFilter spillingRowFilter = new SpillingRowFilter(data, heapBudget, usedHeap);
+      data.setRowFilter(spillingRowFilter);
+      boolean loaded = false;
+      try {
+        data.getRowsList();
+        data.setRowsList(spillingRowFilter.getRowsList());
+        loaded = true;
+      } finally {
+        if (!loaded) {
+          // The temporary file is deleted if the loading fails
+          spillingRowFilter.discard();
+          data.setRowsList(null);
+        }
+        data.setRowFilter(null);
+      }
+    } else {
+      data.getRowsList();
+    }
+  }
+
+  /**
+   * Browses the rows of the data at end point and keeps only the rows created or modified (in streaming mode).
+   * <p>
+   * The rows at end point are read in the order of the primary keys (see {@link AbstractDbData#browseRows(RowVisitor)})
+   * and they are merged with the rows at start point (see {@link ChangedRowsFilter}) : only the changed rows are kept
+   * in memory.
+   * </p>
+   *
+   * @param dataAtStartPoint The data at start point (with primary keys).
+   * @param dataAtEndPoint The data at end point (not loaded).
+   */
+  private static void browseChangedRows(AbstractDbData<?> dataAtStartPoint, AbstractDbData<?> dataAtEndPoint) {
+    final ChangedRowsFilter changedRowsFilter = new ChangedRowsFilter(dataAtStartPoint, true);
+    final List<Row> changedRowsList = new ArrayList<>();
+    dataAtEndPoint.browseRows(new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        if (changedRowsFilter.accept(row)) {
+          changedRowsList.add(row);
+        }
+      }
+    });
+    Collections.sort(changedRowsList, RowComparator.INSTANCE);
+    dataAtEndPoint.setPksNameList(dataAtStartPoint.getPksNameList());
+    dataAtEndPoint.setRowsList(changedRowsList);
+    dataAtEndPoint.setRowFilter(changedRowsFilter);
+  }
+
+  /**
+   * Returns the list of changes for the data when the data at end point only contain the changed rows.
+   *
+   * @param dataName The name of the data.
+   * @param dataAtStartPoint The data at start point.
+   * @param dataAtEndPoint The data at end point (loaded with the filter).
+   * @param filter The filter used during the loading of the data at end point.
+   * @return The list of changes for the data.
+   */
+  private List<Change> getChangesListFromChangedRows(String dataName, AbstractDbData<?> dataAtStartPoint,
+      AbstractDbData<?> dataAtEndPoint, ChangedRowsFilter filter) {
+
+    List<Change> changesList = new ArrayList<>();
+
+    // List the created and modified rows : all the rows at end point are changed
+    for (Row row : dataAtEndPoint.getRowsList()) {
+      Row rowAtStartPoint = filter.getRowAtStartPoint(row);
+      if (rowAtStartPoint == null) {
+        Change change = createCreationChange(dataAtEndPoint.getDataType(), dataName, row);
+        changesList.add(change);
+      } else {
+        Change change = createModificationChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint, row);
+        changesList.add(change);
+      }
+    }
+    // List the deleted rows : the row is not found at the end point
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    for (int index = 0; index < rowsAtStartPointList.size(); index++) {
+      if (!filter.isFound(index)) {
+        Row row = rowsAtStartPointList.get(index);
+        Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, row);
+        changesList.add(change);
+      }
+    }
+
+    return changesList;
+  }
+
   /**
    * Returns the list of changes for the data when there have primary keys.
    * 
@@ -365,6 +1193,10 @@ public class Changes extends AbstractDbElement<Changes> {
 
   /**
    * Returns the list of changes for the data when there is no primary key.
+   * <p>
+   * The rows at start point are put in a multiset (indexed by the hash of the values, see {@link Row#getHash64()}) and
+   * each row at end point consumes an equal row in the multiset. So the duplicate rows are counted exactly.
+   * </p>
    * 
    * @param dataName The name of the data.
    * @param dataAtStartPoint The data at start point.
@@ -376,42 +1208,47 @@ public class Changes extends AbstractDbElement<Changes> {
 
     List<Change> changesList = new ArrayList<>();
 
+    // Multiset of the indexes of the rows at start point which are not matched yet
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    Map<Long, List<Integer>> indexesAtStartPointMap = new HashMap<>();
+    for (int index = 0; index < rowsAtStartPointList.size(); index++) {
+      long hash = rowsAtStartPointList.get(index).getHash64();
+      List<Integer> indexesList = indexesAtStartPointMap.get(hash);
+      if (indexesList == null) {
+        indexesList = new LinkedList<>();
+        indexesAtStartPointMap.put(hash, indexesList);
+      }
+      indexesList.add(index);
+    }
+
     // List the created rows : the row is not present at the start point
-    List<Row> rowsAtStartPointList = new ArrayList<>(dataAtStartPoint.getRowsList());
+    BitSet matchedIndexesSet = new BitSet();
     for (Row rowAtEndPoint : dataAtEndPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtStartPoint : rowsAtStartPointList) {
-        if (rowAtEndPoint.hasValues(rowAtStartPoint)) {
-          index = index1;
-          break;
+      int matchedIndex = -1;
+      List<Integer> indexesList = indexesAtStartPointMap.get(rowAtEndPoint.getHash64());
+      if (indexesList != null) {
+        Iterator<Integer> iterator = indexesList.iterator();
+        while (iterator.hasNext() && matchedIndex == -1) {
+          int index = iterator.next();
+          if (rowAtEndPoint.hasValues(rowsAtStartPointList.get(index))) {
+            matchedIndex = index;
+            iterator.remove();
+          }
         }
-        index1++;
       }
-      if (index == -1) {
+      if (matchedIndex == -1) {
         Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint);
         changesList.add(change);
       } else {
-        rowsAtStartPointList.remove(index);
+        matchedIndexesSet.set(matchedIndex);
       }
     }
     // List the deleted rows : the row is not present at the end point
-    List<Row> rowsAtEndPointList = new ArrayList<>(dataAtEndPoint.getRowsList());
-    for (Row rowAtStartPoint : dataAtStartPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtEndPoint : rowsAtEndPointList) {
-        if (rowAtStartPoint.hasValues(rowAtEndPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
+    for (int index = 0; index < rowsAtStartPointList.size(); index++) {
+      if (!matchedIndexesSet.get(index)) {
+        Row rowAtStartPoint = rowsAtStartPointList.get(index);
         Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint);
         changesList.add(change);
-      } else {
-        rowsAtEndPointList.remove(index);
       }
     }
 
@@ -429,7 +1266,13 @@ public class Changes extends AbstractDbElement<Changes> {
   private List<Change> getChangesList(String dataName, AbstractDbData<?> dataAtStartPoint,
       AbstractDbData<?> dataAtEndPoint) {
 
-    if (dataAtStartPoint.getPksNameList().size() > 0) {
+    RowFilter rowFilter = dataAtEndPoint.getRowFilter();
+    if (dataAtEndPoint.getRowsList() == dataAtStartPoint.getRowsList()) {
+      // The rows are the same only if the checksums are the same
+      return new ArrayList<>();
+    } else if (rowFilter instanceof ChangedRowsFilter) {
+      return getChangesListFromChangedRows(dataName, dataAtStartPoint, dataAtEndPoint, (ChangedRowsFilter) rowFilter);
+    } else if (dataAtStartPoint.getPksNameList().size() > 0) {
       return getChangesListWithPks(dataName, dataAtStartPoint, dataAtEndPoint);
     } else {
       return getChangesListWithoutPks(dataName, dataAtStartPoint, dataAtEndPoint);
@@ -525,4 +1368,175 @@ public class Changes extends AbstractDbElement<Changes> {
     changes.changesList = new ArrayList<>();
     return changes;
   }
+
+  /**
+   * Filter which keeps only the rows created or modified compared to the data at start point.
+   * <p>
+   * The rows at start point found during the loading are noted to list the deleted rows after.
+   * </p>
+   * <p>
+   * If the rows at end point are read in the order of the primary keys (see
+   * {@link Changes#browseChangedRows(AbstractDbData, AbstractDbData)}), the rows at start point (sorted in the same
+   * order) are found by merging : they are read once, one after the other. If the order of a row read is not the order
+   * of the rows at start point (for example if the database sorts the texts in another order than Java), the
+   * following rows are found with the index of the primary keys values (see
+   * {@link AbstractDbData#getRowIndexFromPksValues(Value...)}).
+   * </p>
+   */
+  private static class ChangedRowsFilter implements RowFilter {
+
+    /**
+     * The data at start point.
+     */
+    private final AbstractDbData<?> dataAtStartPoint;
+    /**
+     * The indexes of the rows at start point found at end point.
+     */
+    private final BitSet foundIndexesSet = new BitSet();
+    /**
+     * The indexes of the rows at start point corresponding to the rows kept ({@code -1} for the created rows).
+     */
+    private final Map<Row, Integer> indexesAtStartPointMap = new IdentityHashMap<>();
+    /**
+     * If the rows at start point are found by merging.
+     */
+    private boolean merging;
+    /**
+     * The last row at end point found by merging ({@code null} if there is no row).
+     */
+    private Row previousRow;
+    /**
+     * The index of the next row at start point to merge.
+     */
+    private int cursor;
+    /**
+     * The row at start point at the index of the cursor ({@code null} if it is not read yet).
+     */
+    private Row rowAtCursor;
+
+    /**
+     * Constructor.
+     *
+     * @param dataAtStartPoint The data at start point.
+     * @param merging {@code true} if the rows at end point are read in the order of the primary keys.
+     */
+    private ChangedRowsFilter(AbstractDbData<?> dataAtStartPoint, boolean merging) {
+      this.dataAtStartPoint = dataAtStartPoint;
+      this.merging = merging;
+    }
+
+    /**
+     * Returns the index of the row at start point with the same primary keys values than the row at end point.
+     *
+     * @param row The row at end point.
+     * @return The index of the row at start point ({@code -1} if there is no row with the same primary keys values).
+     */
+    private int getIndexAtStartPoint(Row row) {
+      Integer indexAtStartPoint = indexesAtStartPointMap.get(row);
+      if (indexAtStartPoint != null) {
+        return indexAtStartPoint;
+      }
+      List<String> pksNameList = dataAtStartPoint.getPksNameList();
+      Value[] pksValues = new Value[pksNameList.size()];
+      for (int index = 0; index < pksValues.length; index++) {
+        pksValues[index] = row.getColumnValue(pksNameList.get(index));
+      }
+      return dataAtStartPoint.getRowIndexFromPksValues(pksValues);
+    }
+
+    /**
+     * Returns the row at start point with the same primary keys values than the row at end point.
+     *
+     * @param row The row at end point.
+     * @return The row at start point ({@code null} if there is no row with the same primary keys values).
+     */
+    private Row getRowAtStartPoint(Row row) {
+      int index = getIndexAtStartPoint(row);
+      return index == -1 ? null : dataAtStartPoint.getRowsList().get(index);
+    }
+
+    /**
+     * Returns if the row at start point is found at end point.
+     *
+     * @param index The index of the row at start point.
+     * @return {@code true} if the row is found at end point, {@code false} otherwise.
+     */
+    private boolean isFound(int index) {
+      return foundIndexesSet.get(index);
+    }
+
+    /**
+     * Finds the row at start point with the same primary keys values than the row at end point and notes it as found.
+     *
+     * @param row The row at end point.
+     * @return The index of the row at start point ({@code -1} if there is no row with the same primary keys values).
+     */
+    private int find(Row row) {
+      int index = getIndexAtStartPoint(row);
+      if (index != -1) {
+        foundIndexesSet.set(index);
+      }
+      return index;
+    }
+
+    /**
+     * Finds the row at start point with the same primary keys values than the row at end point by merging, and notes
+     * it as found.
+     * <p>
+     * The rows at start point before the row at end point are skipped (they are deleted if they are not found by the
+     * index after). If the row at end point is not after the previous row or if the primary keys values can not be
+     * compared, the merging is stopped and the row is found with the index.
+     * </p>
+     *
+     * @param row The row at end point.
+     * @return The index of the row at start point ({@code -1} if there is no row with the same primary keys values).
+     */
+    private int merge(Row row) {
+      if (previousRow != null && RowComparator.INSTANCE.comparePksValues(previousRow, row) >= 0) {
+        merging = false;
+        return find(row);
+      }
+      previousRow = row;
+      List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+      while (cursor < rowsAtStartPointList.size()) {
+        if (rowAtCursor == null) {
+          rowAtCursor = rowsAtStartPointList.get(cursor);
+        }
+        int compare = RowComparator.INSTANCE.comparePksValues(rowAtCursor, row);
+        if (compare > 0) {
+          return -1;
+        }
+        if (compare == 0) {
+          if (!rowAtCursor.hasPksValuesEqualTo(row.getPksValues())) {
+            merging = false;
+            return find(row);
+          }
+          foundIndexesSet.set(cursor);
+          return cursor;
+        }
+        cursor++;
+        rowAtCursor = null;
+      }
+      return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accept(Row row) {
+      int index = merging ? merge(row) : find(row);
+      Row rowAtStartPoint;
+      if (index == -1) {
+        rowAtStartPoint = null;
+      } else if (index == cursor && rowAtCursor != null) {
+        rowAtStartPoint = rowAtCursor;
+      } else {
+        rowAtStartPoint = dataAtStartPoint.getRowsList().get(index);
+      }
+      if (rowAtStartPoint != null && rowAtStartPoint.hasValues(row)) {
+        return false;
+      }
+      indexesAtStartPointMap.put(row, index);
+      return true;
+    }
+  }
 }
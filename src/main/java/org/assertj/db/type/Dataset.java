@@ -0,0 +1,206 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * A dataset file in the CSV or TSV format, to compare with the rows of a {@link Table} or of a {@link Request}.
+ * <p>
+ * Each line of the file is a record with the values of a row, separated by the separator ({@code ','} by default,
+ * {@code '\t'} for a TSV file). A value can be quoted with {@code '"'} (to contain the separator, a quote doubled or
+ * a line break). The first line is the header with the columns name by default.<br>
+ * An unquoted value equal to the representation of {@code null} ({@code ""} by default) is a {@code null} value.
+ * </p>
+ * <p>
+ * The file is read with a {@link DatasetReader} which reads the records one by one, so the file is never fully in
+ * memory.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class Dataset {
+
+  /**
+   * The file.
+   */
+  private final File file;
+  /**
+   * The separator of the values.
+   */
+  private char separator = ',';
+  /**
+   * The charset of the file.
+   */
+  private Charset charset = Charset.forName("UTF-8");
+  /**
+   * If the first line is the header with the columns name.
+   */
+  private boolean header = true;
+  /**
+   * The representation of a {@code null} value.
+   */
+  private String nullValue = "";
+
+  /**
+   * Constructor.
+   *
+   * @param file The file (must be not {@code null}).
+   * @throws NullPointerException If {@code file} is {@code null}.
+   */
+  public Dataset(File file) {
+    if (file == null) {
+      throw new NullPointerException("file must be not null");
+    }
+    this.file = file;
+  }
+
+  /**
+   * Returns the file.
+   *
+   * @return The file.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Returns the separator of the values.
+   *
+   * @return The separator of the values.
+   * @see #setSeparator(char)
+   */
+  public char getSeparator() {
+    return separator;
+  }
+
+  /**
+   * Sets the separator of the values.
+   *
+   * @param separator The separator of the values (for example {@code '\t'} for a TSV file).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code separator} is a quote or a line break.
+   * @see #getSeparator()
+   */
+  public Dataset setSeparator(char separator) {
+    if (separator == '"' || separator == '\n' || separator == '\r') {
+      throw new IllegalArgumentException("separator can not be a quote or a line break");
+    }
+    this.separator = separator;
+    return this;
+  }
+
+  /**
+   * Returns the charset of the file.
+   *
+   * @return The charset of the file.
+   * @see #setCharset(Charset)
+   */
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * Sets the charset of the file.
+   *
+   * @param charset The charset of the file (must be not {@code null}).
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code charset} is {@code null}.
+   * @see #getCharset()
+   */
+  public Dataset setCharset(Charset charset) {
+    if (charset == null) {
+      throw new NullPointerException("charset must be not null");
+    }
+    this.charset = charset;
+    return this;
+  }
+
+  /**
+   * Returns if the first line is the header with the columns name.
+   *
+   * @return {@code true} if the first line is the header.
+   * @see #setHeader(boolean)
+   */
+  public boolean hasHeader() {
+    return header;
+  }
+
+  /**
+   * Sets if the first line is the header with the columns name.
+   * <p>
+   * With a header, the values are associated to the columns with their names. Without header, the values are in the
+   * order of the columns.
+   * </p>
+   *
+   * @param header {@code true} if the first line is the header.
+   * @return {@code this} actual instance.
+   * @see #hasHeader()
+   */
+  public Dataset setHeader(boolean header) {
+    this.header = header;
+    return this;
+  }
+
+  /**
+   * Returns the representation of a {@code null} value.
+   *
+   * @return The representation of a {@code null} value.
+   * @see #setNullValue(String)
+   */
+  public String getNullValue() {
+    return nullValue;
+  }
+
+  /**
+   * Sets the representation of a {@code null} value.
+   *
+   * @param nullValue The representation of a {@code null} value (must be not {@code null}).
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code nullValue} is {@code null}.
+   * @see #getNullValue()
+   */
+  public Dataset setNullValue(String nullValue) {
+    if (nullValue == null) {
+      throw new NullPointerException("nullValue must be not null");
+    }
+    this.nullValue = nullValue;
+    return this;
+  }
+
+  /**
+   * Opens a reader of the records of the file.
+   * <p>
+   * If there is a header, it is read during the opening.
+   * </p>
+   *
+   * @return The reader (must be closed after use).
+   * @throws AssertJDBException If the file can not be opened or read.
+   */
+  public DatasetReader openReader() {
+    try {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), charset));
+      return new DatasetReader(this, reader);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+}
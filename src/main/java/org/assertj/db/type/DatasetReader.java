@@ -0,0 +1,249 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader of the records of a {@link Dataset}.
+ * <p>
+ * The records are read one by one from a buffered reader : only the current record is in memory. The empty lines are
+ * ignored.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see Dataset#openReader()
+ * @since 1.1.0
+ */
+public class DatasetReader implements Closeable {
+
+  /**
+   * Indicates that there is no character read in advance.
+   */
+  private static final int NO_CHARACTER = -2;
+
+  /**
+   * The buffered reader of the file.
+   */
+  private final BufferedReader reader;
+  /**
+   * The separator of the values.
+   */
+  private final char separator;
+  /**
+   * The representation of a {@code null} value.
+   */
+  private final String nullValue;
+  /**
+   * The columns name of the header ({@code null} if there is no header).
+   */
+  private final String[] columnsNames;
+  /**
+   * The builder of the current value.
+   */
+  private final StringBuilder stringBuilder = new StringBuilder();
+  /**
+   * The values of the current record.
+   */
+  private final List<String> valuesList = new ArrayList<>();
+  /**
+   * The character read in advance (after a {@code '\r'}).
+   */
+  private int characterReadInAdvance = NO_CHARACTER;
+  /**
+   * The number of the current line.
+   */
+  private int lineNumber = 1;
+  /**
+   * The number of the line of the last record read.
+   */
+  private int recordLineNumber;
+
+  /**
+   * Constructor.
+   *
+   * @param dataset The dataset.
+   * @param reader  The buffered reader of the file (closed if the header can not be read).
+   * @throws IOException If the header can not be read.
+   */
+  DatasetReader(Dataset dataset, BufferedReader reader) throws IOException {
+    this.reader = reader;
+    separator = dataset.getSeparator();
+    nullValue = dataset.getNullValue();
+    if (dataset.hasHeader()) {
+      try {
+        String[] header = readRecord(false);
+        columnsNames = header == null ? new String[0] : header;
+      } catch (IOException | RuntimeException e) {
+        reader.close();
+        throw e;
+      }
+    } else {
+      columnsNames = null;
+    }
+  }
+
+  /**
+   * Returns the columns name of the header.
+   *
+   * @return The columns name ({@code null} if there is no header).
+   */
+  public String[] getColumnsNames() {
+    return columnsNames;
+  }
+
+  /**
+   * Returns the number of the line of the last record read (the first line is the line {@code 1}).
+   *
+   * @return The number of the line.
+   */
+  public int getLineNumber() {
+    return recordLineNumber;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The values of the record ({@code null} if there is no more record).
+   * @throws AssertJDBException If the file can not be read or if a quoted value is not closed.
+   */
+  public String[] readRecord() {
+    try {
+      return readRecord(true);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @param withNullValues If the values equal to the representation of {@code null} are {@code null}.
+   * @return The values of the record ({@code null} if there is no more record).
+   * @throws IOException If the file can not be read.
+   */
+  private String[] readRecord(boolean withNullValues) throws IOException {
+    int character = read();
+    while (character == '\r' || character == '\n') {
+      readLineBreak(character);
+      character = read();
+    }
+    if (character == -1) {
+      return null;
+    }
+
+    recordLineNumber = lineNumber;
+    valuesList.clear();
+    while (true) {
+      stringBuilder.setLength(0);
+      boolean quoted = character == '"';
+      if (quoted) {
+        character = readQuotedValue();
+      }
+      while (character != separator && character != '\r' && character != '\n' && character != -1) {
+        stringBuilder.append((char) character);
+        character = read();
+      }
+      String value = stringBuilder.toString();
+      valuesList.add(withNullValues && !quoted && value.equals(nullValue) ? null : value);
+      if (character != separator) {
+        break;
+      }
+      character = read();
+    }
+    if (character != -1) {
+      readLineBreak(character);
+    }
+    return valuesList.toArray(new String[valuesList.size()]);
+  }
+
+  /**
+   * Reads a quoted value (the opening quote is already read) in the builder.
+   *
+   * @return The character after the closing quote.
+   * @throws IOException If the file can not be read.
+   * @throws AssertJDBException If the quoted value is not closed.
+   */
+  private int readQuotedValue() throws IOException {
+    int startLineNumber = lineNumber;
+    while (true) {
+      int character = read();
+      if (character == -1) {
+        throw new AssertJDBException("The quoted value at line %s of the dataset is not closed", startLineNumber);
+      }
+      if (character == '"') {
+        character = read();
+        if (character != '"') {
+          return character;
+        }
+      } else if (character == '\r' || character == '\n') {
+        readLineBreak(character);
+        if (character == '\r' && characterReadInAdvance == NO_CHARACTER) {
+          // The line break is "\r\n"
+          stringBuilder.append('\r');
+          character = '\n';
+        }
+      }
+      stringBuilder.append((char) character);
+    }
+  }
+
+  /**
+   * Reads the end of a line break (a {@code '\n'} after a {@code '\r'}).
+   *
+   * @param character The first character of the line break.
+   * @throws IOException If the file can not be read.
+   */
+  private void readLineBreak(int character) throws IOException {
+    lineNumber++;
+    if (character == '\r') {
+      int next = read();
+      if (next != '\n') {
+        characterReadInAdvance = next;
+      }
+    }
+  }
+
+  /**
+   * Reads the next character.
+   *
+   * @return The character ({@code -1} at the end of the file).
+   * @throws IOException If the file can not be read.
+   */
+  private int read() throws IOException {
+    if (characterReadInAdvance != NO_CHARACTER) {
+      int character = characterReadInAdvance;
+      characterReadInAdvance = NO_CHARACTER;
+      return character;
+    }
+    return reader.read();
+  }
+}
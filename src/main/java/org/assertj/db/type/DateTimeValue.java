@@ -33,23 +33,9 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    */
   private final TimeValue time;
   /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
+   * The cache of the dates/times parsed by {@link #parse(String)}.
    */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+  private static final ParseCache<DateTimeValue> CACHE = new ParseCache<>(256);
 
   /**
    * Makes an instance of date/time value from a date with time at 00:00AM.
@@ -83,7 +69,15 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @return An instance of date/time value.
    */
   public static DateTimeValue parse(String dateTime) throws ParseException {
-    return new DateTimeValue(dateTime);
+    if (dateTime == null) {
+      throw new NullPointerException("date/time should be not null");
+    }
+    DateTimeValue dateTimeValue = CACHE.get(dateTime);
+    if (dateTimeValue == null) {
+      dateTimeValue = new DateTimeValue(dateTime);
+      CACHE.put(dateTime, dateTimeValue);
+    }
+    return dateTimeValue;
   }
 
   /**
@@ -151,14 +145,14 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
       throw new NullPointerException("date/time should be not null");
     }
 
-    if (dateTime.matches(DATE_FORMAT)) {
-      date = DateValue.parse(dateTime);
+    if (dateTime.length() == 10 && DateValue.isDate(dateTime, 0)) {
+      date = DateValue.parse(dateTime, 0);
       time = new TimeValue(0, 0);
-    } else if (dateTime.matches(TIME_FORMAT) || dateTime.matches(TIME_FORMAT_WITH_SECONDS)
-        || dateTime.matches(TIME_FORMAT_WITH_NANO)) {
+    } else if (DateValue.isDate(dateTime, 0) && dateTime.length() > 10 && dateTime.charAt(10) == 'T'
+        && TimeValue.isTime(dateTime, 11)) {
 
-      date = DateValue.parse(dateTime.substring(0, 10));
-      time = TimeValue.parse(dateTime.substring(11));
+      date = DateValue.parse(dateTime, 0);
+      time = TimeValue.parse(dateTime, 11);
     } else {
       throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
           + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
@@ -37,9 +37,9 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    */
   private final int year;
   /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
+   * The cache of the dates parsed by {@link #parse(String)}.
    */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
+  private static final ParseCache<DateValue> CACHE = new ParseCache<>(256);
 
   /**
    * Makes an instance of date value from a day of month, a month and an year.
@@ -62,7 +62,63 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @return An instance of date value.
    */
   public static DateValue parse(String date) throws ParseException {
-    return new DateValue(date);
+    if (date == null) {
+      throw new NullPointerException("date should be not null");
+    }
+    DateValue dateValue = CACHE.get(date);
+    if (dateValue == null) {
+      dateValue = new DateValue(date);
+      CACHE.put(date, dateValue);
+    }
+    return dateValue;
+  }
+
+  /**
+   * Returns the number written with the digits between two indexes of a {@code String}.
+   *
+   * @param string The {@code String}.
+   * @param start The index of the first digit.
+   * @param end The index after the last digit.
+   * @return The number ({@code -1} if one of the characters is not a digit).
+   */
+  static int parseDigits(String string, int start, int end) {
+    int number = 0;
+    for (int index = start; index < end; index++) {
+      char c = string.charAt(index);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  /**
+   * Returns if there is a date in {@code yyyy-mm-dd} format at an index of a {@code String}.
+   *
+   * @param string The {@code String}.
+   * @param start The index of the date.
+   * @return {@code true} if there is a date, {@code false} otherwise.
+   */
+  static boolean isDate(String string, int start) {
+    return string.length() >= start + 10
+           && parseDigits(string, start, start + 4) != -1
+           && string.charAt(start + 4) == '-'
+           && parseDigits(string, start + 5, start + 7) != -1
+           && string.charAt(start + 7) == '-'
+           && parseDigits(string, start + 8, start + 10) != -1;
+  }
+
+  /**
+   * Makes an instance of date value from a date in {@code yyyy-mm-dd} format at an index of a {@code String}.
+   *
+   * @param string The {@code String}.
+   * @param start The index of the date (checked with {@link #isDate(String, int)}).
+   * @return An instance of date value.
+   */
+  static DateValue parse(String string, int start) {
+    return new DateValue(parseDigits(string, start, start + 4), parseDigits(string, start + 5, start + 7),
+        parseDigits(string, start + 8, start + 10));
   }
 
   /**
@@ -123,10 +179,10 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
       throw new NullPointerException("date should be not null");
     }
 
-    if (date.matches(DATE_FORMAT)) {
-      year = Integer.parseInt(date.substring(0, 4));
-      month = Integer.parseInt(date.substring(5, 7));
-      dayOfTheMonth = Integer.parseInt(date.substring(8));
+    if (date.length() == 10 && isDate(date, 0)) {
+      year = parseDigits(date, 0, 4);
+      month = parseDigits(date, 5, 7);
+      dayOfTheMonth = parseDigits(date, 8, 10);
     } else {
       throw new ParseException("date must respect yyyy-mm-dd format", date.length());
     }
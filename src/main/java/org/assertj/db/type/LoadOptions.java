@@ -0,0 +1,262 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Options used during the loading of the data from the database (a {@link Table} or a {@link Request}).
+ * <p>
+ * These options are hints for the JDBC driver : the fetch size ({@link Statement#setFetchSize(int)}), the query
+ * timeout ({@link Statement#setQueryTimeout(int)}) and the read-only mode of the connection
+ * ({@link Connection#setReadOnly(boolean)}).<br>
+ * The statements are always created with the default type of the JDBC API :
+ * {@link java.sql.ResultSet#TYPE_FORWARD_ONLY} and {@link java.sql.ResultSet#CONCUR_READ_ONLY}.
+ * </p>
+ * <p>
+ * The loading can also keep only a sample of the rows ({@link #setSampleSize(int)}) : all the rows are read but only a
+ * fixed number of rows is kept in memory. When a sample is loaded, the assertions are on the rows of the sample (even
+ * the number of rows and the aggregates of the values which are computed by the database otherwise).
+ * </p>
+ * <p>
+ * The options used when no option is set on the data are the default options ({@link #getDefault()}). The default
+ * options can only be changed with {@link #setDefault(LoadOptions)} : {@link #getDefault()} returns a copy.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class LoadOptions {
+
+  /**
+   * The default options.
+   */
+  private static volatile LoadOptions defaultLoadOptions = new LoadOptions();
+
+  /**
+   * The fetch size ({@code 0} to let the driver choose).
+   */
+  private int fetchSize;
+  /**
+   * The query timeout in seconds ({@code 0} for no limit).
+   */
+  private int queryTimeout;
+  /**
+   * If the connection is set in read-only mode during the loading.
+   */
+  private boolean readOnly;
+  /**
+   * The size of the sample of the rows ({@code 0} to load all the rows).
+   */
+  private int sampleSize;
+  /**
+   * The seed of the random numbers used to choose the rows of the sample.
+   */
+  private long sampleSeed;
+
+  /**
+   * Returns a copy of the default options.
+   * <p>
+   * The modifications of the copy do not change the default options (see {@link #setDefault(LoadOptions)}).
+   * </p>
+   *
+   * @return A copy of the default options.
+   * @see #setDefault(LoadOptions)
+   */
+  public static LoadOptions getDefault() {
+    return defaultLoadOptions.copy();
+  }
+
+  /**
+   * Sets the default options.
+   * <p>
+   * The options in parameter are copied : their modifications after this call do not change the default options.
+   * </p>
+   *
+   * @param loadOptions The default options (must be not {@code null}).
+   * @throws NullPointerException If {@code loadOptions} is {@code null}.
+   * @see #getDefault()
+   */
+  public static void setDefault(LoadOptions loadOptions) {
+    if (loadOptions == null) {
+      throw new NullPointerException("loadOptions must be not null");
+    }
+    defaultLoadOptions = loadOptions.copy();
+  }
+
+  /**
+   * Returns the fetch size.
+   *
+   * @return The fetch size ({@code 0} to let the driver choose).
+   * @see #setFetchSize(int)
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Sets the fetch size.
+   *
+   * @param fetchSize The fetch size ({@code 0} to let the driver choose).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code fetchSize} is negative.
+   * @see #getFetchSize()
+   */
+  public LoadOptions setFetchSize(int fetchSize) {
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("fetchSize must be positive or zero");
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Returns the query timeout.
+   *
+   * @return The query timeout in seconds ({@code 0} for no limit).
+   * @see #setQueryTimeout(int)
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Sets the query timeout.
+   *
+   * @param queryTimeout The query timeout in seconds ({@code 0} for no limit).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code queryTimeout} is negative.
+   * @see #getQueryTimeout()
+   */
+  public LoadOptions setQueryTimeout(int queryTimeout) {
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("queryTimeout must be positive or zero");
+    }
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
+
+  /**
+   * Returns if the connection is set in read-only mode during the loading.
+   *
+   * @return {@code true} if the connection is set in read-only mode.
+   * @see #setReadOnly(boolean)
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Sets if the connection is set in read-only mode during the loading.
+   *
+   * @param readOnly {@code true} if the connection is set in read-only mode.
+   * @return {@code this} actual instance.
+   * @see #isReadOnly()
+   */
+  public LoadOptions setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
+  }
+
+  /**
+   * Returns the size of the sample of the rows kept during the loading.
+   *
+   * @return The size of the sample ({@code 0} if all the rows are loaded).
+   * @see #setSampleSize(int)
+   */
+  public int getSampleSize() {
+    return sampleSize;
+  }
+
+  /**
+   * Sets the size of the sample of the rows kept during the loading.
+   * <p>
+   * The rows of the sample are chosen randomly among all the rows read (with a reservoir), so the memory used by the
+   * loading does not depend of the number of rows of the table or the request. The sample is the same at each loading
+   * if the database returns the same rows in the same order (see {@link #setSampleSeed(long)}).
+   * </p>
+   *
+   * @param sampleSize The size of the sample ({@code 0} to load all the rows).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code sampleSize} is negative.
+   * @see #getSampleSize()
+   */
+  public LoadOptions setSampleSize(int sampleSize) {
+    if (sampleSize < 0) {
+      throw new IllegalArgumentException("sampleSize must be positive or zero");
+    }
+    this.sampleSize = sampleSize;
+    return this;
+  }
+
+  /**
+   * Returns the seed of the random numbers used to choose the rows of the sample.
+   *
+   * @return The seed.
+   * @see #setSampleSeed(long)
+   */
+  public long getSampleSeed() {
+    return sampleSeed;
+  }
+
+  /**
+   * Sets the seed of the random numbers used to choose the rows of the sample.
+   *
+   * @param sampleSeed The seed ({@code 0} by default).
+   * @return {@code this} actual instance.
+   * @see #getSampleSeed()
+   */
+  public LoadOptions setSampleSeed(long sampleSeed) {
+    this.sampleSeed = sampleSeed;
+    return this;
+  }
+
+  /**
+   * Returns a copy of the options.
+   *
+   * @return A copy of {@code this} actual instance.
+   */
+  LoadOptions copy() {
+    return new LoadOptions().setFetchSize(fetchSize).setQueryTimeout(queryTimeout).setReadOnly(readOnly)
+                            .setSampleSize(sampleSize).setSampleSeed(sampleSeed);
+  }
+
+  /**
+   * Returns the options without the sample (to load all the rows).
+   *
+   * @return {@code this} actual instance if there is no sample, a copy without the sample otherwise.
+   */
+  LoadOptions withoutSample() {
+    if (sampleSize == 0) {
+      return this;
+    }
+    return copy().setSampleSize(0);
+  }
+
+  /**
+   * Applies the options on the {@link Statement} in parameter.
+   *
+   * @param statement The {@link Statement}.
+   * @throws SQLException SQL Exception.
+   */
+  void applyTo(Statement statement) throws SQLException {
+    if (fetchSize > 0) {
+      statement.setFetchSize(fetchSize);
+    }
+    if (queryTimeout > 0) {
+      statement.setQueryTimeout(queryTimeout);
+    }
+  }
+}
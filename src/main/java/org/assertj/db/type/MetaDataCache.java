@@ -0,0 +1,251 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import javax.sql.DataSource;
+import java.util.*;
+
+/**
+ * A cache of the informations read in the metadata of the database : the names of the tables, the names of the
+ * primary keys of a table and the names of the columns of a request.
+ * <p>
+ * The informations are kept by {@link Source} (same URL and same user) or by {@link DataSource}. The cache is used by
+ * the elements on which it is set (with {@link AbstractDbElement#setMetaDataCache(MetaDataCache)}) and it can be
+ * shared by many elements.
+ * </p>
+ * <p>Example of use :</p>
+ * <pre><code class='java'>
+ * MetaDataCache metaDataCache = new MetaDataCache(60000);
+ * Table table = new Table(source, &quot;movie&quot;).setMetaDataCache(metaDataCache);
+ * Changes changes = new Changes(source).setMetaDataCache(metaDataCache);
+ * ...
+ * // After a change of the structure of the database
+ * metaDataCache.invalidate(source);
+ * </code></pre>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class MetaDataCache {
+
+  /**
+   * Kind of information : the names of the tables.
+   */
+  static final String TABLES = "TABLES";
+  /**
+   * Kind of information : the names of the primary keys of a table.
+   */
+  static final String PRIMARY_KEYS = "PRIMARY_KEYS";
+  /**
+   * Kind of information : the names (labels) of the columns of a request.
+   */
+  static final String COLUMNS = "COLUMNS";
+
+  /**
+   * The time (in milliseconds) during which an information is kept ({@code 0} means no limit).
+   */
+  private final long timeToLive;
+  /**
+   * The informations kept.
+   */
+  private final Map<List<Object>, Entry> entriesMap = new HashMap<>();
+
+  /**
+   * Constructor : the informations are kept until they are invalidated.
+   */
+  public MetaDataCache() {
+    this(0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param timeToLive The time (in milliseconds) during which an information is kept ({@code 0} means no limit).
+   * @throws IllegalArgumentException If {@code timeToLive} is negative.
+   */
+  public MetaDataCache(long timeToLive) {
+    if (timeToLive < 0) {
+      throw new IllegalArgumentException("timeToLive can not be negative");
+    }
+    this.timeToLive = timeToLive;
+  }
+
+  /**
+   * Returns the time (in milliseconds) during which an information is kept.
+   *
+   * @return The time to live ({@code 0} means no limit).
+   */
+  public long getTimeToLive() {
+    return timeToLive;
+  }
+
+  /**
+   * Invalidates all the informations.
+   */
+  public synchronized void invalidate() {
+    entriesMap.clear();
+  }
+
+  /**
+   * Invalidates the informations about the database of a {@link Source}.
+   *
+   * @param source The {@link Source}.
+   * @throws NullPointerException If {@code source} is {@code null}.
+   */
+  public void invalidate(Source source) {
+    if (source == null) {
+      throw new NullPointerException("source must be not null");
+    }
+    invalidateKey(getKey(source));
+  }
+
+  /**
+   * Invalidates the informations about the database of a {@link DataSource}.
+   *
+   * @param dataSource The {@link DataSource}.
+   * @throws NullPointerException If {@code dataSource} is {@code null}.
+   */
+  public void invalidate(DataSource dataSource) {
+    if (dataSource == null) {
+      throw new NullPointerException("dataSource must be not null");
+    }
+    invalidateKey(dataSource);
+  }
+
+  /**
+   * Returns an information about the database of the element.
+   *
+   * @param element The element which uses the database.
+   * @param kind The kind of information.
+   * @param keys The keys of the information (for example the name of the table).
+   * @return The information ({@code null} if it is not kept or if it is expired).
+   */
+  synchronized List<String> get(AbstractDbElement<?> element, String kind, Object... keys) {
+    List<Object> key = getKey(element, kind, keys);
+    Entry entry = entriesMap.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (isExpired(entry)) {
+      entriesMap.remove(key);
+      return null;
+    }
+    return entry.valuesList;
+  }
+
+  /**
+   * Keeps an information about the database of the element.
+   * <p>
+   * If the same information is already kept and is not expired, it is not replaced : the time when it is kept is not
+   * changed, so an information read at each loading expires anyway after the time to live.
+   * </p>
+   *
+   * @param element The element which uses the database.
+   * @param kind The kind of information.
+   * @param valuesList The information.
+   * @param keys The keys of the information (for example the name of the table).
+   */
+  synchronized void put(AbstractDbElement<?> element, String kind, List<String> valuesList, Object... keys) {
+    List<Object> key = getKey(element, kind, keys);
+    Entry entry = entriesMap.get(key);
+    if (entry != null && !isExpired(entry) && entry.valuesList.equals(valuesList)) {
+      return;
+    }
+    List<String> list = Collections.unmodifiableList(new ArrayList<>(valuesList));
+    entriesMap.put(key, new Entry(list));
+  }
+
+  /**
+   * Returns if an information kept is expired.
+   *
+   * @param entry The information kept.
+   * @return {@code true} if the information is kept since more than the time to live, {@code false} otherwise.
+   */
+  private boolean isExpired(Entry entry) {
+    return timeToLive > 0 && System.currentTimeMillis() - entry.time >= timeToLive;
+  }
+
+  /**
+   * Removes the informations about a database.
+   *
+   * @param databaseKey The key of the database.
+   */
+  private synchronized void invalidateKey(Object databaseKey) {
+    Iterator<List<Object>> iterator = entriesMap.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (databaseKey.equals(iterator.next().get(0))) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the key of a database from a {@link Source} : the URL and the user.
+   *
+   * @param source The {@link Source}.
+   * @return The key of the database.
+   */
+  private static Object getKey(Source source) {
+    return Arrays.asList(source.getUrl(), source.getUser());
+  }
+
+  /**
+   * Returns the key of an information.
+   *
+   * @param element The element which uses the database.
+   * @param kind The kind of information.
+   * @param keys The keys of the information.
+   * @return The key of the information.
+   * @throws NullPointerException If the {@code dataSource} and {@code source} fields of the element are {@code null}.
+   */
+  private static List<Object> getKey(AbstractDbElement<?> element, String kind, Object... keys) {
+    List<Object> key = new ArrayList<>(keys.length + 2);
+    if (element.getDataSource() != null) {
+      key.add(element.getDataSource());
+    } else if (element.getSource() != null) {
+      key.add(getKey(element.getSource()));
+    } else {
+      throw new NullPointerException("connection or dataSource must be not null");
+    }
+    key.add(kind);
+    key.addAll(Arrays.asList(keys));
+    return key;
+  }
+
+  /**
+   * An information kept.
+   */
+  private static class Entry {
+
+    /**
+     * The values of the information.
+     */
+    private final List<String> valuesList;
+    /**
+     * The time when the information is kept.
+     */
+    private final long time = System.currentTimeMillis();
+
+    /**
+     * Constructor.
+     *
+     * @param valuesList The values of the information.
+     */
+    private Entry(List<String> valuesList) {
+      this.valuesList = valuesList;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the values parsed from {@code String}s (like {@link DateValue#parse(String)}).
+ * <p>
+ * The expected values of the assertions are often the same {@code String}s compared to many values : the cache keeps
+ * the values parsed the most recently used (the least recently used is removed when the cache is full). The values
+ * cached must be immutable.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ *
+ * @param <V> Class of the values parsed.
+ */
+class ParseCache<V> {
+
+  /**
+   * The values parsed, by {@code String} (in the order of the access).
+   */
+  private final Map<String, V> valuesMap;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize The maximum number of values in the cache.
+   */
+  ParseCache(final int maxSize) {
+    valuesMap = new LinkedHashMap<String, V>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the value parsed from the {@code String}.
+   *
+   * @param string The {@code String}.
+   * @return The value ({@code null} if it is not in the cache).
+   */
+  synchronized V get(String string) {
+    return valuesMap.get(string);
+  }
+
+  /**
+   * Puts a value parsed in the cache.
+   *
+   * @param string The {@code String}.
+   * @param value The value parsed from the {@code String}.
+   */
+  synchronized void put(String string, V value) {
+    valuesMap.put(string, value);
+  }
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash index of the rows on the values of the primary keys.
+ * <p>
+ * The index keeps the indexes of the rows in the list (and not the rows), so it can be used on a list which creates
+ * the rows when they are got.
+ * </p>
+ * <p>
+ * The rows are indexed with a hash code of the values of the primary keys which is consistent with
+ * {@link Values#areEqual(Value, Object)} (see {@link Values#getHashCode(Value)}), and the rows found in the index are
+ * checked with {@link Row#hasPksValuesEqualTo(Value[])}. So the result is the same as browsing the rows.
+ * </p>
+ * <p>
+ * The hash code is only consistent for values of the same kind. So the index can not be used if the kind of a value
+ * to find is different of the kind of the values of the primary key in the rows (for example a text to find in a
+ * number primary key) : in this case the rows must be browsed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class PksIndex {
+
+  /**
+   * Kind of a {@code null} value (compatible with all the kinds).
+   */
+  private static final int NULL_KIND = -1;
+  /**
+   * Kind of the values of a primary key with different kinds of values.
+   */
+  private static final int MIXED_KIND = -2;
+
+  /**
+   * The indexes of the rows by hash code of the values of the primary keys (in the order of the rows).
+   */
+  private final Map<Integer, List<Integer>> indexesMap = new HashMap<>();
+  /**
+   * The kinds of the values of the primary keys (by index of primary key).
+   */
+  private final List<Integer> kindsList = new ArrayList<>();
+
+  /**
+   * Constructor.
+   *
+   * @param rowsList The list of the rows to index.
+   */
+  PksIndex(List<Row> rowsList) {
+    int rowIndex = 0;
+    for (Row row : rowsList) {
+      rowIndex++;
+      Value[] pksValues = row.getPksValues();
+      if (pksValues.length == 0) {
+        // A row without primary key is never found
+        continue;
+      }
+      for (int index = 0; index < pksValues.length; index++) {
+        int kind = getKind(pksValues[index]);
+        if (index == kindsList.size()) {
+          kindsList.add(kind);
+        } else {
+          int indexedKind = kindsList.get(index);
+          if (indexedKind == NULL_KIND) {
+            kindsList.set(index, kind);
+          } else if (kind != NULL_KIND && kind != indexedKind) {
+            kindsList.set(index, MIXED_KIND);
+          }
+        }
+      }
+      int hashCode = getHashCode(pksValues);
+      List<Integer> indexesWithHashCode = indexesMap.get(hashCode);
+      if (indexesWithHashCode == null) {
+        indexesWithHashCode = new ArrayList<>(1);
+        indexesMap.put(hashCode, indexesWithHashCode);
+      }
+      indexesWithHashCode.add(rowIndex - 1);
+    }
+  }
+
+  /**
+   * Returns the kind of the value : the type of the value, and for a number if it is a floating number.
+   *
+   * @param value The value.
+   * @return The kind of the value.
+   */
+  private static int getKind(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return NULL_KIND;
+    }
+    int kind = value.getValueType().ordinal() * 2;
+    if (object instanceof Float || object instanceof Double) {
+      kind++;
+    }
+    return kind;
+  }
+
+  /**
+   * Returns the hash code of the values of the primary keys.
+   *
+   * @param pksValues The values of the primary keys.
+   * @return The hash code.
+   */
+  private static int getHashCode(Value[] pksValues) {
+    int hashCode = 1;
+    for (Value value : pksValues) {
+      hashCode = 31 * hashCode + Values.getHashCode(value);
+    }
+    return hashCode;
+  }
+
+  /**
+   * Returns if the index can be used to find the values of the primary keys in parameter.
+   *
+   * @param pksValues The values of the primary keys to find.
+   * @return {@code true} if the index can be used, {@code false} if the rows must be browsed.
+   */
+  boolean isUsableFor(Value[] pksValues) {
+    for (int index = 0; index < pksValues.length && index < kindsList.size(); index++) {
+      int indexedKind = kindsList.get(index);
+      int kind = getKind(pksValues[index]);
+      if (indexedKind == MIXED_KIND || (kind != NULL_KIND && indexedKind != NULL_KIND && kind != indexedKind)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first {@link Row} with the primary keys values in parameter.
+   *
+   * @param rowsList The list of the rows indexed.
+   * @param pksValues The values of the primary keys to find.
+   * @return The index of the {@link Row} with the same primary keys values ({@code -1} if there is no row).
+   */
+  int getRowIndex(List<Row> rowsList, Value[] pksValues) {
+    List<Integer> indexesWithHashCode = indexesMap.get(getHashCode(pksValues));
+    if (indexesWithHashCode != null) {
+      for (int rowIndex : indexesWithHashCode) {
+        if (rowsList.get(rowIndex).hasPksValuesEqualTo(pksValues)) {
+          return rowIndex;
+        }
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,408 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A {@link Source} which reuses the connections to the database.
+ * <p>
+ * When a connection given by this source is closed, the connection to the database is not closed but kept to be
+ * reused by the next loading. Before being reused, a connection is validated (with {@link Connection#isValid(int)})
+ * and a connection which is not used since more than the idle timeout is closed.
+ * </p>
+ * <p>Example of instantiation :</p>
+ * <pre><code class='java'>
+ * PooledSource source = new PooledSource("jdbc:h2:mem:test", "sa", "");
+ * Table table = new Table(source, "movie");
+ * ...
+ * source.close();
+ * </code></pre>
+ * <p>
+ * This class is thread safe : the connections can be get and closed at the same time (like in a {@link Changes} with
+ * a parallelism greater than {@code 1}).
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class PooledSource extends Source implements AutoCloseable {
+
+  /**
+   * The connections to the database which are not used (the last used at the end).
+   */
+  private final Deque<IdleConnection> idleConnectionsDeque = new ArrayDeque<>();
+  /**
+   * The maximum number of connections kept when they are not used.
+   */
+  private int maxIdleConnections = 4;
+  /**
+   * The time (in milliseconds) after which a connection which is not used is closed.
+   */
+  private long idleTimeout = 60000;
+  /**
+   * The timeout (in seconds) of the validation of a connection before being reused.
+   */
+  private int validationTimeout = 1;
+  /**
+   * If this source is closed (the connections given back are closed instead of being kept).
+   */
+  private boolean closed;
+
+  /**
+   * Constructor with the informations.
+   *
+   * @param url URL to the database
+   * @param user User to connect
+   * @param password Password to connect
+   */
+  public PooledSource(String url, String user, String password) {
+    super(url, user, password);
+  }
+
+  /**
+   * Returns the maximum number of connections kept when they are not used.
+   *
+   * @return The maximum number of connections kept.
+   * @see #setMaxIdleConnections(int)
+   */
+  public int getMaxIdleConnections() {
+    return maxIdleConnections;
+  }
+
+  /**
+   * Sets the maximum number of connections kept when they are not used (the default value is {@code 4}).
+   *
+   * @param maxIdleConnections The maximum number of connections kept.
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code maxIdleConnections} is negative.
+   * @see #getMaxIdleConnections()
+   */
+  public PooledSource setMaxIdleConnections(int maxIdleConnections) {
+    if (maxIdleConnections < 0) {
+      throw new IllegalArgumentException("maxIdleConnections can not be negative");
+    }
+    this.maxIdleConnections = maxIdleConnections;
+    return this;
+  }
+
+  /**
+   * Returns the time (in milliseconds) after which a connection which is not used is closed.
+   *
+   * @return The idle timeout in milliseconds.
+   * @see #setIdleTimeout(long)
+   */
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Sets the time (in milliseconds) after which a connection which is not used is closed (the default value is
+   * {@code 60000}). {@code 0} means that the connections are closed only by {@link #close()}.
+   *
+   * @param idleTimeout The idle timeout in milliseconds.
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code idleTimeout} is negative.
+   * @see #getIdleTimeout()
+   */
+  public PooledSource setIdleTimeout(long idleTimeout) {
+    if (idleTimeout < 0) {
+      throw new IllegalArgumentException("idleTimeout can not be negative");
+    }
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * Returns the timeout (in seconds) of the validation of a connection before being reused.
+   *
+   * @return The validation timeout in seconds.
+   * @see #setValidationTimeout(int)
+   */
+  public int getValidationTimeout() {
+    return validationTimeout;
+  }
+
+  /**
+   * Sets the timeout (in seconds) of the validation of a connection before being reused (the default value is
+   * {@code 1}). {@code 0} means no timeout.
+   *
+   * @param validationTimeout The validation timeout in seconds.
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code validationTimeout} is negative.
+   * @see #getValidationTimeout()
+   */
+  public PooledSource setValidationTimeout(int validationTimeout) {
+    if (validationTimeout < 0) {
+      throw new IllegalArgumentException("validationTimeout can not be negative");
+    }
+    this.validationTimeout = validationTimeout;
+    return this;
+  }
+
+  /**
+   * Returns the number of connections kept which are not used.
+   *
+   * @return The number of idle connections.
+   */
+  int getNumberOfIdleConnections() {
+    synchronized (idleConnectionsDeque) {
+      return idleConnectionsDeque.size();
+    }
+  }
+
+  /**
+   * Returns a {@link Connection} to the database.
+   * <p>
+   * A connection kept is reused if it is valid, otherwise a new connection is opened. The connection returned is
+   * given back to this source when it is closed.
+   * </p>
+   *
+   * @return A {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  Connection getConnection() throws SQLException {
+    closeQuietly(pollExpiredConnections());
+    Connection connection = null;
+    while (connection == null) {
+      IdleConnection idleConnection;
+      synchronized (idleConnectionsDeque) {
+        idleConnection = idleConnectionsDeque.pollLast();
+      }
+      if (idleConnection == null) {
+        connection = super.getConnection();
+      } else if (isReusable(idleConnection)) {
+        connection = idleConnection.connection;
+      } else {
+        closeQuietly(idleConnection.connection);
+      }
+    }
+    return (Connection) Proxy.newProxyInstance(PooledSource.class.getClassLoader(), new Class<?>[] { Connection.class },
+        new PooledConnectionHandler(connection));
+  }
+
+  /**
+   * Closes the connections kept which are not used.
+   * <p>
+   * The connections used at the moment of the call are closed when they are given back. After the call, the
+   * connections given by this source are not kept any more : they are closed when they are given back.
+   * </p>
+   */
+  @Override
+  public void close() {
+    List<Connection> connectionsList = new ArrayList<>();
+    synchronized (idleConnectionsDeque) {
+      closed = true;
+      for (IdleConnection idleConnection : idleConnectionsDeque) {
+        connectionsList.add(idleConnection.connection);
+      }
+      idleConnectionsDeque.clear();
+    }
+    closeQuietly(connectionsList);
+  }
+
+  /**
+   * Removes the connections kept which are expired.
+   * <p>
+   * The connections are kept in the order of their last use, so the expired connections are at the head.
+   * </p>
+   *
+   * @return The list of the expired connections (to close).
+   */
+  private List<Connection> pollExpiredConnections() {
+    List<Connection> connectionsList = new ArrayList<>();
+    if (idleTimeout > 0) {
+      long time = System.currentTimeMillis();
+      synchronized (idleConnectionsDeque) {
+        while (!idleConnectionsDeque.isEmpty() && isExpired(idleConnectionsDeque.peekFirst(), time)) {
+          connectionsList.add(idleConnectionsDeque.pollFirst().connection);
+        }
+      }
+    }
+    return connectionsList;
+  }
+
+  /**
+   * Returns if a connection kept is not used since more than the idle timeout.
+   *
+   * @param idleConnection The connection kept.
+   * @param time           The current time.
+   * @return {@code true} if the connection is expired, {@code false} otherwise.
+   */
+  private boolean isExpired(IdleConnection idleConnection, long time) {
+    return idleTimeout > 0 && time - idleConnection.lastUseTime >= idleTimeout;
+  }
+
+  /**
+   * Returns if a connection kept can be reused.
+   *
+   * @param idleConnection The connection kept.
+   * @return {@code true} if the connection is not expired and is valid, {@code false} otherwise.
+   */
+  private boolean isReusable(IdleConnection idleConnection) {
+    if (isExpired(idleConnection, System.currentTimeMillis())) {
+      return false;
+    }
+    try {
+      return idleConnection.connection.isValid(validationTimeout);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gives back a connection after its use.
+   *
+   * @param connection The connection to the database.
+   */
+  private void release(Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      return;
+    }
+
+    List<Connection> connectionsList = pollExpiredConnections();
+    synchronized (idleConnectionsDeque) {
+      if (closed) {
+        connectionsList.add(connection);
+      } else {
+        idleConnectionsDeque.addLast(new IdleConnection(connection));
+        if (idleConnectionsDeque.size() > maxIdleConnections) {
+          connectionsList.add(idleConnectionsDeque.pollFirst().connection);
+        }
+      }
+    }
+    closeQuietly(connectionsList);
+  }
+
+  /**
+   * Closes a connection to the database and ignores the exception.
+   *
+   * @param connection The connection to the database.
+   */
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // The connection is not used any more
+    }
+  }
+
+  /**
+   * Closes connections to the database and ignores the exceptions.
+   *
+   * @param connectionsList The list of the connections to the database.
+   */
+  private static void closeQuietly(List<Connection> connectionsList) {
+    for (Connection connection : connectionsList) {
+      closeQuietly(connection);
+    }
+  }
+
+  /**
+   * A connection kept which is not used.
+   */
+  private static class IdleConnection {
+
+    /**
+     * The connection to the database.
+     */
+    private final Connection connection;
+    /**
+     * The time of the last use.
+     */
+    private final long lastUseTime = System.currentTimeMillis();
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection to the database.
+     */
+    private IdleConnection(Connection connection) {
+      this.connection = connection;
+    }
+  }
+
+  /**
+   * Handler of the connection given by this source : the call to {@link Connection#close()} gives back the
+   * connection to the database instead of closing it.
+   */
+  private class PooledConnectionHandler implements InvocationHandler {
+
+    /**
+     * The connection to the database.
+     */
+    private final Connection connection;
+    /**
+     * If the connection given is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection to the database.
+     */
+    private PooledConnectionHandler(Connection connection) {
+      this.connection = connection;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if ("close".equals(name) && method.getParameterTypes().length == 0) {
+        if (!closed) {
+          closed = true;
+          release(connection);
+        }
+        return null;
+      }
+      if ("isClosed".equals(name) && method.getParameterTypes().length == 0) {
+        return closed;
+      }
+      if ("equals".equals(name) && method.getParameterTypes().length == 1) {
+        return proxy == args[0];
+      }
+      if ("hashCode".equals(name) && method.getParameterTypes().length == 0) {
+        return System.identityHashCode(proxy);
+      }
+      if (closed && !"toString".equals(name)) {
+        throw new SQLException("The connection is closed");
+      }
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
@@ -138,6 +138,14 @@ public class Request extends AbstractDbData<Request> {
     return parameters.clone();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Object[] getRequestParameters() {
+    return parameters;
+  }
+
   /**
    * Sets the parameters of the SQL request.
    * 
@@ -163,21 +171,19 @@ public class Request extends AbstractDbData<Request> {
   }
 
   /**
-   * Collects the columns name from the {@code ResultSet} from the SQL request.
+   * Collects the columns name from the labels of the columns of the SQL request.
    * <p>
-   * This method use the {@link ResultSetMetaData} from the <code>resultSet</code> parameter to list the name of the
-   * columns.
+   * This method use the labels in parameter to list the name of the columns.
    * </p>
    * 
-   * @param resultSet The {@code ResultSet}.
-   * @throws SQLException A SQL Exception
+   * @see AbstractDbData#collectColumnsName(List)
+   * @param columnsLabelsList The labels of the columns.
    */
-  private void collectColumnsNameFromResultSet(ResultSet resultSet) throws SQLException {
-    ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+  @Override
+  protected void collectColumnsName(List<String> columnsLabelsList) {
     List<String> columnsNameList = new ArrayList<>();
-    for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-      String columnName = resultSetMetaData.getColumnLabel(i);
-      columnsNameList.add(columnName.toUpperCase());
+    for (String columnLabel : columnsLabelsList) {
+      columnsNameList.add(columnLabel.toUpperCase());
     }
     setColumnsNameList(columnsNameList);
     controlIfAllThePksNameExistInTheColumns();
@@ -198,11 +204,12 @@ public class Request extends AbstractDbData<Request> {
     }
 
     try (PreparedStatement statement = connection.prepareStatement(request)) {
+      getLoadOptions().applyTo(statement);
       for (int i = 0; i < parameters.length; i++) {
         statement.setObject(i + 1, parameters[i]);
       }
       try (ResultSet resultSet = statement.executeQuery()) {
-        collectColumnsNameFromResultSet(resultSet);
+        collectColumnsName(resultSet.getMetaData());
         collectRowsFromResultSet(resultSet);
       }
     }
@@ -45,6 +45,18 @@ public class Row implements DbElement {
    * The list of value.
    */
   private final List<Value> valuesList;
+  /**
+   * The hash on 64 bits of the values (computed at the first call of {@link #getHash64()}).
+   */
+  private long hash64;
+  /**
+   * The hash on 64 bits of the types of the values (computed at the first call of {@link #getHash64()}).
+   */
+  private long typesHash64;
+  /**
+   * If the hashes are computed.
+   */
+  private volatile boolean hashed;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -157,6 +169,11 @@ public class Row implements DbElement {
   public boolean hasValues(Row row) {
     List<Value> valuesList = getValuesList();
     List<Value> rowValuesList = row.getValuesList();
+    // Fast rejection : the values of the same kinds with different hashes are different
+    if (valuesList.size() == rowValuesList.size() && getHash64() != row.getHash64()
+        && getTypesHash64() == row.getTypesHash64()) {
+      return false;
+    }
     for (int index = 0; index < valuesList.size(); index++) {
       Value value = valuesList.get(index);
       Value rowValue = rowValuesList.get(index);
@@ -168,6 +185,68 @@ public class Row implements DbElement {
     return true;
   }
 
+  /**
+   * Returns the hash on 64 bits of the values, consistent with {@link #hasValues(Row)} for the rows with values of the
+   * same kinds (see {@link #getTypesHash64()}).
+   * <p>
+   * The hash is computed with {@link Values#getHash64(Value)} at the first call.
+   * </p>
+   *
+   * @return The hash of the values.
+   */
+  long getHash64() {
+    computeHashes();
+    return hash64;
+  }
+
+  /**
+   * Returns the hash on 64 bits of the kinds of the values : the type of each value, and for a number if it is a
+   * {@code Float}, another floating number or an exact number (a {@code Double} and a {@code BigDecimal} can be equal
+   * but do not have the same hash, like a {@code Float} and a {@code Double} which are compared with the precision of
+   * the {@code Float}).
+   *
+   * @return The hash of the kinds of the values.
+   */
+  long getTypesHash64() {
+    computeHashes();
+    return typesHash64;
+  }
+
+  /**
+   * Computes the hashes of the values and of the types of the values if it is not already done.
+   */
+  private void computeHashes() {
+    if (!hashed) {
+      long hash = 1;
+      long typesHash = 1;
+      for (Value value : valuesList) {
+        hash = hash * 0x100000001B3L + Values.getHash64(value);
+        typesHash = typesHash * 31 + getKind(value);
+      }
+      hash64 = hash;
+      typesHash64 = typesHash;
+      hashed = true;
+    }
+  }
+
+  /**
+   * Returns the kind of the value : the type of the value, and for a number if it is a {@code Float}, another floating
+   * number or an exact number.
+   *
+   * @param value The value.
+   * @return The kind of the value.
+   */
+  private static int getKind(Value value) {
+    Object object = value.getValue();
+    int kind = value.getValueType().ordinal() * 3;
+    if (object instanceof Double) {
+      kind += 1;
+    } else if (object instanceof Float) {
+      kind += 2;
+    }
+    return kind;
+  }
+
   /**
    * Returns the value corresponding to the column index.
    * 
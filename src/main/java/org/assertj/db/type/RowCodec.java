@@ -0,0 +1,467 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Binary encoding of the values of the {@link Row}s.
+ * <p>
+ * Each object is written with a tag which indicates its class, followed by its content. Only the classes of values
+ * read from the database with a specific encoding can be written (the Java serialization is not used, so reading a
+ * snapshot from another machine can not instantiate other classes).
+ * </p>
+ * <p>
+ * The dates and times are written with their fields in the time zone of the JVM (as milliseconds from the epoch in
+ * UTC), so they are read with the same fields in the time zone of the JVM which reads them.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class RowCodec {
+
+  /**
+   * The charset of the {@code String}s.
+   */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  /**
+   * The time zone of the fields of the dates written.
+   */
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+  /**
+   * Tag of {@code null}.
+   */
+  private static final int NULL = 0;
+  /**
+   * Tag of {@code String}.
+   */
+  private static final int STRING = 1;
+  /**
+   * Tag of {@code Boolean}.
+   */
+  private static final int BOOLEAN = 2;
+  /**
+   * Tag of {@code Byte}.
+   */
+  private static final int BYTE = 3;
+  /**
+   * Tag of {@code Short}.
+   */
+  private static final int SHORT = 4;
+  /**
+   * Tag of {@code Integer}.
+   */
+  private static final int INTEGER = 5;
+  /**
+   * Tag of {@code Long}.
+   */
+  private static final int LONG = 6;
+  /**
+   * Tag of {@code Float}.
+   */
+  private static final int FLOAT = 7;
+  /**
+   * Tag of {@code Double}.
+   */
+  private static final int DOUBLE = 8;
+  /**
+   * Tag of {@code BigDecimal}.
+   */
+  private static final int BIG_DECIMAL = 9;
+  /**
+   * Tag of {@code BigInteger}.
+   */
+  private static final int BIG_INTEGER = 10;
+  /**
+   * Tag of {@code byte[]}.
+   */
+  private static final int BYTES = 11;
+  /**
+   * Tag of {@code java.sql.Date}.
+   */
+  private static final int SQL_DATE = 12;
+  /**
+   * Tag of {@code java.sql.Time}.
+   */
+  private static final int SQL_TIME = 13;
+  /**
+   * Tag of {@code java.sql.Timestamp}.
+   */
+  private static final int SQL_TIMESTAMP = 14;
+  /**
+   * Tag of {@code UUID}.
+   */
+  private static final int UUID_TAG = 15;
+  /**
+   * Tag of {@code java.util.Date}.
+   */
+  private static final int DATE = 16;
+  /**
+   * The size of the chunks to read the long arrays of bytes.
+   */
+  private static final int BYTES_CHUNK_SIZE = 8192;
+
+  /**
+   * Private constructor.
+   */
+  private RowCodec() {
+    // Empty
+  }
+
+  /**
+   * Writes the values of a row.
+   *
+   * @param output The output.
+   * @param row The row.
+   * @throws IOException If an I/O error occurs.
+   * @throws AssertJDBException If a value can not be written.
+   */
+  static void writeRow(DataOutput output, Row row) throws IOException {
+    List<Value> valuesList = row.getValuesList();
+    output.writeInt(valuesList.size());
+    for (Value value : valuesList) {
+      writeObject(output, value.getValue());
+    }
+  }
+
+  /**
+   * Returns if all the values of a row can be written.
+   *
+   * @param row The row.
+   * @return {@code true} if the values can be written, {@code false} if a value is of another class (for example an
+   *         array or a type specific to a driver).
+   */
+  static boolean canWrite(Row row) {
+    for (Value value : row.getValuesList()) {
+      if (!canWrite(value.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns if an object can be written (see {@link #writeObject(DataOutput, Object)}).
+   *
+   * @param object The object.
+   * @return {@code true} if the object can be written, {@code false} otherwise.
+   */
+  private static boolean canWrite(Object object) {
+    if (object == null || object instanceof String || object instanceof Boolean || object instanceof Byte
+        || object instanceof Short || object instanceof Integer || object instanceof Long || object instanceof Float
+        || object instanceof Double || object instanceof BigDecimal || object instanceof BigInteger
+        || object instanceof byte[] || object instanceof UUID) {
+      return true;
+    }
+    Class<?> clazz = object.getClass();
+    return clazz == java.sql.Date.class || clazz == Time.class || clazz == Timestamp.class
+        || clazz == java.util.Date.class;
+  }
+
+  /**
+   * Reads the values of a row.
+   *
+   * @param input The input.
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsNameList The list of the columns name.
+   * @return The row.
+   * @throws IOException If an I/O error occurs or if the number of values is not the number of columns.
+   */
+  static Row readRow(DataInput input, List<String> pksNameList, List<String> columnsNameList) throws IOException {
+    int size = input.readInt();
+    if (size != columnsNameList.size()) {
+      throw new IOException("The number of values (" + size + ") is not the number of columns ("
+          + columnsNameList.size() + ")");
+    }
+    List<Value> valuesList = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      valuesList.add(new Value(columnsNameList.get(index), readObject(input)));
+    }
+    return new Row(pksNameList, columnsNameList, valuesList);
+  }
+
+  /**
+   * Writes an object.
+   *
+   * @param output The output.
+   * @param object The object.
+   * @throws IOException If an I/O error occurs.
+   * @throws AssertJDBException If the object can not be written.
+   */
+  static void writeObject(DataOutput output, Object object) throws IOException {
+    if (object == null) {
+      output.writeByte(NULL);
+    } else if (object instanceof String) {
+      output.writeByte(STRING);
+      writeBytes(output, ((String) object).getBytes(UTF_8));
+    } else if (object instanceof Boolean) {
+      output.writeByte(BOOLEAN);
+      output.writeBoolean((Boolean) object);
+    } else if (object instanceof Byte) {
+      output.writeByte(BYTE);
+      output.writeByte((Byte) object);
+    } else if (object instanceof Short) {
+      output.writeByte(SHORT);
+      output.writeShort((Short) object);
+    } else if (object instanceof Integer) {
+      output.writeByte(INTEGER);
+      output.writeInt((Integer) object);
+    } else if (object instanceof Long) {
+      output.writeByte(LONG);
+      output.writeLong((Long) object);
+    } else if (object instanceof Float) {
+      output.writeByte(FLOAT);
+      output.writeFloat((Float) object);
+    } else if (object instanceof Double) {
+      output.writeByte(DOUBLE);
+      output.writeDouble((Double) object);
+    } else if (object instanceof BigDecimal) {
+      BigDecimal bigDecimal = (BigDecimal) object;
+      output.writeByte(BIG_DECIMAL);
+      output.writeInt(bigDecimal.scale());
+      writeBytes(output, bigDecimal.unscaledValue().toByteArray());
+    } else if (object instanceof BigInteger) {
+      output.writeByte(BIG_INTEGER);
+      writeBytes(output, ((BigInteger) object).toByteArray());
+    } else if (object instanceof byte[]) {
+      output.writeByte(BYTES);
+      writeBytes(output, (byte[]) object);
+    } else if (object.getClass() == java.sql.Date.class) {
+      output.writeByte(SQL_DATE);
+      output.writeLong(toLocalMillis((java.sql.Date) object));
+    } else if (object.getClass() == Time.class) {
+      output.writeByte(SQL_TIME);
+      output.writeLong(toLocalMillis((Time) object));
+    } else if (object.getClass() == Timestamp.class) {
+      Timestamp timestamp = (Timestamp) object;
+      output.writeByte(SQL_TIMESTAMP);
+      output.writeLong(toLocalMillis(timestamp));
+      output.writeInt(timestamp.getNanos());
+    } else if (object instanceof UUID) {
+      UUID uuid = (UUID) object;
+      output.writeByte(UUID_TAG);
+      output.writeLong(uuid.getMostSignificantBits());
+      output.writeLong(uuid.getLeastSignificantBits());
+    } else if (object.getClass() == java.util.Date.class) {
+      output.writeByte(DATE);
+      output.writeLong(toLocalMillis((java.util.Date) object));
+    } else {
+      throw new AssertJDBException("The value of class <%s> can not be written", object.getClass().getName());
+    }
+  }
+
+  /**
+   * Reads an object.
+   *
+   * @param input The input.
+   * @return The object.
+   * @throws IOException If an I/O error occurs or if the bytes read do not correspond to an object.
+   */
+  static Object readObject(DataInput input) throws IOException {
+    int tag = input.readByte();
+    switch (tag) {
+    case NULL:
+      return null;
+    case STRING:
+      return new String(readBytes(input), UTF_8);
+    case BOOLEAN:
+      return input.readBoolean();
+    case BYTE:
+      return input.readByte();
+    case SHORT:
+      return input.readShort();
+    case INTEGER:
+      return input.readInt();
+    case LONG:
+      return input.readLong();
+    case FLOAT:
+      return input.readFloat();
+    case DOUBLE:
+      return input.readDouble();
+    case BIG_DECIMAL:
+      int scale = input.readInt();
+      return new BigDecimal(readBigInteger(input), scale);
+    case BIG_INTEGER:
+      return readBigInteger(input);
+    case BYTES:
+      return readBytes(input);
+    case SQL_DATE:
+      return new java.sql.Date(fromLocalMillis(input.readLong()));
+    case SQL_TIME:
+      return new Time(fromLocalMillis(input.readLong()));
+    case SQL_TIMESTAMP:
+      Timestamp timestamp = new Timestamp(fromLocalMillis(input.readLong()));
+      int nanos = input.readInt();
+      if (nanos < 0 || nanos > 999999999) {
+        throw new IOException("Invalid nanoseconds : " + nanos);
+      }
+      timestamp.setNanos(nanos);
+      return timestamp;
+    case UUID_TAG:
+      return new UUID(input.readLong(), input.readLong());
+    case DATE:
+      return new java.util.Date(fromLocalMillis(input.readLong()));
+    default:
+      throw new IOException("Unknown tag : " + tag);
+    }
+  }
+
+  /**
+   * Returns an estimation of the size in memory of a row (in bytes).
+   * <p>
+   * The estimation does not take into account the values shared between the rows, so it is greater than or equal to
+   * the real size.
+   * </p>
+   *
+   * @param row The row.
+   * @return The estimated size.
+   */
+  static long getEstimatedSize(Row row) {
+    List<Value> valuesList = row.getValuesList();
+    // The row and the list of the values
+    long size = 64 + 8L * valuesList.size();
+    for (Value value : valuesList) {
+      // The value
+      size += 32;
+      Object object = value.getValue();
+      if (object instanceof String) {
+        size += 40 + 2L * ((String) object).length();
+      } else if (object instanceof byte[]) {
+        size += 16 + ((byte[]) object).length;
+      } else if (object instanceof BigDecimal || object instanceof BigInteger) {
+        size += 64;
+      } else if (object != null) {
+        size += 24;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the fields of a date in the time zone of the JVM as milliseconds from the epoch in UTC.
+   *
+   * @param date The date.
+   * @return The milliseconds.
+   */
+  private static long toLocalMillis(java.util.Date date) {
+    Calendar calendar = new GregorianCalendar();
+    calendar.setTime(date);
+    Calendar utcCalendar = new GregorianCalendar(UTC);
+    copyFields(calendar, utcCalendar);
+    return utcCalendar.getTimeInMillis();
+  }
+
+  /**
+   * Returns the date in the time zone of the JVM with the fields of milliseconds from the epoch in UTC.
+   *
+   * @param localMillis The milliseconds.
+   * @return The date as milliseconds from the epoch.
+   */
+  private static long fromLocalMillis(long localMillis) {
+    Calendar utcCalendar = new GregorianCalendar(UTC);
+    utcCalendar.setTimeInMillis(localMillis);
+    Calendar calendar = new GregorianCalendar();
+    copyFields(utcCalendar, calendar);
+    return calendar.getTimeInMillis();
+  }
+
+  /**
+   * Copies the fields of a date from a calendar to another calendar.
+   *
+   * @param from The calendar to copy.
+   * @param to The calendar which receives the fields.
+   */
+  private static void copyFields(Calendar from, Calendar to) {
+    to.clear();
+    to.set(Calendar.ERA, from.get(Calendar.ERA));
+    to.set(from.get(Calendar.YEAR), from.get(Calendar.MONTH), from.get(Calendar.DAY_OF_MONTH),
+        from.get(Calendar.HOUR_OF_DAY), from.get(Calendar.MINUTE), from.get(Calendar.SECOND));
+    to.set(Calendar.MILLISECOND, from.get(Calendar.MILLISECOND));
+  }
+
+  /**
+   * Writes an array of bytes with its length.
+   *
+   * @param output The output.
+   * @param bytes The bytes.
+   * @throws IOException If an I/O error occurs.
+   */
+  private static void writeBytes(DataOutput output, byte[] bytes) throws IOException {
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  /**
+   * Reads an array of bytes written with its length.
+   *
+   * @param input The input.
+   * @return The bytes.
+   * @throws IOException If an I/O error occurs or if the length is negative.
+   */
+  private static byte[] readBytes(DataInput input) throws IOException {
+    int length = input.readInt();
+    if (length < 0) {
+      throw new IOException("Negative length : " + length);
+    }
+    if (length <= BYTES_CHUNK_SIZE) {
+      byte[] bytes = new byte[length];
+      input.readFully(bytes);
+      return bytes;
+    }
+    // The length is not trusted : the bytes are read by chunks, so a corrupted length fails at the end of the input
+    // instead of allocating the memory
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BYTES_CHUNK_SIZE);
+    byte[] chunk = new byte[BYTES_CHUNK_SIZE];
+    int remaining = length;
+    while (remaining > 0) {
+      int chunkLength = Math.min(remaining, BYTES_CHUNK_SIZE);
+      input.readFully(chunk, 0, chunkLength);
+      outputStream.write(chunk, 0, chunkLength);
+      remaining -= chunkLength;
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Reads a {@code BigInteger} written as an array of bytes.
+   *
+   * @param input The input.
+   * @return The {@code BigInteger}.
+   * @throws IOException If an I/O error occurs or if the array of bytes is empty.
+   */
+  private static BigInteger readBigInteger(DataInput input) throws IOException {
+    byte[] bytes = readBytes(input);
+    if (bytes.length == 0) {
+      throw new IOException("Empty number");
+    }
+    return new BigInteger(bytes);
+  }
+}
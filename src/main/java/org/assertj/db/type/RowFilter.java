@@ -0,0 +1,30 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Filter of the {@link Row}s kept during the loading of a {@link AbstractDbData}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+interface RowFilter {
+
+  /**
+   * Returns if the row is kept in the list of the rows.
+   *
+   * @param row The row read in the database.
+   * @return {@code true} if the row is kept, {@code false} otherwise.
+   */
+  boolean accept(Row row);
+}
@@ -0,0 +1,105 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sampler which keeps a sample of a fixed size of the rows read, with a reservoir.
+ * <p>
+ * The first rows read fill the reservoir, then the n-th row read replaces a random row of the reservoir with the
+ * probability {@code size / n} : each row read has the same probability to be in the sample. The random numbers are
+ * generated from the seed, so the sample is the same for the same rows read in the same order.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class RowSampler {
+
+  /**
+   * Golden ratio (used to mix the seed).
+   */
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  /**
+   * The size of the sample.
+   */
+  private final int size;
+  /**
+   * The generator of the random numbers.
+   */
+  private final Random random;
+  /**
+   * The rows of the sample.
+   */
+  private final List<Row> rowsList;
+  /**
+   * The number of rows read.
+   */
+  private long numberOfRows;
+
+  /**
+   * Constructor.
+   *
+   * @param size The size of the sample.
+   * @param seed The seed of the random numbers.
+   */
+  RowSampler(int size, long seed) {
+    this.size = size;
+    random = new Random(mix(seed));
+    rowsList = new ArrayList<>(Math.min(size, 1024));
+  }
+
+  /**
+   * Adds a row read to the sampler.
+   *
+   * @param row The row.
+   */
+  void add(Row row) {
+    numberOfRows++;
+    if (rowsList.size() < size) {
+      rowsList.add(row);
+    } else {
+      long index = (long) (random.nextDouble() * numberOfRows);
+      if (index < size) {
+        rowsList.set((int) index, row);
+      }
+    }
+  }
+
+  /**
+   * Mixes the seed (with the finalizer of SplitMix64), because the first numbers generated by {@link Random} are close
+   * for close seeds.
+   *
+   * @param seed The seed.
+   * @return The mixed seed.
+   */
+  private static long mix(long seed) {
+    long z = seed + GOLDEN_RATIO;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns the rows of the sample.
+   *
+   * @return The rows of the sample.
+   */
+  List<Row> getRowsList() {
+    return rowsList;
+  }
+}
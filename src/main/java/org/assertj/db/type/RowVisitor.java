@@ -0,0 +1,30 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Visitor of the {@link Row}s read from the database during a browsing of a {@link AbstractDbData}.
+ *
+ * @author Régis Pouiller
+ * @see AbstractDbData#browseRows(RowVisitor)
+ * @since 1.1.0
+ */
+public interface RowVisitor {
+
+  /**
+   * Visits a row read in the database.
+   *
+   * @param row The row read in the database.
+   */
+  void visit(Row row);
+}
@@ -0,0 +1,342 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Binary format of the snapshots of the data ({@link Table}s and {@link Request}s with their rows).
+ * <p>
+ * A snapshot begins with a magic number and the version of the format, followed by the number of data. Each data is
+ * written with its type, its name (the name of the table with the columns to check and to exclude, or the SQL request
+ * and its parameters), the columns name, the primary keys name and the rows (with the values encoded by
+ * {@link RowCodec}).
+ * </p>
+ * <p>
+ * The values are only of the classes encoded by {@link RowCodec} (the Java serialization is not used), so a snapshot
+ * from another machine can be read safely.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class SnapshotCodec {
+
+  /**
+   * The magic number at the beginning of a snapshot ("ADBS").
+   */
+  private static final int MAGIC = 0x41444253;
+  /**
+   * The version of the format.
+   */
+  private static final int VERSION = 1;
+
+  /**
+   * Private constructor.
+   */
+  private SnapshotCodec() {
+    // Empty
+  }
+
+  /**
+   * Writes a snapshot of the data (the data are loaded if needed).
+   * <p>
+   * The output stream is flushed but not closed.
+   * </p>
+   *
+   * @param outputStream The output stream.
+   * @param dataList The list of the data.
+   * @throws AssertJDBException If the snapshot can not be written.
+   */
+  static void write(OutputStream outputStream, List<? extends AbstractDbData<?>> dataList) {
+    try {
+      DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(dataList.size());
+      for (AbstractDbData<?> data : dataList) {
+        writeData(output, data);
+      }
+      output.flush();
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Reads a snapshot of data.
+   * <p>
+   * The input stream is not closed, but it is read with a buffer : the bytes after the snapshot can be read too, so
+   * the snapshot must be at the end of the stream.
+   * </p>
+   *
+   * @param inputStream The input stream.
+   * @return The list of the data (with the rows loaded, but without source or data source).
+   * @throws AssertJDBException If the snapshot can not be read or is corrupted.
+   */
+  static List<AbstractDbData<?>> read(InputStream inputStream) {
+    try {
+      DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+      if (input.readInt() != MAGIC) {
+        throw new AssertJDBException("The stream does not contain a snapshot");
+      }
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new AssertJDBException("The version %s of the snapshot is not supported", version);
+      }
+      int size = readSize(input);
+      // The lists are not sized with the sizes read, which are not trusted before reading the content
+      List<AbstractDbData<?>> dataList = new ArrayList<>();
+      for (int index = 0; index < size; index++) {
+        dataList.add(readData(input));
+      }
+      return dataList;
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Verifies that a data read in a snapshot corresponds to a data : the same name of table with the same columns to
+   * check and to exclude, or the same request with the same parameters.
+   *
+   * @param data The data.
+   * @param dataRead The data read in the snapshot.
+   * @throws AssertJDBException If the data read does not correspond.
+   */
+  static void checkCorrespondence(AbstractDbData<?> data, AbstractDbData<?> dataRead) {
+    String name = getName(data);
+    String nameRead = getName(dataRead);
+    if (data instanceof Table) {
+      Table table = (Table) data;
+      Table tableRead = (Table) dataRead;
+      if (!name.equalsIgnoreCase(nameRead)) {
+        throw new AssertJDBException("The snapshot of <%s> does not correspond to <%s>", nameRead, name);
+      }
+      if (!areSameColumns(table.getColumnsToCheck(), tableRead.getColumnsToCheck())) {
+        throw new AssertJDBException("The columns to check of the table <%s> are not the same in the snapshot", name);
+      }
+      if (!areSameColumns(table.getColumnsToExclude(), tableRead.getColumnsToExclude())) {
+        throw new AssertJDBException("The columns to exclude of the table <%s> are not the same in the snapshot",
+            name);
+      }
+    } else {
+      if (!name.equals(nameRead)) {
+        throw new AssertJDBException("The snapshot of <%s> does not correspond to <%s>", nameRead, name);
+      }
+      Object[] parameters = ((Request) data).getParameters();
+      Object[] parametersRead = ((Request) dataRead).getParameters();
+      if (!Arrays.deepEquals(parameters == null ? new Object[0] : parameters,
+          parametersRead == null ? new Object[0] : parametersRead)) {
+        throw new AssertJDBException("The parameters of the request <%s> are not the same in the snapshot", name);
+      }
+    }
+  }
+
+  /**
+   * Returns if two arrays of columns contain the same columns.
+   *
+   * @param columns The first array of columns ({@code null} if not set).
+   * @param otherColumns The second array of columns ({@code null} if not set).
+   * @return {@code true} if the columns are the same (in any order) or if both are {@code null}.
+   */
+  private static boolean areSameColumns(String[] columns, String[] otherColumns) {
+    if (columns == null || otherColumns == null) {
+      return columns == otherColumns;
+    }
+    return new HashSet<>(Arrays.asList(columns)).equals(new HashSet<>(Arrays.asList(otherColumns)));
+  }
+
+  /**
+   * Returns the name of the data.
+   *
+   * @param data The data.
+   * @return The name of the table or the SQL request.
+   */
+  static String getName(AbstractDbData<?> data) {
+    if (data instanceof Table) {
+      return ((Table) data).getName();
+    }
+    return ((Request) data).getRequest();
+  }
+
+  /**
+   * Writes a data.
+   *
+   * @param output The output.
+   * @param data The data.
+   * @throws IOException If an I/O error occurs.
+   */
+  private static void writeData(DataOutput output, AbstractDbData<?> data) throws IOException {
+    List<Row> rowsList = data.getRowsList();
+    output.writeByte(data.getDataType().ordinal());
+    RowCodec.writeObject(output, getName(data));
+    if (data instanceof Table) {
+      writeNames(output, ((Table) data).getColumnsToCheck());
+      writeNames(output, ((Table) data).getColumnsToExclude());
+    } else {
+      Object[] parameters = ((Request) data).getParameters();
+      output.writeInt(parameters == null ? -1 : parameters.length);
+      if (parameters != null) {
+        for (Object parameter : parameters) {
+          RowCodec.writeObject(output, parameter);
+        }
+      }
+    }
+    writeNames(output, data.getColumnsNameList());
+    writeNames(output, data.getPksNameList());
+    output.writeInt(rowsList.size());
+    for (Row row : rowsList) {
+      RowCodec.writeRow(output, row);
+    }
+  }
+
+  /**
+   * Reads a data.
+   *
+   * @param input The input.
+   * @return The data.
+   * @throws IOException If an I/O error occurs.
+   */
+  private static AbstractDbData<?> readData(DataInput input) throws IOException {
+    int ordinal = input.readByte();
+    if (ordinal < 0 || ordinal >= DataType.values().length) {
+      throw new IOException("Unknown data type : " + ordinal);
+    }
+    AbstractDbData<?> data;
+    String name = readString(input);
+    if (DataType.values()[ordinal] == DataType.TABLE) {
+      Table table = new Table().setName(name);
+      List<String> columnsToCheckList = readNames(input);
+      List<String> columnsToExcludeList = readNames(input);
+      table.setColumnsToCheck(columnsToCheckList == null ? null : columnsToCheckList.toArray(new String[0]));
+      table.setColumnsToExclude(columnsToExcludeList == null ? null : columnsToExcludeList.toArray(new String[0]));
+      data = table;
+    } else {
+      Request request = new Request().setRequest(name);
+      int size = input.readInt();
+      if (size < -1) {
+        throw new IOException("Invalid number of parameters : " + size);
+      }
+      if (size >= 0) {
+        List<Object> parametersList = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+          parametersList.add(RowCodec.readObject(input));
+        }
+        request.setParameters(parametersList.toArray());
+      }
+      data = request;
+    }
+    List<String> columnsNameList = readNames(input);
+    List<String> pksNameList = readNames(input);
+    if (columnsNameList == null || pksNameList == null) {
+      throw new IOException("The names of the columns are missing");
+    }
+    data.setColumnsNameList(columnsNameList);
+    data.setPksNameList(pksNameList);
+    int size = readSize(input);
+    List<Row> rowsList = new ArrayList<>();
+    for (int index = 0; index < size; index++) {
+      rowsList.add(RowCodec.readRow(input, data.getPksNameList(), data.getColumnsNameList()));
+    }
+    data.setRowsList(rowsList);
+    return data;
+  }
+
+  /**
+   * Writes an array of names.
+   *
+   * @param output The output.
+   * @param names The array of names ({@code null} is written as a size of {@code -1}).
+   * @throws IOException If an I/O error occurs.
+   */
+  private static void writeNames(DataOutput output, String[] names) throws IOException {
+    if (names == null) {
+      output.writeInt(-1);
+    } else {
+      writeNames(output, Arrays.asList(names));
+    }
+  }
+
+  /**
+   * Writes a list of names.
+   *
+   * @param output The output.
+   * @param namesList The list of names.
+   * @throws IOException If an I/O error occurs.
+   */
+  private static void writeNames(DataOutput output, List<String> namesList) throws IOException {
+    output.writeInt(namesList.size());
+    for (String name : namesList) {
+      RowCodec.writeObject(output, name);
+    }
+  }
+
+  /**
+   * Reads a list of names.
+   *
+   * @param input The input.
+   * @return The list of names ({@code null} if the size is {@code -1}).
+   * @throws IOException If an I/O error occurs.
+   */
+  private static List<String> readNames(DataInput input) throws IOException {
+    int size = input.readInt();
+    if (size == -1) {
+      return null;
+    }
+    if (size < 0) {
+      throw new IOException("Invalid number of names : " + size);
+    }
+    List<String> namesList = new ArrayList<>();
+    for (int index = 0; index < size; index++) {
+      namesList.add(readString(input));
+    }
+    return namesList;
+  }
+
+  /**
+   * Reads a size.
+   *
+   * @param input The input.
+   * @return The size.
+   * @throws IOException If an I/O error occurs or if the size is negative.
+   */
+  private static int readSize(DataInput input) throws IOException {
+    int size = input.readInt();
+    if (size < 0) {
+      throw new IOException("Negative size : " + size);
+    }
+    return size;
+  }
+
+  /**
+   * Reads a {@code String} which can not be {@code null}.
+   *
+   * @param input The input.
+   * @return The {@code String}.
+   * @throws IOException If an I/O error occurs or if the object read is not a {@code String}.
+   */
+  private static String readString(DataInput input) throws IOException {
+    Object object = RowCodec.readObject(input);
+    if (!(object instanceof String)) {
+      throw new IOException("A text is expected instead of " + (object == null ? null : object.getClass().getName()));
+    }
+    return (String) object;
+  }
+}
@@ -12,6 +12,10 @@
  */
 package org.assertj.db.type;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
 /**
  * A source to indicates the informations to connect to the database. It contains the url, user and password to the
  * database. A source is used by a {@link Table} or a {@link Request}.
@@ -78,4 +82,17 @@ public class Source {
   public String getPassword() {
     return password;
   }
+
+  /**
+   * Returns a {@link Connection} to the database.
+   * <p>
+   * A new connection is opened with the {@link DriverManager} for each call.
+   * </p>
+   *
+   * @return A {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  Connection getConnection() throws SQLException {
+    return DriverManager.getConnection(url, user, password);
+  }
 }
@@ -0,0 +1,347 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * List of {@link Row}s stored in a temporary file instead of in memory.
+ * <p>
+ * The rows are added (encoded by {@link RowCodec}) during the loading, then the file is mapped in memory (by segments)
+ * and each call to {@link #get(int)} decodes the row : so two calls return two different instances with the same
+ * values. The rows are decoded with the primary keys name and columns name of the rows written (the primary keys name
+ * can be set after the loading, see {@link #setPksNameList(List)}), so the decoding does not need the data.
+ * </p>
+ * <p>
+ * The temporary file is deleted when it is mapped (or at the end of the JVM if it is not possible), or by
+ * {@link #discard()} if the loading fails before.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class SpilledRowsList extends AbstractList<Row> {
+
+  /**
+   * The maximum size of a mapped segment (a row is never written across two segments).
+   */
+  private static final long SEGMENT_SIZE = 1L << 30;
+
+  /**
+   * The list of the columns name of the rows.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * The list of the primary keys name of the rows.
+   */
+  private List<String> pksNameList;
+  /**
+   * The temporary file.
+   */
+  private final File file;
+  /**
+   * The output to the temporary file ({@code null} after {@link #finish()}).
+   */
+  private DataOutputStream output;
+  /**
+   * The position of the next row in the file.
+   */
+  private long position;
+  /**
+   * The positions of the rows in the file.
+   */
+  private long[] offsets = new long[64];
+  /**
+   * The number of rows.
+   */
+  private int size;
+  /**
+   * The mapped segments of the file ({@code null} before {@link #finish()}).
+   */
+  private MappedByteBuffer[] segments;
+
+  /**
+   * Constructor.
+   *
+   * @param pksNameList The list of the primary keys name of the rows (can be {@code null} if the primary keys are not
+   *                    known during the loading).
+   * @param columnsNameList The list of the columns name of the rows.
+   * @throws AssertJDBException If the temporary file can not be created.
+   */
+  SpilledRowsList(List<String> pksNameList, List<String> columnsNameList) {
+    this.pksNameList = pksNameList;
+    this.columnsNameList = columnsNameList;
+    try {
+      file = File.createTempFile("assertj-db-", ".rows");
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Adds a row at the end of the file.
+   *
+   * @param row The row.
+   * @return {@code true}.
+   * @throws IllegalStateException If the list is finished.
+   * @throws AssertJDBException If the row can not be written.
+   */
+  @Override
+  public boolean add(Row row) {
+    if (output == null) {
+      throw new IllegalStateException("The list is finished");
+    }
+    try {
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      RowCodec.writeRow(new DataOutputStream(byteArrayOutputStream), row);
+      byte[] bytes = byteArrayOutputStream.toByteArray();
+      long length = 4L + bytes.length;
+      if (length > SEGMENT_SIZE) {
+        throw new AssertJDBException("The row is too big to be written in a file");
+      }
+      // The row is written at the beginning of the next segment if it does not fit in the current segment
+      long remaining = SEGMENT_SIZE - position % SEGMENT_SIZE;
+      if (length > remaining) {
+        output.write(new byte[(int) remaining]);
+        position += remaining;
+      }
+      if (size == offsets.length) {
+        offsets = Arrays.copyOf(offsets, size * 2);
+      }
+      offsets[size++] = position;
+      output.writeInt(bytes.length);
+      output.write(bytes);
+      position += length;
+      modCount++;
+      return true;
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Finishes the writing of the rows and maps the file in memory.
+   *
+   * @throws AssertJDBException If the file can not be mapped.
+   */
+  void finish() {
+    if (output == null) {
+      return;
+    }
+    try {
+      output.close();
+      output = null;
+      int numberOfSegments = (int) ((position + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+      segments = new MappedByteBuffer[numberOfSegments];
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+           FileChannel channel = randomAccessFile.getChannel()) {
+        for (int index = 0; index < numberOfSegments; index++) {
+          long start = index * SEGMENT_SIZE;
+          segments[index] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, position - start));
+        }
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    // The mapping stays valid after the deletion (if the deletion fails, the file is deleted at the end of the JVM)
+    if (!file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  /**
+   * Discards the rows when the loading fails before {@link #finish()} : the output is closed and the temporary file is
+   * deleted (the exceptions are ignored).
+   */
+  void discard() {
+    if (output != null) {
+      try {
+        output.close();
+      } catch (IOException e) {
+        // The file is deleted anyway
+      }
+      output = null;
+      if (!file.delete()) {
+        file.deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Sets the list of the primary keys name of the rows decoded from now (the primary keys of a {@link Table} are
+   * known after the loading of the rows).
+   *
+   * @param pksNameList The list of the primary keys name.
+   */
+  void setPksNameList(List<String> pksNameList) {
+    this.pksNameList = pksNameList;
+  }
+
+  /**
+   * Sorts the rows (only the positions of the rows in the file are changed).
+   * <p>
+   * The rows are sorted by runs (the encoded rows of a run have a size less than or equal to {@code runSize}) which
+   * are sorted in memory, then the runs are merged : so each row is decoded twice instead of at each comparison.
+   * </p>
+   *
+   * @param comparator The comparator of the rows.
+   * @param runSize The maximum size (in bytes) of the encoded rows of a run (at least one row is in each run).
+   * @throws IllegalStateException If the list is not finished.
+   */
+  void sortRows(final Comparator<? super Row> comparator, long runSize) {
+    if (segments == null) {
+      throw new IllegalStateException("The list is not finished");
+    }
+    // Sort of each run in memory (the indexes of the sorted rows are kept)
+    List<int[]> runsList = new ArrayList<>();
+    int start = 0;
+    while (start < size) {
+      List<Row> rowsList = new ArrayList<>();
+      long runLength = 0;
+      int end = start;
+      while (end < size && (end == start || runLength + getLength(end) <= runSize)) {
+        runLength += getLength(end);
+        rowsList.add(get(end));
+        end++;
+      }
+      final Row[] rows = rowsList.toArray(new Row[rowsList.size()]);
+      Integer[] indexes = new Integer[rows.length];
+      for (int index = 0; index < rows.length; index++) {
+        indexes[index] = index;
+      }
+      Arrays.sort(indexes, new Comparator<Integer>() {
+        @Override
+        public int compare(Integer index1, Integer index2) {
+          return comparator.compare(rows[index1], rows[index2]);
+        }
+      });
+      int[] run = new int[rows.length];
+      for (int index = 0; index < rows.length; index++) {
+        run[index] = start + indexes[index];
+      }
+      runsList.add(run);
+      start = end;
+    }
+    // Merge of the runs (only the current row of each run is decoded)
+    PriorityQueue<RunCursor> queue = new PriorityQueue<>(Math.max(1, runsList.size()), new Comparator<RunCursor>() {
+      @Override
+      public int compare(RunCursor cursor1, RunCursor cursor2) {
+        int compare = comparator.compare(cursor1.row, cursor2.row);
+        return compare != 0 ? compare : Integer.compare(cursor1.runIndex, cursor2.runIndex);
+      }
+    });
+    for (int runIndex = 0; runIndex < runsList.size(); runIndex++) {
+      int[] run = runsList.get(runIndex);
+      queue.add(new RunCursor(runIndex, run, get(run[0])));
+    }
+    long[] sortedOffsets = new long[offsets.length];
+    int sortedIndex = 0;
+    while (!queue.isEmpty()) {
+      RunCursor cursor = queue.poll();
+      sortedOffsets[sortedIndex++] = offsets[cursor.run[cursor.position]];
+      cursor.position++;
+      if (cursor.position < cursor.run.length) {
+        cursor.row = get(cursor.run[cursor.position]);
+        queue.add(cursor);
+      }
+    }
+    offsets = sortedOffsets;
+    modCount++;
+  }
+
+  /**
+   * Returns the length of a row in the file (with the length written before the row).
+   *
+   * @param index The index of the row.
+   * @return The length.
+   */
+  private int getLength(int index) {
+    long offset = offsets[index];
+    return 4 + segments[(int) (offset / SEGMENT_SIZE)].getInt((int) (offset % SEGMENT_SIZE));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Row get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (segments == null) {
+      throw new IllegalStateException("The list is not finished");
+    }
+    long offset = offsets[index];
+    ByteBuffer buffer = segments[(int) (offset / SEGMENT_SIZE)].duplicate();
+    buffer.position((int) (offset % SEGMENT_SIZE));
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    try {
+      return RowCodec.readRow(new DataInputStream(new ByteArrayInputStream(bytes)), pksNameList, columnsNameList);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Cursor on a sorted run during the merge of the runs.
+   */
+  private static class RunCursor {
+
+    /**
+     * The index of the run (to keep the order of the equal rows).
+     */
+    private final int runIndex;
+    /**
+     * The indexes of the sorted rows of the run.
+     */
+    private final int[] run;
+    /**
+     * The position of the current row in the run.
+     */
+    private int position;
+    /**
+     * The current row.
+     */
+    private Row row;
+
+    /**
+     * Constructor.
+     *
+     * @param runIndex The index of the run.
+     * @param run The indexes of the sorted rows of the run.
+     * @param row The first row of the run.
+     */
+    private RunCursor(int runIndex, int[] run, Row row) {
+      this.runIndex = runIndex;
+      this.run = run;
+      this.row = row;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.RowComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filter which keeps the rows in memory while the budget of memory is not exceeded and which writes the rows in a
+ * {@link SpilledRowsList} after.
+ * <p>
+ * The filter keeps no row in the list of the data : after the loading, the rows are got with {@link #getRowsList()}.
+ * The budget is shared by all the data loaded with the same counter of memory used.
+ * </p>
+ * <p>
+ * If a value can not be written in the file (see {@link RowCodec#canWrite(Row)}), all the rows of the data are kept
+ * in memory, beyond the budget.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class SpillingRowFilter implements RowFilter {
+
+  /**
+   * The maximum size (in bytes) of the encoded rows of a run sorted in memory.
+   */
+  private static final long SORT_RUN_SIZE = 8L << 20;
+
+  /**
+   * The data loaded.
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The budget of memory (in bytes).
+   */
+  private final long heapBudget;
+  /**
+   * The estimated memory used by the rows kept in memory (shared by the data).
+   */
+  private final AtomicLong usedHeap;
+  /**
+   * The rows kept in memory.
+   */
+  private List<Row> rowsList = new ArrayList<>();
+  /**
+   * The estimated memory used by the rows kept in memory by this filter.
+   */
+  private long rowsSize;
+  /**
+   * The rows written in a file ({@code null} while the rows are kept in memory).
+   */
+  private SpilledRowsList spilledRowsList;
+  /**
+   * If all the rows are kept in memory because a value can not be written in the file.
+   */
+  private boolean keptInMemory;
+
+  /**
+   * Constructor.
+   *
+   * @param data The data loaded.
+   * @param heapBudget The budget of memory (in bytes).
+   * @param usedHeap The estimated memory used by the rows kept in memory (shared by the data).
+   */
+  SpillingRowFilter(AbstractDbData<?> data, long heapBudget, AtomicLong usedHeap) {
+    this.data = data;
+    this.heapBudget = heapBudget;
+    this.usedHeap = usedHeap;
+  }
+
+  /**
+   * Returns the rows read, sorted like the rows of the data.
+   * <p>
+   * This method is called after the loading : the rows receive the primary keys name of the data (the primary keys of
+   * a {@link Table} are collected after the rows).
+   * </p>
+   *
+   * @return The rows read (in memory or in a file).
+   */
+  List<Row> getRowsList() {
+    List<String> pksNameList = data.getPksNameList();
+    if (spilledRowsList != null) {
+      spilledRowsList.finish();
+      spilledRowsList.setPksNameList(pksNameList);
+      spilledRowsList.sortRows(RowComparator.INSTANCE, SORT_RUN_SIZE);
+      return spilledRowsList;
+    }
+    for (Row row : rowsList) {
+      row.setPksNameList(pksNameList);
+    }
+    Collections.sort(rowsList, RowComparator.INSTANCE);
+    return rowsList;
+  }
+
+  /**
+   * Discards the rows when the loading fails : the temporary file is deleted and the memory is released.
+   */
+  void discard() {
+    if (spilledRowsList != null) {
+      spilledRowsList.discard();
+      spilledRowsList = null;
+    }
+    usedHeap.addAndGet(-rowsSize);
+    rowsList = null;
+    rowsSize = 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean accept(Row row) {
+    if (keptInMemory) {
+      rowsList.add(row);
+      return false;
+    }
+    if (spilledRowsList == null) {
+      long size = RowCodec.getEstimatedSize(row);
+      if (usedHeap.addAndGet(size) <= heapBudget) {
+        rowsList.add(row);
+        rowsSize += size;
+        return false;
+      }
+      if (!RowCodec.canWrite(row) || !canWrite(rowsList)) {
+        rowsSize += size;
+        keepInMemory(row);
+        return false;
+      }
+      // The budget is exceeded : the rows already read are written in the file and the memory is released
+      usedHeap.addAndGet(-size - rowsSize);
+      // The rows are decoded with their names, because the data are not loaded (a Table has no primary keys yet)
+      spilledRowsList = new SpilledRowsList(row.getPksNameList(), row.getColumnsNameList());
+      spilledRowsList.addAll(rowsList);
+      rowsList = null;
+      rowsSize = 0;
+    } else if (!RowCodec.canWrite(row)) {
+      // The rows already written are read again in memory
+      spilledRowsList.finish();
+      rowsList = new ArrayList<>(spilledRowsList);
+      spilledRowsList = null;
+      keepInMemory(row);
+      return false;
+    }
+    spilledRowsList.add(row);
+    return false;
+  }
+
+  /**
+   * Keeps all the rows of the data in memory from now (a value can not be written in the file).
+   *
+   * @param row The row read.
+   */
+  private void keepInMemory(Row row) {
+    keptInMemory = true;
+    rowsList.add(row);
+  }
+
+  /**
+   * Returns if all the values of the rows can be written in the file.
+   *
+   * @param rowsList The rows.
+   * @return {@code true} if all the values can be written, {@code false} otherwise.
+   */
+  private static boolean canWrite(List<Row> rowsList) {
+    for (Row row : rowsList) {
+      if (!RowCodec.canWrite(row)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -12,6 +12,8 @@
  */
 package org.assertj.db.type;
 
+import org.assertj.db.exception.AssertJDBException;
+
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
@@ -79,6 +81,18 @@ public class Table extends AbstractDbData<Table> {
    * The columns to exclude.
    */
   private String[] columnsToExclude;
+  /**
+   * The name of the version column.
+   */
+  private String versionColumnName;
+  /**
+   * The condition on the rows read (the {@code WHERE} clause without the keyword).
+   */
+  private String condition;
+  /**
+   * The parameters of the condition.
+   */
+  private Object[] conditionParameters;
 
   /**
    * Default constructor.
@@ -242,6 +256,65 @@ public class Table extends AbstractDbData<Table> {
     return this;
   }
 
+  /**
+   * Returns the name of the version column.
+   * 
+   * @see #setVersionColumnName(String)
+   * @return The name of the version column ({@code null} if there is no version column).
+   */
+  public String getVersionColumnName() {
+    return versionColumnName;
+  }
+
+  /**
+   * Sets the name of the version column.
+   * <p>
+   * The version column is a column whose value is set at each insertion or update of a row to a value greater than
+   * all the values of the column in the table (like a value from a sequence or an {@code updated_at} timestamp of the
+   * modification). When the table has primary keys and a version column, {@link Changes#setEndPointNow()} only reads
+   * the primary keys of the table and the rows whose version is greater than or equal to the greatest version at start
+   * point.
+   * </p>
+   * <p>
+   * A version number of each row (like the column of an optimistic lock, incremented from the previous version of the
+   * row) is not a version column : a row updated from the version {@code 1} to the version {@code 2} is not found if
+   * another row is at the version {@code 5}.
+   * </p>
+   * 
+   * @see #getVersionColumnName()
+   * @param versionColumnName The name of the version column ({@code null} if there is no version column).
+   * @return The actual instance.
+   */
+  public Table setVersionColumnName(String versionColumnName) {
+    if (versionColumnName == null) {
+      this.versionColumnName = null;
+    } else {
+      this.versionColumnName = versionColumnName.toUpperCase();
+    }
+    return this;
+  }
+
+  /**
+   * Sets the condition on the rows read.
+   * 
+   * @param condition The condition (the {@code WHERE} clause without the keyword, {@code null} to read all the rows).
+   * @param conditionParameters The parameters of the condition.
+   * @return The actual instance.
+   */
+  Table setCondition(String condition, Object... conditionParameters) {
+    this.condition = condition;
+    this.conditionParameters = condition == null ? null : conditionParameters;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Object[] getRequestParameters() {
+    return conditionParameters;
+  }
+
   /**
    * Returns the SQL request.
    * 
@@ -268,29 +341,33 @@ public class Table extends AbstractDbData<Table> {
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(name);
+    if (condition != null) {
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(condition);
+    }
     return stringBuilder.toString();
   }
 
   /**
-   * Collects the columns name from the {@code ResultSet} on the table.
+   * Collects the columns name from the labels of the columns on the table.
    * <p>
-   * This method use the {@link ResultSetMetaData} from the <code>resultSet</code> parameter to list the name of the
-   * columns. But the columns to exclude are not collected.
+   * This method use the labels in parameter to list the name of the columns. But the columns to exclude are not
+   * collected.
    * </p>
    * 
-   * @param resultSet The {@code ResultSet}.
-   * @throws SQLException SQL Exception.
+   * @see AbstractDbData#collectColumnsName(List)
+   * @param columnsLabelsList The labels of the columns.
    */
-  private void collectColumnsNameFromResultSet(ResultSet resultSet) throws SQLException {
-    ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+  @Override
+  protected void collectColumnsName(List<String> columnsLabelsList) {
     List<String> columnsNameList = new ArrayList<>();
     List<String> columnsToExcludeList = null;
     if (columnsToExclude != null) {
       columnsToExcludeList = Arrays.asList(columnsToExclude);
     }
 
-    for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-      String columnName = resultSetMetaData.getColumnLabel(i).toUpperCase();
+    for (String columnLabel : columnsLabelsList) {
+      String columnName = columnLabel.toUpperCase();
       if (columnsToExcludeList == null || !columnsToExcludeList.contains(columnName)) {
 
         columnsNameList.add(columnName);
@@ -299,28 +376,73 @@ public class Table extends AbstractDbData<Table> {
     setColumnsNameList(columnsNameList);
   }
 
+  /**
+   * Loads the primary keys name from the database, without loading the rows.
+   * 
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  void loadPksName() {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (Connection connection = getConnection()) {
+      collectPrimaryKeyName(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  @Override
+  protected void collectPksName(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    collectPrimaryKeyName(connection);
+  }
+
   /**
    * Collects the primary key name from the {@code Connection} to the database.
    * <p>
    * This method use the {@link DatabaseMetaData} from the {@code Connection} parameter to list the primary keys of the
-   * table.
+   * table (or the cache of the metadata if the primary keys are kept in it).
    * </p>
    * 
    * @param connection The {@code Connection} to the database.
    * @throws SQLException SQL Exception.
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
-    List<String> pksNameList = new ArrayList<>();
-    DatabaseMetaData metaData = connection.getMetaData();
-
-    try (ResultSet resultSet = metaData.getPrimaryKeys(getCatalog(connection), getSchema(connection),
-        name.toUpperCase())) {
-      while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (getColumnsNameList().indexOf(columnName) != -1) {
-          pksNameList.add(columnName);
+    String catalog = getCatalog(connection);
+    String schema = getSchema(connection);
+    MetaDataCache metaDataCache = getMetaDataCache();
+    List<String> primaryKeysList = null;
+    if (metaDataCache != null) {
+      primaryKeysList = metaDataCache.get(this, MetaDataCache.PRIMARY_KEYS, catalog, schema, name.toUpperCase());
+    }
+    if (primaryKeysList == null) {
+      primaryKeysList = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, name.toUpperCase())) {
+        while (resultSet.next()) {
+          primaryKeysList.add(resultSet.getString("COLUMN_NAME"));
         }
       }
+      if (metaDataCache != null) {
+        metaDataCache.put(this, MetaDataCache.PRIMARY_KEYS, primaryKeysList, catalog, schema, name.toUpperCase());
+      }
+    }
+
+    List<String> pksNameList = new ArrayList<>();
+    for (String columnName : primaryKeysList) {
+      if (getColumnsNameList().indexOf(columnName) != -1) {
+        pksNameList.add(columnName);
+      }
     }
     setPksNameList(pksNameList);
   }
@@ -339,10 +461,24 @@ public class Table extends AbstractDbData<Table> {
       throw new NullPointerException("name can not be null");
     }
 
-    try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
-        collectColumnsNameFromResultSet(resultSet);
-        collectRowsFromResultSet(resultSet);
+    if (conditionParameters == null) {
+      try (Statement statement = connection.createStatement()) {
+        getLoadOptions().applyTo(statement);
+        try (ResultSet resultSet = statement.executeQuery(getRequest())) {
+          collectColumnsName(resultSet.getMetaData());
+          collectRowsFromResultSet(resultSet);
+        }
+      }
+    } else {
+      try (PreparedStatement statement = connection.prepareStatement(getRequest())) {
+        getLoadOptions().applyTo(statement);
+        for (int i = 0; i < conditionParameters.length; i++) {
+          statement.setObject(i + 1, conditionParameters[i]);
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+          collectColumnsName(resultSet.getMetaData());
+          collectRowsFromResultSet(resultSet);
+        }
       }
     }
     collectPrimaryKeyName(connection);
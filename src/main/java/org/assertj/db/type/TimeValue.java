@@ -41,19 +41,9 @@ public class TimeValue implements Comparable<TimeValue> {
    */
   private final int nanoSeconds;
   /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
+   * The cache of the times parsed by {@link #parse(String)}.
    */
-  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+  private static final ParseCache<TimeValue> CACHE = new ParseCache<>(256);
 
   /**
    * Makes an instance of time value from a hour, minutes, seconds and nanoseconds.
@@ -102,7 +92,55 @@ public class TimeValue implements Comparable<TimeValue> {
    *           {@code hh:mm:ss.nnnnnnnnn} format.
    */
   public static TimeValue parse(String time) throws ParseException {
-    return new TimeValue(time);
+    if (time == null) {
+      throw new NullPointerException("time should be not null");
+    }
+    TimeValue timeValue = CACHE.get(time);
+    if (timeValue == null) {
+      timeValue = new TimeValue(time);
+      CACHE.put(time, timeValue);
+    }
+    return timeValue;
+  }
+
+  /**
+   * Returns if there is a time in {@code hh:mm}, {@code hh:mm:ss} or {@code hh:mm:ss.nnnnnnnnn} format from an index
+   * to the end of a {@code String}.
+   *
+   * @param string The {@code String}.
+   * @param start The index of the time.
+   * @return {@code true} if there is a time, {@code false} otherwise.
+   */
+  static boolean isTime(String string, int start) {
+    int length = string.length() - start;
+    if (length != 5 && length != 8 && length != 18) {
+      return false;
+    }
+    if (DateValue.parseDigits(string, start, start + 2) == -1 || string.charAt(start + 2) != ':'
+        || DateValue.parseDigits(string, start + 3, start + 5) == -1) {
+      return false;
+    }
+    if (length >= 8 && (string.charAt(start + 5) != ':' || DateValue.parseDigits(string, start + 6, start + 8) == -1)) {
+      return false;
+    }
+    // The separator of the nanoseconds can be any character
+    return length != 18 || DateValue.parseDigits(string, start + 9, start + 18) != -1;
+  }
+
+  /**
+   * Makes an instance of time value from a time from an index to the end of a {@code String}.
+   *
+   * @param string The {@code String}.
+   * @param start The index of the time (checked with {@link #isTime(String, int)}).
+   * @return An instance of time value.
+   */
+  static TimeValue parse(String string, int start) {
+    int length = string.length() - start;
+    int hour = DateValue.parseDigits(string, start, start + 2);
+    int minutes = DateValue.parseDigits(string, start + 3, start + 5);
+    int seconds = length >= 8 ? DateValue.parseDigits(string, start + 6, start + 8) : 0;
+    int nanoSeconds = length == 18 ? DateValue.parseDigits(string, start + 9, start + 18) : 0;
+    return new TimeValue(hour, minutes, seconds, nanoSeconds);
   }
 
   /**
@@ -187,21 +225,11 @@ public class TimeValue implements Comparable<TimeValue> {
       throw new NullPointerException("time should be not null");
     }
 
-    if (time.matches(TIME_FORMAT)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3));
-      seconds = 0;
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_SECONDS)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6));
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_NANO)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6, 8));
-      nanoSeconds = Integer.parseInt(time.substring(9));
+    if (isTime(time, 0)) {
+      hour = DateValue.parseDigits(time, 0, 2);
+      minutes = DateValue.parseDigits(time, 3, 5);
+      seconds = time.length() >= 8 ? DateValue.parseDigits(time, 6, 8) : 0;
+      nanoSeconds = time.length() == 18 ? DateValue.parseDigits(time, 9, 18) : 0;
     } else {
       throw new ParseException("time must respect hh:mm, hh:mm:ss or hh:mm:ss.nnnnnnnnn format", time.length());
     }
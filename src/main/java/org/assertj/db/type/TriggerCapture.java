@@ -0,0 +1,617 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.internal.H2CaptureTrigger;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Capture of the changes on tables with triggers.
+ * <p>
+ * For each table, an audit table and triggers are created in the database. Each time a row is inserted, updated or
+ * deleted, the triggers insert the row before the change (old image) and/or the row after the change (new image) in
+ * the audit table with a sequence number. The rows at start point and at end point are built from these images, so
+ * the cost depends of the number of changes and not of the size of the tables.
+ * </p>
+ * <p>
+ * The capture is possible on H2 (with {@link H2CaptureTrigger}) and on HSQLDB (with SQL triggers).
+ * </p>
+ * <p>
+ * The names of the objects created contain the identifier of the capture, so several captures can be in progress at
+ * the same time (in one or several JVMs). The objects are dropped at the end of the capture, at its cancellation or
+ * at the end of the JVM. The identifier starts with the time of the creation : the objects left by a capture (for
+ * example after a crash of the JVM) are dropped at the start of the next capture if they were created more than
+ * {@value #STALE_DELAY} milliseconds before, so the captures in progress in other JVMs are not concerned.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+class TriggerCapture {
+
+  /**
+   * Prefix of the name of the audit tables.
+   */
+  static final String AUDIT_TABLE_PREFIX = "ADB_A_";
+  /**
+   * Prefix of the name of the sequences which order the images.
+   */
+  private static final String SEQUENCE_PREFIX = "ADB_S_";
+  /**
+   * Name of the column with the sequence number in the audit tables.
+   */
+  static final String SEQUENCE_COLUMN = "ADB_SEQ";
+  /**
+   * Name of the column with the kind of image in the audit tables.
+   */
+  static final String IMAGE_COLUMN = "ADB_IMAGE";
+  /**
+   * Kind of image : the row before the change.
+   */
+  static final String OLD_IMAGE = "O";
+  /**
+   * Kind of image : the row after the change.
+   */
+  static final String NEW_IMAGE = "N";
+  /**
+   * Prefix of the name of the triggers.
+   */
+  private static final String TRIGGER_PREFIX = "ADB_T_";
+  /**
+   * The delay (in milliseconds) after which the objects of a capture which is not in progress in this JVM are
+   * considered as left (one day).
+   */
+  static final long STALE_DELAY = 24 * 60 * 60 * 1000L;
+  /**
+   * The number of characters of the time (in seconds, in base 36) at the start of the identifiers.
+   */
+  private static final int TIME_LENGTH = 7;
+  /**
+   * The identifiers of the captures in progress in this JVM.
+   */
+  private static final Set<String> ACTIVE_IDS_SET = new HashSet<>();
+  /**
+   * The generator of the identifiers of the captures.
+   */
+  private static final Random RANDOM = new Random();
+
+  /**
+   * The databases on which the capture is possible.
+   */
+  private enum Dialect {
+    /**
+     * H2 database.
+     */
+    H2,
+    /**
+     * HSQLDB database.
+     */
+    HSQLDB
+  }
+
+  /**
+   * The element which gives the connections to the database.
+   */
+  private final AbstractDbElement<?> element;
+  /**
+   * The tables on which the changes are captured (with the columns name and the primary keys name).
+   */
+  private final List<Table> tablesList;
+  /**
+   * The statements to drop the objects created in the database (in the order of the creation).
+   */
+  private final List<String> dropStatementsList = new ArrayList<>();
+  /**
+   * If the capture is finished.
+   */
+  private boolean finished;
+  /**
+   * The identifier of the capture (in the names of the objects created).
+   */
+  private final String id;
+  /**
+   * The hook which drops the objects created at the end of the JVM ({@code null} if there is no object to drop).
+   */
+  private Thread shutdownHook;
+
+  /**
+   * Constructor.
+   *
+   * @param element The element which gives the connections to the database.
+   * @param tablesList The tables on which the changes are captured.
+   */
+  TriggerCapture(AbstractDbElement<?> element, List<Table> tablesList) {
+    this.element = element;
+    this.tablesList = tablesList;
+    synchronized (ACTIVE_IDS_SET) {
+      String id;
+      do {
+        id = getId(System.currentTimeMillis(), RANDOM.nextInt(Integer.MAX_VALUE));
+      } while (!ACTIVE_IDS_SET.add(id));
+      this.id = id;
+    }
+  }
+
+  /**
+   * Returns an identifier of capture : the time of the creation (in seconds, in base 36 on {@value #TIME_LENGTH}
+   * characters) followed by a random part.
+   *
+   * @param time The time of the creation (in milliseconds).
+   * @param random The random part.
+   * @return The identifier.
+   */
+  static String getId(long time, int random) {
+    StringBuilder stringBuilder = new StringBuilder(Long.toString(time / 1000, 36));
+    while (stringBuilder.length() < TIME_LENGTH) {
+      stringBuilder.insert(0, '0');
+    }
+    return stringBuilder.append(Integer.toString(random, 36)).toString().toUpperCase();
+  }
+
+  /**
+   * Returns the time of the creation of a capture from its identifier.
+   *
+   * @param id The identifier.
+   * @return The time of the creation (in milliseconds), or {@code -1} if the identifier does not contain a time.
+   */
+  static long getTime(String id) {
+    if (id.length() <= TIME_LENGTH || !Character.isLetterOrDigit(id.charAt(0))) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(id.substring(0, TIME_LENGTH), 36) * 1000;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Returns the name of the audit table of a table.
+   *
+   * @param tableName The name of the table.
+   * @return The name of the audit table.
+   */
+  String getAuditTableName(String tableName) {
+    return AUDIT_TABLE_PREFIX + id + "_" + tableName.toUpperCase();
+  }
+
+  /**
+   * Returns if the name of a table is the name of an audit table.
+   *
+   * @param tableName The name of the table.
+   * @return {@code true} if the table is an audit table, {@code false} otherwise.
+   */
+  static boolean isAuditTableName(String tableName) {
+    return tableName.toUpperCase().startsWith(AUDIT_TABLE_PREFIX);
+  }
+
+  /**
+   * Returns if the capture is finished (the changes are read and the objects are dropped).
+   *
+   * @return {@code true} if the capture is finished, {@code false} otherwise.
+   */
+  boolean isFinished() {
+    return finished;
+  }
+
+  /**
+   * Starts the capture : creates the sequence, the audit tables and the triggers.
+   *
+   * @throws AssertJDBException If the database is not supported or if triggered, this exception wrap a possible
+   *           {@link SQLException} during the creation.
+   */
+  void start() {
+    try (Connection connection = element.getConnection()) {
+      Dialect dialect = getDialect(connection);
+      dropLeftObjects(connection);
+      addShutdownHook();
+      try (Statement statement = connection.createStatement()) {
+        String sequenceName = SEQUENCE_PREFIX + id;
+        execute(statement, "CREATE SEQUENCE " + sequenceName, "DROP SEQUENCE " + sequenceName);
+        for (Table table : tablesList) {
+          createAuditTable(statement, dialect, table.getName());
+          createTriggers(connection, statement, dialect, table.getName());
+        }
+      }
+    } catch (SQLException e) {
+      dropQuietly();
+      throw new AssertJDBException(e);
+    } catch (RuntimeException e) {
+      dropQuietly();
+      throw e;
+    }
+  }
+
+  /**
+   * Finishes the capture : reads the images in the audit tables to set the rows of the tables at start point and at
+   * end point, then drops the objects created in the database.
+   * <p>
+   * The rows of a table at start point are the rows before their first change and the rows at end point are the rows
+   * after their last change (the rows which are not changed are in none of them).
+   * </p>
+   *
+   * @param tablesAtEndPointList The tables at end point (not loaded, in the same order than the tables captured).
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading.
+   */
+  void finish(List<Table> tablesAtEndPointList) {
+    try {
+      Iterator<Table> iterator = tablesAtEndPointList.iterator();
+      for (Table tableAtStartPoint : tablesList) {
+        Table tableAtEndPoint = iterator.next();
+        setRows(tableAtStartPoint, tableAtEndPoint, getImagesList(tableAtStartPoint));
+      }
+    } finally {
+      finished = true;
+      dropQuietly();
+    }
+  }
+
+  /**
+   * Cancels the capture : drops the objects created in the database without reading the images.
+   */
+  void cancel() {
+    if (!finished) {
+      finished = true;
+      dropQuietly();
+    }
+  }
+
+  /**
+   * Returns the images of the rows of a table in the order of the changes.
+   *
+   * @param table The table.
+   * @return The images (the old images are at {@code true} in the entries).
+   */
+  private List<Map.Entry<Boolean, Row>> getImagesList(Table table) {
+    Table auditTable = new Table();
+    if (element.getSource() != null) {
+      auditTable.setSource(element.getSource());
+    } else {
+      auditTable.setDataSource(element.getDataSource());
+    }
+    auditTable.setName(getAuditTableName(table.getName()));
+
+    List<Row> auditRowsList = new ArrayList<>(auditTable.getRowsList());
+    Collections.sort(auditRowsList, new Comparator<Row>() {
+      @Override
+      public int compare(Row row1, Row row2) {
+        long sequence1 = ((Number) row1.getColumnValue(SEQUENCE_COLUMN).getValue()).longValue();
+        long sequence2 = ((Number) row2.getColumnValue(SEQUENCE_COLUMN).getValue()).longValue();
+        return sequence1 < sequence2 ? -1 : (sequence1 == sequence2 ? 0 : 1);
+      }
+    });
+
+    List<String> columnsNameList = table.getColumnsNameList();
+    List<Map.Entry<Boolean, Row>> imagesList = new ArrayList<>(auditRowsList.size());
+    for (Row auditRow : auditRowsList) {
+      List<Value> valuesList = new ArrayList<>(columnsNameList.size());
+      for (String columnName : columnsNameList) {
+        valuesList.add(auditRow.getColumnValue(columnName));
+      }
+      boolean oldImage = OLD_IMAGE.equals(String.valueOf(auditRow.getColumnValue(IMAGE_COLUMN).getValue()).trim());
+      Row row = new Row(table.getPksNameList(), columnsNameList, valuesList);
+      imagesList.add(new AbstractMap.SimpleImmutableEntry<>(oldImage, row));
+    }
+    return imagesList;
+  }
+
+  /**
+   * Sets the rows of a table at start point and at end point from the images.
+   * <p>
+   * With primary keys, the images are grouped by primary keys values : the row at start point is the first image if
+   * it is an old image and the row at end point is the last image if it is a new image. Without primary key, the rows
+   * at start point are the old images and the rows at end point are the new images.
+   * </p>
+   *
+   * @param tableAtStartPoint The table at start point.
+   * @param tableAtEndPoint The table at end point.
+   * @param imagesList The images in the order of the changes.
+   */
+  private static void setRows(Table tableAtStartPoint, Table tableAtEndPoint,
+      List<Map.Entry<Boolean, Row>> imagesList) {
+
+    List<String> pksNameList = tableAtStartPoint.getPksNameList();
+    List<Row> rowsAtStartPointList = new ArrayList<>();
+    List<Row> rowsAtEndPointList = new ArrayList<>();
+    if (pksNameList.size() > 0) {
+      Map<List<Object>, Row[]> rowsMap = new LinkedHashMap<>();
+      for (Map.Entry<Boolean, Row> image : imagesList) {
+        boolean oldImage = image.getKey();
+        Row row = image.getValue();
+        List<Object> key = new ArrayList<>(pksNameList.size());
+        for (Value value : row.getPksValues()) {
+          key.add(value.getValue());
+        }
+        Row[] rows = rowsMap.get(key);
+        if (rows == null) {
+          rows = new Row[] { oldImage ? row : null, null };
+          rowsMap.put(key, rows);
+        }
+        rows[1] = oldImage ? null : row;
+      }
+      for (Row[] rows : rowsMap.values()) {
+        if (rows[0] != null) {
+          rowsAtStartPointList.add(rows[0]);
+        }
+        if (rows[1] != null) {
+          rowsAtEndPointList.add(rows[1]);
+        }
+      }
+    } else {
+      for (Map.Entry<Boolean, Row> image : imagesList) {
+        if (image.getKey()) {
+          rowsAtStartPointList.add(image.getValue());
+        } else {
+          rowsAtEndPointList.add(image.getValue());
+        }
+      }
+    }
+
+    tableAtStartPoint.setRowsList(rowsAtStartPointList);
+    tableAtEndPoint.setColumnsNameList(tableAtStartPoint.getColumnsNameList());
+    tableAtEndPoint.setPksNameList(pksNameList);
+    tableAtEndPoint.setRowsList(rowsAtEndPointList);
+  }
+
+  /**
+   * Returns the dialect of the database.
+   *
+   * @param connection The connection to the database.
+   * @return The dialect.
+   * @throws SQLException SQL Exception.
+   * @throws AssertJDBException If the database is not supported.
+   */
+  private static Dialect getDialect(Connection connection) throws SQLException {
+    String productName = connection.getMetaData().getDatabaseProductName();
+    if ("H2".equalsIgnoreCase(productName)) {
+      return Dialect.H2;
+    }
+    if (productName != null && productName.toUpperCase().startsWith("HSQL")) {
+      return Dialect.HSQLDB;
+    }
+    throw new AssertJDBException("The capture of the changes with triggers is not possible on <%s>", productName);
+  }
+
+  /**
+   * Creates the audit table of a table : the sequence number, the kind of image and the columns of the table.
+   *
+   * @param statement The statement.
+   * @param dialect The dialect of the database.
+   * @param tableName The name of the table.
+   * @throws SQLException SQL Exception.
+   */
+  private void createAuditTable(Statement statement, Dialect dialect, String tableName) throws SQLException {
+    String auditTableName = getAuditTableName(tableName);
+    String select = "SELECT CAST(0 AS BIGINT) AS " + SEQUENCE_COLUMN + ", CAST('" + OLD_IMAGE + "' AS CHAR(1)) AS "
+        + IMAGE_COLUMN + ", T.* FROM " + tableName + " T";
+    if (dialect == Dialect.H2) {
+      execute(statement, "CREATE TABLE " + auditTableName + " AS " + select + " WHERE 1 = 0",
+          "DROP TABLE " + auditTableName);
+    } else {
+      execute(statement, "CREATE TABLE " + auditTableName + " AS (" + select + ") WITH NO DATA",
+          "DROP TABLE " + auditTableName);
+    }
+  }
+
+  /**
+   * Creates the triggers on a table which insert the images in the audit table.
+   *
+   * @param connection The connection to the database.
+   * @param statement The statement.
+   * @param dialect The dialect of the database.
+   * @param tableName The name of the table.
+   * @throws SQLException SQL Exception.
+   */
+  private void createTriggers(Connection connection, Statement statement, Dialect dialect, String tableName)
+      throws SQLException {
+
+    String triggerName = TRIGGER_PREFIX + id + "_" + tableName.toUpperCase();
+    if (dialect == Dialect.H2) {
+      execute(statement, "CREATE TRIGGER " + triggerName + " AFTER INSERT, UPDATE, DELETE ON " + tableName
+          + " FOR EACH ROW CALL \"" + H2CaptureTrigger.class.getName() + "\"", "DROP TRIGGER " + triggerName);
+      return;
+    }
+
+    String auditTableName = getAuditTableName(tableName);
+    List<String> columnsNameList = getAllColumnsName(connection, tableName);
+    String insertOld = getInsert(auditTableName, OLD_IMAGE, "O", columnsNameList);
+    String insertNew = getInsert(auditTableName, NEW_IMAGE, "N", columnsNameList);
+    execute(statement, "CREATE TRIGGER " + triggerName + "_I AFTER INSERT ON " + tableName
+        + " REFERENCING NEW ROW AS N FOR EACH ROW " + insertNew, "DROP TRIGGER " + triggerName + "_I");
+    execute(statement, "CREATE TRIGGER " + triggerName + "_U AFTER UPDATE ON " + tableName
+        + " REFERENCING OLD ROW AS O NEW ROW AS N FOR EACH ROW BEGIN ATOMIC " + insertOld + "; " + insertNew
+        + "; END", "DROP TRIGGER " + triggerName + "_U");
+    execute(statement, "CREATE TRIGGER " + triggerName + "_D AFTER DELETE ON " + tableName
+        + " REFERENCING OLD ROW AS O FOR EACH ROW " + insertOld, "DROP TRIGGER " + triggerName + "_D");
+  }
+
+  /**
+   * Returns the SQL statement which inserts an image in the audit table (for the SQL triggers).
+   *
+   * @param auditTableName The name of the audit table.
+   * @param image The kind of image.
+   * @param alias The alias of the row in the trigger.
+   * @param columnsNameList The name of all the columns of the table.
+   * @return The SQL statement.
+   */
+  private String getInsert(String auditTableName, String image, String alias, List<String> columnsNameList) {
+    StringBuilder stringBuilder = new StringBuilder("INSERT INTO ");
+    stringBuilder.append(auditTableName).append(" VALUES (NEXT VALUE FOR ").append(SEQUENCE_PREFIX).append(id);
+    stringBuilder.append(", '").append(image).append("'");
+    for (String columnName : columnsNameList) {
+      stringBuilder.append(", ").append(alias).append(".").append(columnName);
+    }
+    stringBuilder.append(")");
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Returns the name of all the columns of a table (in the order of the table).
+   *
+   * @param connection The connection to the database.
+   * @param tableName The name of the table.
+   * @return The name of the columns.
+   * @throws SQLException SQL Exception.
+   */
+  private static List<String> getAllColumnsName(Connection connection, String tableName) throws SQLException {
+    List<String> columnsNameList = new ArrayList<>();
+    try (Statement statement = connection.createStatement()) {
+      statement.setMaxRows(1);
+      try (ResultSet resultSet = statement.executeQuery("SELECT * FROM " + tableName)) {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+          columnsNameList.add(metaData.getColumnName(i));
+        }
+      }
+    }
+    return columnsNameList;
+  }
+
+  /**
+   * Executes a statement which creates an object in the database and notes the statement which drops it.
+   *
+   * @param statement The statement.
+   * @param createStatement The SQL statement which creates the object.
+   * @param dropStatement The SQL statement which drops the object.
+   * @throws SQLException SQL Exception.
+   */
+  private void execute(Statement statement, String createStatement, String dropStatement) throws SQLException {
+    statement.executeUpdate(createStatement);
+    dropStatementsList.add(dropStatement);
+  }
+
+  /**
+   * Drops the objects left in the database by the captures which are not in progress in this JVM and which were
+   * created more than {@value #STALE_DELAY} milliseconds before (the triggers, then the audit tables and the
+   * sequences) and ignores the exceptions of the drops.
+   *
+   * @param connection The connection to the database.
+   * @throws SQLException SQL Exception.
+   */
+  private static void dropLeftObjects(Connection connection) throws SQLException {
+    List<String> dropStatementsList = new ArrayList<>();
+    long staleTime = System.currentTimeMillis() - STALE_DELAY;
+    try (Statement statement = connection.createStatement()) {
+      addDropStatements(statement, dropStatementsList, "TRIGGER", "TRIGGERS", TRIGGER_PREFIX, staleTime);
+      addDropStatements(statement, dropStatementsList, "TABLE", "TABLES", AUDIT_TABLE_PREFIX, staleTime);
+      addDropStatements(statement, dropStatementsList, "SEQUENCE", "SEQUENCES", SEQUENCE_PREFIX, staleTime);
+      for (String dropStatement : dropStatementsList) {
+        try {
+          statement.executeUpdate(dropStatement);
+        } catch (SQLException e) {
+          // The object is already dropped or it can not be dropped : the other objects are dropped
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the statements to drop the objects of a kind left in the database by the captures which are not in progress.
+   * <p>
+   * The objects whose identifier does not contain a time of creation before the stale time are kept : they may be the
+   * objects of a capture in progress in another JVM.
+   * </p>
+   *
+   * @param statement The statement.
+   * @param dropStatementsList The list of the statements to drop the objects.
+   * @param kind The kind of object ({@code TRIGGER}, {@code TABLE} or {@code SEQUENCE}).
+   * @param view The view of the {@code INFORMATION_SCHEMA} with the objects of this kind.
+   * @param prefix The prefix of the name of the objects.
+   * @param staleTime The time (in milliseconds) before which the objects are left.
+   * @throws SQLException SQL Exception.
+   */
+  private static void addDropStatements(Statement statement, List<String> dropStatementsList, String kind,
+      String view, String prefix, long staleTime) throws SQLException {
+
+    String kindColumn = kind + "_";
+    try (ResultSet resultSet = statement.executeQuery("SELECT " + kindColumn + "SCHEMA, " + kindColumn + "NAME FROM "
+        + "INFORMATION_SCHEMA." + view + " WHERE " + kindColumn + "NAME LIKE '"
+        + prefix.replace("_", "\\_") + "%' ESCAPE '\\'")) {
+      while (resultSet.next()) {
+        String schema = resultSet.getString(1);
+        String name = resultSet.getString(2);
+        String suffix = name.substring(prefix.length());
+        int index = suffix.indexOf('_');
+        String id = index == -1 ? suffix : suffix.substring(0, index);
+        long time = getTime(id);
+        if (time == -1 || time >= staleTime) {
+          continue;
+        }
+        synchronized (ACTIVE_IDS_SET) {
+          if (ACTIVE_IDS_SET.contains(id)) {
+            continue;
+          }
+        }
+        dropStatementsList.add("DROP " + kind + " \"" + schema + "\".\"" + name + "\"");
+      }
+    }
+  }
+
+  /**
+   * Adds the hook which drops the objects created at the end of the JVM.
+   */
+  private void addShutdownHook() {
+    shutdownHook = new Thread() {
+      @Override
+      public void run() {
+        dropObjects();
+      }
+    };
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+  }
+
+  /**
+   * Drops the objects created in the database and removes the hook of the end of the JVM.
+   */
+  private void dropQuietly() {
+    if (shutdownHook != null) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      } catch (IllegalStateException e) {
+        // The JVM is ending : the hook drops the objects
+        return;
+      }
+      shutdownHook = null;
+    }
+    dropObjects();
+  }
+
+  /**
+   * Drops the objects created in the database (in the reverse order of the creation) and ignores the exceptions.
+   */
+  private synchronized void dropObjects() {
+    synchronized (ACTIVE_IDS_SET) {
+      ACTIVE_IDS_SET.remove(id);
+    }
+    if (dropStatementsList.isEmpty()) {
+      return;
+    }
+    try (Connection connection = element.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        for (int index = dropStatementsList.size() - 1; index >= 0; index--) {
+          try {
+            statement.executeUpdate(dropStatementsList.get(index));
+          } catch (SQLException e) {
+            // The other objects are dropped
+          }
+        }
+      }
+    } catch (SQLException e) {
+      // The objects can not be dropped
+    }
+    dropStatementsList.clear();
+  }
+}
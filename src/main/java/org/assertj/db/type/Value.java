@@ -98,9 +98,20 @@ public class Value implements DbElement {
    * @param value      The value.
    */
   Value(String columnName, Object value) {
+    this(columnName, value, getType(value));
+  }
+
+  /**
+   * Constructor with the type of the value already resolved (for example once for all the values of a column).
+   *
+   * @param columnName The name of the column.
+   * @param value      The value.
+   * @param valueType  The type of the value (must be the type returned by {@link #getType(Object)} for the value).
+   */
+  Value(String columnName, Object value, ValueType valueType) {
     this.columnName = columnName;
     this.value = value;
-    valueType = getType(value);
+    this.valueType = valueType;
   }
 
   /**
@@ -0,0 +1,146 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dictionary of the values of a column used during the loading of the data.
+ * <p>
+ * The identical cells of a column share the same {@link Value} instance (and so the same object inside), like a
+ * dictionary encoding of the column. Only the immutable objects ({@code String}, {@code Boolean}, numbers and
+ * {@code UUID}) are shared.<br>
+ * The dictionary is bounded : when it is full, the column is considered to have a high cardinality and the new objects
+ * are no more added (the cells with an object already in the dictionary still share its value).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+class ValueDictionary {
+
+  /**
+   * The maximum number of values in the dictionary.
+   */
+  private static final int MAX_SIZE = 1024;
+
+  /**
+   * The name of the column.
+   */
+  private final String columnName;
+  /**
+   * The {@code null} value of the column.
+   */
+  private final Value nullValue;
+  /**
+   * The type of the values of the column if it is known from the type of the column ({@code null} otherwise).
+   */
+  private final ValueType valueType;
+  /**
+   * The class of the last object met.
+   */
+  private Class<?> lastClass;
+  /**
+   * The type of the value of the last class met.
+   */
+  private ValueType lastValueType;
+  /**
+   * If the objects of the last class met can be shared.
+   */
+  private boolean lastShareable;
+  /**
+   * The values already met, by object.
+   */
+  private final Map<Object, Value> valuesMap = new HashMap<>();
+  /**
+   * If the dictionary is full.
+   */
+  private boolean saturated;
+
+  /**
+   * Constructor.
+   *
+   * @param columnName The name of the column.
+   */
+  ValueDictionary(String columnName) {
+    this(columnName, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columnName The name of the column.
+   * @param valueType The type of the values of the column if it is known from the type of the column ({@code null}
+   *          otherwise : the type is resolved from the class of the objects).
+   */
+  ValueDictionary(String columnName, ValueType valueType) {
+    this.columnName = columnName;
+    this.valueType = valueType;
+    this.nullValue = new Value(columnName, null);
+  }
+
+  /**
+   * Returns if the object in parameter is immutable and can be shared between the cells.
+   *
+   * @param object The object.
+   * @return {@code true} if the object can be shared.
+   */
+  private static boolean isShareable(Object object) {
+    return object instanceof String
+           || object instanceof Boolean
+           || object instanceof Byte
+           || object instanceof Short
+           || object instanceof Integer
+           || object instanceof Long
+           || object instanceof Float
+           || object instanceof Double
+           || object instanceof BigDecimal
+           || object instanceof BigInteger
+           || object instanceof UUID;
+  }
+
+  /**
+   * Returns the {@link Value} corresponding to the object in parameter.
+   *
+   * @param object The object read in the cell.
+   * @return The {@link Value} (shared with the other identical cells if possible).
+   */
+  Value getValue(Object object) {
+    if (object == null) {
+      return nullValue;
+    }
+    // The type only depends of the class : it is resolved again only when the class changes
+    Class<?> objectClass = object.getClass();
+    if (objectClass != lastClass) {
+      lastClass = objectClass;
+      lastValueType = valueType == null ? Value.getType(object) : valueType;
+      lastShareable = isShareable(object);
+    }
+    if (!lastShareable) {
+      return new Value(columnName, object, lastValueType);
+    }
+    Value value = valuesMap.get(object);
+    if (value == null) {
+      value = new Value(columnName, object, lastValueType);
+      if (!saturated) {
+        valuesMap.put(object, value);
+        saturated = valuesMap.size() >= MAX_SIZE;
+      }
+    }
+    return value;
+  }
+}
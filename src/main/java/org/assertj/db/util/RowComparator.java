@@ -64,12 +64,26 @@ public enum RowComparator implements Comparator<Row>{
     return 0;
   }
 
+  /**
+   * Compares the primary keys values of two rows (like the first step of {@link #compare(Row, Row)}).
+   * <p>
+   * The result is {@code 0} if the values of the primary keys can not be compared : so {@code 0} does not mean that
+   * the values are equal.
+   * </p>
+   *
+   * @param row1 The first row.
+   * @param row2 The second row.
+   * @return The result.
+   * @see Comparator#compare(Object, Object)
+   */
+  public int comparePksValues(Row row1, Row row2) {
+    return compare(row1.getPksValues(), row2.getPksValues());
+  }
+
   /** {@inheritDoc} */
   @Override
   public int compare(Row row1, Row row2) {
-    Value[] pksValues1 = row1.getPksValues();
-    Value[] pksValues2 = row2.getPksValues();
-    int compare = compare(pksValues1, pksValues2);
+    int compare = comparePksValues(row1, row2);
     if (compare != 0) {
       return compare;
     }
@@ -21,6 +21,7 @@ import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
@@ -31,6 +32,34 @@ import java.util.UUID;
  */
 public class Values {
 
+  /**
+   * Offset basis of the FNV-1a hash.
+   */
+  private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+  /**
+   * Prime of the FNV-1a hash.
+   */
+  private static final long FNV_PRIME = 0x100000001B3L;
+  /**
+   * Salt of the hash of the floating numbers which are not integral.
+   */
+  private static final long FLOAT_SALT = 0x5DEECE66DL << 32;
+  /**
+   * Result of {@link #compareNumbers(Object, Number)} when the numbers are not compared.
+   */
+  private static final int NOT_COMPARED = Integer.MIN_VALUE;
+  /**
+   * Powers of ten which are {@code long}s (the index is the exponent).
+   */
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int index = 1; index < POWERS_OF_TEN.length; index++) {
+      POWERS_OF_TEN[index] = POWERS_OF_TEN[index - 1] * 10;
+    }
+  }
+
   /**
    * Private constructor.
    */
@@ -146,6 +175,11 @@ public class Values {
       return object == null;
     }
 
+    int comparison = compareNumbers(object, expected);
+    if (comparison != NOT_COMPARED) {
+      return comparison == 0;
+    }
+
     // If parameter is a BigInteger,
     // change the actual in BigInteger to compare
     if (expected instanceof BigInteger) {
@@ -520,6 +554,142 @@ public class Values {
     return false;
   }
 
+  /**
+   * Compares the object of a value with a number without creating objects for the usual types of numbers.
+   * <p>
+   * The integral numbers ({@code Byte}, {@code Short}, {@code Integer} and {@code Long}) are compared as {@code long},
+   * the floating numbers as {@code float} or {@code double} (like in {@link #compare(Value, Number)}) and the
+   * {@code BigInteger} and {@code BigDecimal} with the integral numbers without going through a {@code String}. The
+   * result is the same than with the conversions in {@code String}, which are kept for the other cases.
+   * </p>
+   *
+   * @param object   The object of the value.
+   * @param expected The number to compare (not {@code null}).
+   * @return {@code -1}, {@code 0} or {@code 1} like {@link #compare(Value, Number)}, or {@link #NOT_COMPARED} if the
+   * types are not compared by this method (or if a floating number is not a number).
+   */
+  private static int compareNumbers(Object object, Number expected) {
+    if (isIntegral(object)) {
+      long l = ((Number) object).longValue();
+      if (isIntegral(expected)) {
+        return Long.compare(l, expected.longValue());
+      } else if (expected instanceof Float) {
+        return compareFloatingNumbers((float) l, expected.floatValue());
+      } else if (expected instanceof Double) {
+        return compareFloatingNumbers(l, expected.doubleValue());
+      } else if (expected instanceof BigInteger) {
+        return compare(l, (BigInteger) expected);
+      } else if (expected instanceof BigDecimal) {
+        return compare(l, (BigDecimal) expected);
+      }
+    } else if (object instanceof Float || object instanceof Double) {
+      if (expected instanceof BigDecimal) {
+        // The String of an integral floating number is exact under the precision of the mantissa
+        double d = ((Number) object).doubleValue();
+        double limit = object instanceof Float ? 0x1p24 : 0x1p53;
+        if (d == Math.rint(d) && Math.abs(d) < limit) {
+          return compare((long) d, (BigDecimal) expected);
+        }
+      } else if (!(expected instanceof BigInteger)) {
+        if (object instanceof Float) {
+          return compareFloatingNumbers((Float) object, expected.floatValue());
+        }
+        return compareFloatingNumbers((Double) object, expected.doubleValue());
+      }
+    } else if (object instanceof BigInteger) {
+      if (expected instanceof BigInteger) {
+        return ((BigInteger) object).compareTo((BigInteger) expected);
+      } else if (isIntegral(expected)) {
+        return -compare(expected.longValue(), (BigInteger) object);
+      }
+    } else if (object instanceof BigDecimal) {
+      if (expected instanceof BigDecimal) {
+        return ((BigDecimal) object).compareTo((BigDecimal) expected);
+      } else if (isIntegral(expected)) {
+        return -compare(expected.longValue(), (BigDecimal) object);
+      }
+    }
+    return NOT_COMPARED;
+  }
+
+  /**
+   * Returns if the object is an integral number which is stored in a {@code long}.
+   *
+   * @param object The object.
+   * @return {@code true} if the object is a {@code Byte}, a {@code Short}, an {@code Integer} or a {@code Long}.
+   */
+  private static boolean isIntegral(Object object) {
+    return object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte;
+  }
+
+  /**
+   * Compares two floating numbers.
+   *
+   * @param d1 The first number.
+   * @param d2 The second number.
+   * @return {@code -1}, {@code 0} or {@code 1}, or {@link #NOT_COMPARED} if one of the numbers is not a number.
+   */
+  private static int compareFloatingNumbers(double d1, double d2) {
+    if (d1 < d2) {
+      return -1;
+    } else if (d1 > d2) {
+      return 1;
+    } else if (d1 == d2) {
+      return 0;
+    }
+    return NOT_COMPARED;
+  }
+
+  /**
+   * Compares a {@code long} and a {@code BigInteger}.
+   *
+   * @param l  The {@code long}.
+   * @param bi The {@code BigInteger}.
+   * @return {@code -1}, {@code 0} or {@code 1}.
+   */
+  private static int compare(long l, BigInteger bi) {
+    if (bi.bitLength() < 64) {
+      return Long.compare(l, bi.longValue());
+    }
+    // The BigInteger is out of the range of the long
+    return -bi.signum();
+  }
+
+  /**
+   * Compares a {@code long} and a {@code BigDecimal}.
+   * <p>
+   * If the unscaled value of the {@code BigDecimal} is a {@code long} and its scale is between 0 and 18, the
+   * comparison is done between the {@code long} multiplied by the power of ten of the scale and the unscaled value
+   * (if the multiplication overflows, the {@code long} is out of the range of the {@code BigDecimal}). Otherwise
+   * {@link BigDecimal#compareTo(BigDecimal)} compares the scaled values.
+   * </p>
+   *
+   * @param l  The {@code long}.
+   * @param bd The {@code BigDecimal}.
+   * @return {@code -1}, {@code 0} or {@code 1}.
+   */
+  private static int compare(long l, BigDecimal bd) {
+    int scale = bd.scale();
+    if (scale == 0 && bd.precision() <= 18) {
+      return Long.compare(l, bd.longValue());
+    }
+    if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+      BigInteger unscaledValue = bd.unscaledValue();
+      if (unscaledValue.bitLength() < 64) {
+        long powerOfTen = POWERS_OF_TEN[scale];
+        // If the multiplication overflows, the scaled long is out of the range of the longs (so of the unscaled value)
+        if (l > Long.MAX_VALUE / powerOfTen) {
+          return 1;
+        }
+        if (l < Long.MIN_VALUE / powerOfTen) {
+          return -1;
+        }
+        return Long.compare(l * powerOfTen, unscaledValue.longValue());
+      }
+    }
+    return BigDecimal.valueOf(l).compareTo(bd);
+  }
+
   /**
    * Returns the result of the comparison between the value and the {@code Number} in parameter.
    *
@@ -530,6 +700,10 @@ public class Values {
    */
   public static int compare(Value value, Number expected) {
     Object object = value.getValue();
+    int comparison = compareNumbers(object, expected);
+    if (comparison != NOT_COMPARED) {
+      return comparison;
+    }
     // If parameter is a BigInteger,
     // change the actual in BigInteger to compare
     if (expected instanceof BigInteger) {
@@ -643,6 +817,237 @@ public class Values {
     throw new AssertJDBException("Expected <%s> can not be compared to a Number (<%s>)", expected, object);
   }
 
+  /**
+   * Returns a hash code of the value which is consistent with {@link #areEqual(Value, Object)}.
+   * <p>
+   * If two values of the same type are equal (the first value is equal to the object in the second value), their hash
+   * codes are equal. The numbers are normalized : for example {@code 3}, {@code 3L}, {@code 3.0} and
+   * {@code new BigDecimal("3.00")} have the same hash code. A floating number (a {@code Float} or a {@code Double})
+   * and another number have the same hash code only if they are integral.
+   * </p>
+   *
+   * @param value The value.
+   * @return The hash code of the value.
+   * @since 1.1.0
+   */
+  public static int getHashCode(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return 0;
+    }
+    switch (value.getValueType()) {
+    case NUMBER:
+      return getHashCode((Number) object);
+    case BYTES:
+      return Arrays.hashCode((byte[]) object);
+    case DATE:
+      return DateValue.from((Date) object).hashCode();
+    case TIME:
+      return TimeValue.from((Time) object).hashCode();
+    case DATE_TIME:
+      return DateTimeValue.from((Timestamp) object).hashCode();
+    case BOOLEAN:
+    case TEXT:
+    case UUID:
+    default:
+      return object.hashCode();
+    }
+  }
+
+  /**
+   * Returns a hash code of the number which is the same for the numbers which are equal.
+   *
+   * @param number The number.
+   * @return The hash code of the number.
+   */
+  private static int getHashCode(Number number) {
+    if (number instanceof Float || number instanceof Double) {
+      double d = number.doubleValue();
+      if (d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+        return getHashCode((long) d);
+      }
+      return Float.floatToIntBits((float) d);
+    }
+    if (number instanceof BigDecimal) {
+      BigDecimal bd = (BigDecimal) number;
+      if (bd.signum() == 0) {
+        return 0;
+      }
+      BigDecimal stripped = bd.stripTrailingZeros();
+      if (stripped.scale() > 0) {
+        return stripped.hashCode();
+      }
+      number = stripped.toBigIntegerExact();
+    }
+    if (number instanceof BigInteger) {
+      BigInteger bi = (BigInteger) number;
+      if (bi.bitLength() < 64) {
+        return getHashCode(bi.longValue());
+      }
+      return bi.hashCode();
+    }
+    return getHashCode(number.longValue());
+  }
+
+  /**
+   * Returns a hash code of the {@code long} (the same as {@code Long.hashCode()}).
+   *
+   * @param l The {@code long}.
+   * @return The hash code.
+   */
+  private static int getHashCode(long l) {
+    return (int) (l ^ (l >>> 32));
+  }
+
+  /**
+   * Returns a hash on 64 bits of the value which is consistent with {@link #areEqual(Value, Object)}.
+   * <p>
+   * Like {@link #getHashCode(Value)}, if two values of the same type are equal, their hashes are equal (the numbers
+   * are normalized in the same way). The hash is spread on the 64 bits so that two different values have almost never
+   * the same hash.
+   * </p>
+   *
+   * @param value The value.
+   * @return The hash of the value.
+   * @since 1.1.0
+   */
+  public static long getHash64(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return 0;
+    }
+    switch (value.getValueType()) {
+    case NUMBER:
+      return getHash64((Number) object);
+    case BYTES:
+      return getHash64((byte[]) object);
+    case TEXT:
+      return getHash64((String) object);
+    case DATE:
+      return getHash64(DateValue.from((Date) object));
+    case TIME:
+      return getHash64(TimeValue.from((Time) object));
+    case DATE_TIME:
+      DateTimeValue dateTimeValue = DateTimeValue.from((Timestamp) object);
+      return mix(getHash64(dateTimeValue.getDate()) * FNV_PRIME + getHash64(dateTimeValue.getTime()));
+    case UUID:
+      UUID uuid = (UUID) object;
+      return mix(uuid.getMostSignificantBits() * FNV_PRIME + uuid.getLeastSignificantBits());
+    case BOOLEAN:
+    default:
+      return mix(object.hashCode());
+    }
+  }
+
+  /**
+   * Returns a hash on 64 bits of the number which is the same for the numbers which are equal.
+   *
+   * @param number The number.
+   * @return The hash of the number.
+   * @see #getHashCode(Number)
+   */
+  private static long getHash64(Number number) {
+    if (number instanceof Float || number instanceof Double) {
+      double d = number.doubleValue();
+      if (d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+        return mix((long) d);
+      }
+      return mix(Float.floatToIntBits((float) d) ^ FLOAT_SALT);
+    }
+    if (number instanceof BigDecimal) {
+      BigDecimal bd = (BigDecimal) number;
+      if (bd.signum() == 0) {
+        return mix(0);
+      }
+      BigDecimal stripped = bd.stripTrailingZeros();
+      if (stripped.scale() > 0) {
+        return mix(getHash64(stripped.unscaledValue()) * FNV_PRIME + stripped.scale());
+      }
+      number = stripped.toBigIntegerExact();
+    }
+    if (number instanceof BigInteger) {
+      return getHash64((BigInteger) number);
+    }
+    return mix(number.longValue());
+  }
+
+  /**
+   * Returns a hash on 64 bits of the {@code BigInteger} (the same as the {@code long} if it is possible).
+   *
+   * @param bi The {@code BigInteger}.
+   * @return The hash.
+   */
+  private static long getHash64(BigInteger bi) {
+    if (bi.bitLength() < 64) {
+      return mix(bi.longValue());
+    }
+    return getHash64(bi.toByteArray());
+  }
+
+  /**
+   * Returns a hash on 64 bits of the bytes.
+   *
+   * @param bytes The bytes.
+   * @return The hash.
+   */
+  private static long getHash64(byte[] bytes) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : bytes) {
+      hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Returns a hash on 64 bits of the {@code String}.
+   *
+   * @param string The {@code String}.
+   * @return The hash.
+   */
+  private static long getHash64(String string) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int index = 0; index < string.length(); index++) {
+      hash = (hash ^ string.charAt(index)) * FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Returns a hash on 64 bits of the date.
+   *
+   * @param dateValue The date.
+   * @return The hash.
+   */
+  private static long getHash64(DateValue dateValue) {
+    return mix(((long) dateValue.getYear() * 16 + dateValue.getMonth()) * 32 + dateValue.getDayOfTheMonth());
+  }
+
+  /**
+   * Returns a hash on 64 bits of the time.
+   *
+   * @param timeValue The time.
+   * @return The hash.
+   */
+  private static long getHash64(TimeValue timeValue) {
+    long seconds = (timeValue.getHour() * 60L + timeValue.getMinutes()) * 60L + timeValue.getSeconds();
+    return mix(seconds * 1000000000L + timeValue.getNanoSeconds());
+  }
+
+  /**
+   * Mixes the bits of a {@code long} (the finalizer of MurmurHash3).
+   *
+   * @param l The {@code long}.
+   * @return The mixed bits.
+   */
+  private static long mix(long l) {
+    l ^= l >>> 33;
+    l *= 0xFF51AFD7ED558CCDL;
+    l ^= l >>> 33;
+    l *= 0xC4CEB9FE1A85EC53L;
+    l ^= l >>> 33;
+    return l;
+  }
+
   /**
    * Returns a representation of the values (this representation is used for error message).
    *
@@ -0,0 +1,62 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableColumnAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertOnColumnAggregates} class :
+ * {@link org.assertj.db.api.assertions.AssertOnColumnAggregates#hasMaximumBetween(Number, Number)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnColumnAggregates_HasMaximumBetween_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasMaximumBetween} assertion method.
+   */
+  @Test
+  public void test_has_maximum_between() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    TableColumnAssert tableColumnAssert2 = tableColumnAssert.hasMaximumBetween(2000, 2009);
+    Assertions.assertThat(tableColumnAssert).isSameAs(tableColumnAssert2);
+  }
+
+  /**
+   * This method should fail because the maximum is not between the bounds.
+   */
+  @Test
+  public void should_fail_because_maximum_is_not_between_the_bounds() {
+    Table table = new Table(source, "movie");
+    TableColumnAssert tableColumnAssert = assertThat(table).column("year");
+    try {
+      tableColumnAssert.hasMaximumBetween(1900, 2000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of movie table] %n"
+                                                      + "Expecting the maximum of the values:%n"
+                                                      + "  <2009>%n"
+                                                      + "to be between %n"
+                                                      + "  <1900> and <2000>"));
+    }
+  }
+}
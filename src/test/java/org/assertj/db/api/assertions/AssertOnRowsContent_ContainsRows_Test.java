@@ -0,0 +1,92 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnRowsContent} class :
+ * {@link org.assertj.db.api.assertions.AssertOnRowsContent#containsRows(Object[]...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnRowsContent_ContainsRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code containsRows} assertion method.
+   */
+  @Test
+  public void test_contains_rows() {
+    Table table = new Table(source, "interpretation", new String[] { "id_movie", "id_actor" }, null);
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.containsRows(new Object[] { 3, 3 }, new Object[] { 2, 2 },
+                                                        new Object[] { 1, 1 }, new Object[] { 3, 1 },
+                                                        new Object[] { 2L, 1 });
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    Request request = new Request(source, "select name, birth from actor");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.containsRows(new Object[] { "Worthington", "1976-08-02" },
+                                                              new Object[] { "Weaver", "1949-10-08" },
+                                                              new Object[] { "Phoenix", "1974-10-28" });
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() {
+    Table table = new Table(source, "interpretation", new String[] { "id_movie", "id_actor" }, null);
+    try {
+      assertThat(table).containsRows(new Object[] { 3, 3 }, new Object[] { 2, 3 }, new Object[] { 1, 1 },
+                                     new Object[] { 3, 1 }, new Object[] { 2, 1 });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[interpretation table] %n"
+                                                                    + "Expecting to contain the expected rows (in any order) but 1 expected rows are not found%n"
+                                                                    + "  <[2, 3]> at index 1%n"
+                                                                    + "and 1 rows are not expected%n"
+                                                                    + "  <[2, 2]> at index 2"));
+    }
+  }
+
+  /**
+   * This method should fail because the number of columns is different.
+   */
+  @Test
+  public void should_fail_because_number_of_columns_is_different() {
+    Table table = new Table(source, "interpretation", new String[] { "id_movie", "id_actor" }, null);
+    try {
+      assertThat(table).containsRows(new Object[] { 3, 3 }, new Object[] { 2, 2 }, new Object[] { 1, 1 },
+                                     new Object[] { 3 }, new Object[] { 2, 1 });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[interpretation table] %n"
+                                                                    + "Expecting size (number of columns) to be equal to :%n"
+                                                                    + "   <1>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <2>"));
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Dataset;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnRowsContent} class :
+ * {@link org.assertj.db.api.assertions.AssertOnRowsContent#hasRows(org.assertj.db.type.Dataset)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnRowsContent_HasRows_Dataset_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasRows} assertion method.
+   */
+  @Test
+  public void test_has_rows() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasRows(new Dataset(new File("target/test-classes/movie.csv")));
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    Request request = new Request(source, "select name, firstname, birth from actor order by name");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.hasRows(new Dataset(new File("target/test-classes/actor.tsv"))
+                                                                 .setSeparator('\t').setHeader(false));
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).hasRows(new Dataset(new File("target/test-classes/movie-different.csv")));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[movie table] %n"
+                                                                    + "Expecting rows to be equal to the rows of the dataset but 1 rows are different, 1 rows are not in the dataset and 1 rows of the dataset are not found%n"
+                                                                    + "  the row at index 0:%n"
+                                                                    + "    <[\"1\", \"Alien\", \"1979\", \"30b443ae-c0c9-4790-9bec-ce1380808435\"]>%n"
+                                                                    + "  to be equal to the row at line 2 of the dataset: %n"
+                                                                    + "    <[\"1\", \"Alien\", \"1980\", \"30B443AE-C0C9-4790-9BEC-CE1380808435\"]>%n"
+                                                                    + "  the row at index 1 is not in the dataset:%n"
+                                                                    + "    <[\"2\", \"The Village\", \"2004\", \"16319617-ae95-4087-9264-d3d21bf611b6\"]>%n"
+                                                                    + "  the row at line 4 of the dataset is not found:%n"
+                                                                    + "    <[\"4\", \"Ghostbusters\", \"1984\", null]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the number of rows is different.
+   */
+  @Test
+  public void should_fail_because_number_of_rows_is_different() {
+    Request request = new Request(source, "select name, firstname, birth from actor where id < 3 order by name");
+    try {
+      assertThat(request).hasRows(new Dataset(new File("target/test-classes/actor.tsv")).setSeparator('\t')
+                                                                                         .setHeader(false));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select name, firstname, birth ...' request] %n"
+                                                                    + "Expecting rows to be equal to the rows of the dataset but 0 rows are different, 0 rows are not in the dataset and 1 rows of the dataset are not found%n"
+                                                                    + "  the row at line 3 of the dataset is not found:%n"
+                                                                    + "    <[\"Worthington\", \"Sam\", \"1976-08-02\"]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the number of columns is different.
+   */
+  @Test
+  public void should_fail_because_number_of_columns_is_different() {
+    Table table = new Table(source, "movie", new String[] { "id", "title" }, null);
+    try {
+      assertThat(table).hasRows(new Dataset(new File("target/test-classes/movie.csv")));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[movie table] %n"
+                                                                    + "Expecting size (number of columns) to be equal to :%n"
+                                                                    + "   <4>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <2>"));
+    }
+  }
+
+  /**
+   * This method should fail because a column is not in the header of the dataset.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_column_is_not_in_the_header() {
+    Table table = new Table(source, "actor", new String[] { "id", "name", "firstname", "birth" }, null);
+    assertThat(table).hasRows(new Dataset(new File("target/test-classes/movie.csv")));
+  }
+
+  /**
+   * This method should fail because the dataset is not sorted on the primary keys.
+   */
+  @Test
+  public void should_fail_because_dataset_is_not_sorted_on_primary_keys() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).hasRows(new Dataset(new File("target/test-classes/movie-not-sorted.csv")));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The row at line 4 of the dataset is not sorted on the primary "
+                                                      + "keys after the row at line 3");
+    }
+  }
+}
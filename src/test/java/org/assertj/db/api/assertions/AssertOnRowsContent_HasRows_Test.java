@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnRowsContent} class :
+ * {@link org.assertj.db.api.assertions.AssertOnRowsContent#hasRows(Object[]...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnRowsContent_HasRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasRows} assertion method.
+   */
+  @Test
+  public void test_has_rows() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = tableAssert.hasRows(
+            new Object[] { 1, "Alien", 1979, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435") },
+            new Object[] { 2, "The Village", 2004, "16319617-AE95-4087-9264-D3D21BF611B6" },
+            new Object[] { 3, "Avatar", 2009, UUID.fromString("D735221B-5DE5-4112-AA1E-49090CB75ADA") });
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    Request request = new Request(source, "select title, year from movie");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.hasRows(new Object[] { "Alien", 1979 },
+                                                         new Object[] { "Avatar", 2009 },
+                                                         new Object[] { "The Village", 2004 });
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() {
+    Request request = new Request(source, "select title, year from movie");
+    try {
+      assertThat(request).hasRows(new Object[] { "Alien", 1980 },
+                                  new Object[] { "Avatar", 2009 },
+                                  new Object[] { "The Village 2", 2004 });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select title, year from movie' request] %n"
+                                                                    + "Expecting rows to be equal to the expected rows but 2 rows are different%n"
+                                                                    + "  the row at index 0:%n"
+                                                                    + "    <[\"Alien\", 1979]>%n"
+                                                                    + "  to be equal to: %n"
+                                                                    + "    <[\"Alien\", 1980]>%n"
+                                                                    + "  the row at index 2:%n"
+                                                                    + "    <[\"The Village\", 2004]>%n"
+                                                                    + "  to be equal to: %n"
+                                                                    + "    <[\"The Village 2\", 2004]>"));
+    }
+  }
+
+  /**
+   * This method should fail because the number of rows is different.
+   */
+  @Test
+  public void should_fail_because_number_of_rows_is_different() {
+    Table table = new Table(source, "movie", new String[] { "id" }, null);
+    try {
+      assertThat(table).hasRows(new Object[] { 1 }, new Object[] { 2 });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[movie table] %n"
+                                                                    + "Expecting size (number of rows) to be equal to :%n"
+                                                                    + "   <2>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <3>"));
+    }
+  }
+}
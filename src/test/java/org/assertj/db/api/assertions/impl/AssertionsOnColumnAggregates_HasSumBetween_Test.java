@@ -0,0 +1,140 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertionsOnColumnAggregates} class :
+ * {@link AssertionsOnColumnAggregates#hasSumBetween(org.assertj.db.api.AbstractAssert, org.assertj.core.api.WritableAssertionInfo, java.math.BigDecimal, Number, Number)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertionsOnColumnAggregates_HasSumBetween_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasSumBetween} assertion method.
+   */
+  @Test
+  public void test_has_sum_between() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    TableAssert tableAssert2 = AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, new BigDecimal("10.5"),
+                                                                          10, 11L);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    tableAssert2 = AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, new BigDecimal("10.5"), 10.5f, 10.5d);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    tableAssert2 = AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, new BigDecimal("10.50"),
+                                                              new BigDecimal("10.5"), new BigInteger("11"));
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method should fail because the sum is not between the bounds.
+   */
+  @Test
+  public void should_fail_because_sum_is_not_between_the_bounds() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    try {
+      AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, new BigDecimal("10.5"), 10, 10.4);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                      + "Expecting the sum of the values:%n"
+                                                      + "  <10.5>%n"
+                                                      + "to be between %n"
+                                                      + "  <10> and <10.4>"));
+    }
+  }
+
+  /**
+   * This method should fail because there is no value to sum.
+   */
+  @Test
+  public void should_fail_because_there_is_no_value() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    try {
+      AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, null, 0, 10);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                      + "Expecting the sum of the values:%n"
+                                                      + "  <null>%n"
+                                                      + "to be between %n"
+                                                      + "  <0> and <10>"));
+    }
+  }
+
+  /**
+   * This method should fail because the start of the bounds is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_start_is_null() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, BigDecimal.ONE, null, 10);
+  }
+
+  /**
+   * This method should fail because the start of the bounds is NaN.
+   */
+  @Test
+  public void should_fail_because_start_is_nan() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    try {
+      AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, BigDecimal.ONE, Double.NaN, 10);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("start must be a finite number (but was <NaN>)");
+    }
+  }
+
+  /**
+   * This method should fail because the end of the bounds is infinite.
+   */
+  @Test
+  public void should_fail_because_end_is_infinite() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    try {
+      AssertionsOnColumnAggregates.hasSumBetween(tableAssert, info, BigDecimal.ONE, 0, Float.POSITIVE_INFINITY);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("end must be a finite number (but was <Infinity>)");
+    }
+  }
+}
@@ -20,6 +20,8 @@ import org.assertj.db.type.Table;
 import org.assertj.db.type.Value;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,7 +36,7 @@ import static org.junit.Assert.fail;
  * @author Régis Pouiller
  *
  */
-public class AssertionsOnColumnContent_ContainsValues_Number extends AbstractTest {
+public class AssertionsOnColumnContent_ContainsValues_Number_Test extends AbstractTest {
 
   /**
    * This method tests the {@code containsValues} assertion method.
@@ -56,6 +58,59 @@ public class AssertionsOnColumnContent_ContainsValues_Number extends AbstractTes
     Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
   }
 
+  /**
+   * This method tests the {@code containsValues} assertion method with different types of numbers.
+   */
+  @Test
+  public void test_contains_values_with_different_types_of_numbers() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 7L), getValue(null, new BigDecimal("8.50")),
+                                                     getValue(null, new BigInteger("7")), getValue(null, 8.5f)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 8.5d, 7,
+                                                                        new BigDecimal("8.5"), (byte) 7);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    list = new ArrayList<>(Arrays.asList(getValue(null, new BigDecimal("8.50")), getValue(null, new BigDecimal("7.0"))));
+    tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 7L, new BigDecimal("8.5000"));
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method tests the {@code containsValues} assertion method with {@code Float} values and {@code Double}
+   * expected values (compared as {@code float}).
+   */
+  @Test
+  public void test_contains_values_with_float_values_and_double_expected_values() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 0.1f), getValue(null, 0.2f)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 0.2d, 0.1d);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    list = new ArrayList<>(Arrays.asList(getValue(null, 0.1f), getValue(null, 0.1d)));
+    tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, 0.1d, 0.1d);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method tests the {@code containsValues} assertion method with a lot of values.
+   */
+  @Test
+  public void test_contains_values_with_a_lot_of_values() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>();
+    Number[] expected = new Number[100000];
+    for (int i = 0; i < expected.length; i++) {
+      list.add(getValue(null, i % 1000));
+      expected[i] = (long) (expected.length - 1 - i) % 1000;
+    }
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, expected);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
   /**
    * This method should fail because the values are different.
    */
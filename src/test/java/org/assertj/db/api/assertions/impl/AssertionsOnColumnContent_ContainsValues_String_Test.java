@@ -20,6 +20,7 @@ import org.assertj.db.type.Table;
 import org.assertj.db.type.Value;
 import org.junit.Test;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,7 +35,7 @@ import static org.junit.Assert.fail;
  * @author Régis Pouiller
  *
  */
-public class AssertionsOnColumnContent_ContainsValues_String extends AbstractTest {
+public class AssertionsOnColumnContent_ContainsValues_String_Test extends AbstractTest {
 
   /**
    * This method tests the {@code containsValues} assertion method.
@@ -55,6 +56,24 @@ public class AssertionsOnColumnContent_ContainsValues_String extends AbstractTes
     Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
   }
 
+  /**
+   * This method tests the {@code containsValues} assertion method with values which are not texts.
+   */
+  @Test
+  public void test_contains_values_with_values_which_are_not_texts() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, 7), getValue(null, 8), getValue(null, null)));
+    TableAssert tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, "8", null, "7");
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+    list = new ArrayList<>(Arrays.asList(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00")),
+                                         getValue(null, Timestamp.valueOf("2007-12-23 00:00:00"))));
+    tableAssert2 = AssertionsOnColumnContent.containsValues(tableAssert, info, list, "2007-12-23",
+                                                            "2007-12-23T09:01");
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
   /**
    * This method should fail because the values are different.
    */
@@ -0,0 +1,87 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertionsOnRowsContent} class :
+ * {@link AssertionsOnRowsContent#containsRows(org.assertj.db.api.AbstractAssert, org.assertj.core.api.WritableAssertionInfo, java.util.List, int, Object[]...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertionsOnRowsContent_ContainsRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code containsRows} assertion method.
+   */
+  @Test
+  public void test_contains_rows() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Row> list = new ArrayList<>();
+    Object[][] expected = new Object[10000][];
+    for (int i = 0; i < expected.length; i++) {
+      list.add(getRow(null, Arrays.asList("ID", "NAME"), Arrays.asList(getValue(null, i % 100),
+                                                                       getValue(null, "name" + (i % 7)))));
+      int j = expected.length - 1 - i;
+      expected[i] = new Object[] { new BigDecimal(j % 100), "name" + (j % 7) };
+    }
+    TableAssert tableAssert2 = AssertionsOnRowsContent.containsRows(tableAssert, info, list, 2, expected);
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Row> list = new ArrayList<>(Arrays.asList(getRow(null, Arrays.asList("ID", "NAME"),
+                                                          Arrays.asList(getValue(null, 1), getValue(null, "Weaver"))),
+                                                   getRow(null, Arrays.asList("ID", "NAME"),
+                                                          Arrays.asList(getValue(null, 2), getValue(null, null))),
+                                                   getRow(null, Arrays.asList("ID", "NAME"),
+                                                          Arrays.asList(getValue(null, 1), getValue(null, "Weaver")))));
+    try {
+      AssertionsOnRowsContent.containsRows(tableAssert, info, list, 2, new Object[] { 1, "Weaver" },
+                                           new Object[] { 2, "Phoenix" }, new Object[] { 2, null });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                                    + "Expecting to contain the expected rows (in any order) but 1 expected rows are not found%n"
+                                                                    + "  <[2, \"Phoenix\"]> at index 1%n"
+                                                                    + "and 1 rows are not expected%n"
+                                                                    + "  <[1, \"Weaver\"]> at index 2"));
+    }
+  }
+}
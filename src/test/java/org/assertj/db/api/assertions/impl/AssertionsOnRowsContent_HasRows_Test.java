@@ -0,0 +1,108 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link AssertionsOnRowsContent} class :
+ * {@link AssertionsOnRowsContent#hasRows(org.assertj.db.api.AbstractAssert, org.assertj.core.api.WritableAssertionInfo, java.util.List, int, Object[]...)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertionsOnRowsContent_HasRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code hasRows} assertion method.
+   */
+  @Test
+  public void test_has_rows() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Row> list = new ArrayList<>(Arrays.asList(getRow(null, Arrays.asList("ID", "NAME"),
+                                                          Arrays.asList(getValue(null, 1), getValue(null, "Weaver"))),
+                                                   getRow(null, Arrays.asList("ID", "NAME"),
+                                                          Arrays.asList(getValue(null, 2), getValue(null, null)))));
+    TableAssert tableAssert2 = AssertionsOnRowsContent.hasRows(tableAssert, info, list, 2, new Object[] { 1, "Weaver" },
+                                                               new Object[] { 2L, null });
+    Assertions.assertThat(tableAssert2).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  public void should_fail_because_rows_are_different() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Row> list = new ArrayList<>();
+    Object[][] expected = new Object[12][];
+    for (int i = 0; i < 12; i++) {
+      list.add(getRow(null, Arrays.asList("ID"), Arrays.asList(getValue(null, i))));
+      expected[i] = new Object[] { i + 1 };
+    }
+    try {
+      AssertionsOnRowsContent.hasRows(tableAssert, info, list, 1, expected);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      StringBuilder stringBuilder = new StringBuilder("[description] %n"
+                                                      + "Expecting rows to be equal to the expected rows but 12 rows are different");
+      for (int i = 0; i < 10; i++) {
+        stringBuilder.append("%n  the row at index ").append(i).append(":%n    <[").append(i)
+                     .append("]>%n  to be equal to: %n    <[").append(i + 1).append("]>");
+      }
+      stringBuilder.append("%n  and 2 other rows");
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format(stringBuilder.toString()));
+    }
+  }
+
+  /**
+   * This method should fail because the number of rows is different.
+   */
+  @Test
+  public void should_fail_because_the_number_of_rows_is_different() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Table table = new Table();
+    TableAssert tableAssert = assertThat(table);
+    List<Row> list = new ArrayList<>(Arrays.asList(getRow(null, Arrays.asList("ID"),
+                                                          Arrays.asList(getValue(null, 1)))));
+    try {
+      AssertionsOnRowsContent.hasRows(tableAssert, info, list, 1, new Object[] { 1 }, new Object[] { 2 });
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                                    + "Expecting size (number of rows) to be equal to :%n"
+                                                                    + "   <2>%n"
+                                                                    + "but was:%n"
+                                                                    + "   <1>"));
+    }
+  }
+}
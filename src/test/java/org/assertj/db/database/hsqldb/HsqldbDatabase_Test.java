@@ -679,4 +679,15 @@ public class HsqldbDatabase_Test extends AbstractHsqlsbTest {
                        .value("var26")
     ;
   }
+
+  @Test
+  @NeedReload
+  public void test_Changes_setCapturingByTriggers() {
+    Changes changes = new Changes(new Table(source, "test")).setCapturingByTriggers(true).setStartPointNow();
+    update("update test set var2=20");
+    changes.setEndPointNow();
+
+    assertThat(changes).hasNumberOfChanges(1)
+                       .change().isModification().hasModifiedColumns("VAR2");
+  }
 }
@@ -0,0 +1,200 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the capture of the changes with triggers in {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_CapturingByTriggers_Test extends AbstractTest {
+
+  /**
+   * Returns the number of audit tables of a table in the database.
+   *
+   * @param tableName The name of the table captured.
+   * @return The number of audit tables.
+   * @throws SQLException
+   */
+  private int getNumberOfAuditTables(String tableName) throws SQLException {
+    int count = 0;
+    try (Connection connection = dataSource.getConnection()) {
+      try (ResultSet resultSet = connection.getMetaData().getTables(null, null, "ADB%", null)) {
+        while (resultSet.next()) {
+          String name = resultSet.getString("TABLE_NAME");
+          if (TriggerCapture.isAuditTableName(name) && name.endsWith("_" + tableName.toUpperCase())) {
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns if an audit table exists in the database.
+   *
+   * @param tableName The name of the table captured.
+   * @return {@code true} if the audit table exists.
+   * @throws SQLException
+   */
+  private boolean auditTableExists(String tableName) throws SQLException {
+    return getNumberOfAuditTables(tableName) > 0;
+  }
+
+  /**
+   * This method test the default capture.
+   */
+  @Test
+  public void test_default_capturing_by_triggers() {
+    assertThat(new Changes(source).isCapturingByTriggers()).isFalse();
+  }
+
+  /**
+   * This method test the changes on all the tables with the capture with triggers.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_capturing_by_triggers() throws SQLException {
+    Changes changes = new Changes(source).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    assertThat(auditTableExists("movie")).isTrue();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    assertThat(auditTableExists("movie")).isFalse();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+    Change change = changes.getChangesOfTable("movie").getChangesOfType(ChangeType.MODIFICATION).getChangesList()
+        .get(0);
+    assertThat(change.getRowAtStartPoint().getColumnValue("TITLE").getValue()).isEqualTo("Avatar");
+    assertThat(change.getRowAtEndPoint().getColumnValue("TITLE").getValue()).isEqualTo("The Avatar");
+    assertThat(change.getRowAtEndPoint().getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(3));
+  }
+
+  /**
+   * This method test that a row inserted then deleted is not a change.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_cancelled_with_capturing_by_triggers() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("update movie set title = 'The Avatar' where id = 3");
+    update("update movie set title = 'Avatar' where id = 3");
+    update("delete from movie where id = 4");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(0);
+  }
+
+  /**
+   * This method test two captures with triggers at the same time.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_two_captures_at_the_same_time() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setCapturingByTriggers(true);
+    Changes changes1 = new Changes(new Table(source, "movie"), new Table(source, "actor")).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    changes1.setStartPointNow();
+    assertThat(getNumberOfAuditTables("movie")).isEqualTo(2);
+    update("update movie set title = 'The Avatar' where id = 3");
+    changes.setEndPointNow();
+    update("update actor set firstname = 'Samuel' where id = 3");
+    changes1.setEndPointNow();
+    assertThat(getNumberOfAuditTables("movie")).isEqualTo(0);
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes1.getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test that the objects are dropped when the changes are closed.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_close() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    assertThat(auditTableExists("movie")).isTrue();
+    changes.close();
+    assertThat(auditTableExists("movie")).isFalse();
+    update("update movie set title = 'The Avatar' where id = 3");
+  }
+
+  /**
+   * This method test that the objects left by a capture which is not in progress are dropped if they are old, and
+   * that the recent objects (which can be the objects of a capture in progress in another JVM) are kept.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_left_objects_are_dropped() throws SQLException {
+    String oldId = TriggerCapture.getId(System.currentTimeMillis() - TriggerCapture.STALE_DELAY - 60000, 1);
+    String recentId = TriggerCapture.getId(System.currentTimeMillis(), 1);
+    update("create sequence ADB_S_" + oldId);
+    update("create table ADB_A_" + oldId + "_MOVIE as select * from movie where 1 = 0");
+    update("create table ADB_A_" + recentId + "_MOVIE as select * from movie where 1 = 0");
+    Changes changes = new Changes(source).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    assertThat(getNumberOfAuditTables("movie")).isEqualTo(2);
+    changes.setEndPointNow();
+    assertThat(getNumberOfAuditTables("movie")).isEqualTo(1);
+    assertThat(changes.getChangesList()).hasSize(0);
+    update("drop table ADB_A_" + recentId + "_MOVIE");
+  }
+
+  /**
+   * This method should fail because the end point is set twice.
+   */
+  @Test(expected = AssertJDBException.class)
+  @NeedReload
+  public void should_fail_because_end_point_is_set_twice() {
+    Changes changes = new Changes(new Table(source, "movie")).setCapturingByTriggers(true);
+
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    changes.setEndPointNow();
+  }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the use of the checksums in {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_Checksum_Test extends AbstractTest {
+
+  /**
+   * This method test the default use of the checksums.
+   */
+  @Test
+  public void test_default_using_checksums() {
+    assertThat(new Changes(source).isUsingChecksums()).isFalse();
+  }
+
+  /**
+   * This method test the changes on the tables with the checksums.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_checksums() {
+    Changes changes = new Changes(source).setUsingChecksums(true);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+
+    List<Table> tablesAtStartPointList = changes.getTablesAtStartPointList();
+    List<Table> tablesAtEndPointList = changes.getTablesAtEndPointList();
+    for (int index = 0; index < tablesAtStartPointList.size(); index++) {
+      Table tableAtStartPoint = tablesAtStartPointList.get(index);
+      Table tableAtEndPoint = tablesAtEndPointList.get(index);
+      if ("TEST".equalsIgnoreCase(tableAtStartPoint.getName())) {
+        // The table is unchanged : the rows are the same
+        assertThat(tableAtEndPoint.getRowsList()).isSameAs(tableAtStartPoint.getRowsList());
+      } else if ("MOVIE".equalsIgnoreCase(tableAtStartPoint.getName())) {
+        assertThat(tableAtEndPoint.getRowsList()).hasSize(4);
+      }
+    }
+  }
+
+  /**
+   * This method test the changes on the tables with the checksums and the streaming mode.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_checksums_and_streaming() {
+    Changes changes = new Changes(source).setUsingChecksums(true).setStreaming(true).setParallelism(2);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+  }
+
+  /**
+   * This method test the changes on a request with the checksums.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_checksums() throws SQLException {
+    Changes changes = new Changes(new Request(source, "select * from test")).setUsingChecksums(true);
+    changes.setStartPointNow();
+    update("delete from test2 where VAR1 is null");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(0);
+    assertThat(changes.getRequestAtEndPoint().getRowsList()).isSameAs(changes.getRequestAtStartPoint().getRowsList());
+
+    changes.setStartPointNow();
+    update("update test set var12 = 'modified' where var1 = 1");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on the tables with the checksums when the rows read for the checksums exceed the
+   * budget of memory (the changed tables are read again).
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_checksums_and_heap_budget() {
+    Changes changes = new Changes(source).setUsingChecksums(true).setHeapBudget(1);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on a request with the checksums when the number of rows is the same (the rows read
+   * for the checksum are compared).
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_checksums_and_same_number_of_rows() throws SQLException {
+    Request request = new Request(source, "select * from movie").setPksName("id");
+    Changes changes = new Changes(request).setUsingChecksums(true).setStreaming(true);
+    changes.setStartPointNow();
+    update("update movie set title = 'Alien 2' where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(1);
+  }
+}
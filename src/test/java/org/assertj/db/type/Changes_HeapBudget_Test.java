@@ -0,0 +1,156 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the budget of memory of {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_HeapBudget_Test extends AbstractTest {
+
+  /**
+   * This method test the default budget of memory.
+   */
+  @Test
+  public void test_default_heap_budget() {
+    assertThat(new Changes(source).getHeapBudget()).isEqualTo(0);
+  }
+
+  /**
+   * This method should fail because the budget of memory is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_heap_budget_is_negative() {
+    new Changes(source).setHeapBudget(-1);
+  }
+
+  /**
+   * This method test the changes on the tables when the rows are written in files.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_heap_budget() {
+    Changes changes = new Changes(source).setHeapBudget(1);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).isInstanceOf(SpilledRowsList.class);
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on a request when the rows are written in files.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_heap_budget() throws SQLException {
+    Changes changes = new Changes(new Request(source, "select * from movie").setPksName("id")).setHeapBudget(1);
+
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    changes.setEndPointNow();
+
+    Request requestAtStartPoint = changes.getRequestAtStartPoint();
+    assertThat(requestAtStartPoint.getRowsList()).isInstanceOf(SpilledRowsList.class).hasSize(3);
+    assertThat(requestAtStartPoint.getRow(1).getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(2));
+    assertThat(requestAtStartPoint.getRow(1).getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(changes.getRequestAtEndPoint().getRowsList()).hasSize(4);
+    assertThat(changes.getChangesList()).hasSize(2);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+  }
+
+  /**
+   * This method test that the rows are kept in memory when the budget of memory is not exceeded.
+   */
+  @Test
+  public void test_rows_kept_in_memory_with_heap_budget() {
+    Changes changes = new Changes(new Request(source, "select * from movie").setPksName("id"))
+        .setHeapBudget(Long.MAX_VALUE);
+
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+
+    assertThat(changes.getRequestAtStartPoint().getRowsList()).isNotInstanceOf(SpilledRowsList.class).hasSize(3);
+    assertThat(changes.getChangesList()).isEmpty();
+  }
+
+  /**
+   * This method test that the rows are kept in memory when a value can not be written in a file (an array).
+   */
+  @Test
+  public void test_rows_with_value_which_can_not_be_written_are_kept_in_memory() {
+    Changes changes = new Changes(new Request(source, "select id, (id, title) as arr from movie").setPksName("id"))
+        .setHeapBudget(1);
+
+    changes.setStartPointNow();
+
+    assertThat(changes.getRequestAtStartPoint().getRowsList()).isNotInstanceOf(SpilledRowsList.class).hasSize(3);
+    assertThat(changes.getRequestAtStartPoint().getRow(0).getColumnValue("arr").getValue()).isInstanceOf(Object[].class);
+  }
+
+  /**
+   * This method test that the rows of a table are kept in memory when a value which can not be written in a file is
+   * read after the first rows are written (the primary keys of the table are not known during the loading).
+   */
+  @Test
+  @NeedReload
+  public void test_table_with_value_which_can_not_be_written_after_the_rows_written() {
+    update("create table spilled(id int primary key, arr array)");
+    try {
+      update("insert into spilled values(1, null)");
+      update("insert into spilled values(2, (1, 'Alien'))");
+      Changes changes = new Changes(new Table(source, "spilled")).setHeapBudget(1);
+
+      changes.setStartPointNow();
+      update("update spilled set arr = null where id = 2");
+      changes.setEndPointNow();
+
+      Table tableAtStartPoint = changes.getTablesAtStartPointList().get(0);
+      assertThat(tableAtStartPoint.getRowsList()).isNotInstanceOf(SpilledRowsList.class).hasSize(2);
+      assertThat(tableAtStartPoint.getPksNameList()).containsExactly("ID");
+      assertThat(tableAtStartPoint.getRow(1).getPksValues()).hasSize(1);
+      assertThat(tableAtStartPoint.getRow(1).getColumnValue("arr").getValue()).isInstanceOf(Object[].class);
+      assertThat(changes.getChangesList()).hasSize(1);
+      Change change = changes.getChangesList().get(0);
+      assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+      assertThat(change.getRowAtEndPoint().getColumnValue("arr").getValue()).isNull();
+    } finally {
+      update("drop table spilled");
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the loading of the tables at the same time in {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_Parallelism_Test extends AbstractTest {
+
+  /**
+   * This method test the default parallelism.
+   */
+  @Test
+  public void test_default_parallelism() {
+    assertThat(new Changes(source).getParallelism()).isEqualTo(1);
+  }
+
+  /**
+   * This method test the changes when the tables are loaded at the same time.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_parallelism() {
+    Changes changes = new Changes(source).setParallelism(3);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    List<Table> tablesAtStartPointList = changes.getTablesAtStartPointList();
+    List<Table> tablesAtEndPointList = changes.getTablesAtEndPointList();
+    assertThat(tablesAtStartPointList).hasSameSizeAs(changes.getTablesList());
+    for (int index = 0; index < tablesAtStartPointList.size(); index++) {
+      assertThat(tablesAtStartPointList.get(index).getName()).isEqualTo(changes.getTablesList().get(index).getName());
+      assertThat(tablesAtEndPointList.get(index).getName()).isEqualTo(changes.getTablesList().get(index).getName());
+    }
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method should fail because the parallelism is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_parallelism_is_less_than_one() {
+    new Changes(source).setParallelism(0);
+  }
+}
@@ -281,4 +281,31 @@ public class Changes_Request_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtEndPoint()).isNull();
   }
 
+  /**
+   * This method test when there are duplicate rows without primary key.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_duplicate_rows_without_primary_key() throws SQLException {
+    Changes changes = new Changes(new Request(dataSource, "select id_actor from interpretation"));
+    changes.setStartPointNow();
+    update("delete interpretation where id = 3");
+    update("insert into interpretation values(6, 3, 3, 'Jake Sully')");
+    update("insert into interpretation values(7, 1, 3, 'Jake Sully')");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(3);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    change = changes.getChangesList().get(2);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(1));
+  }
+
 }
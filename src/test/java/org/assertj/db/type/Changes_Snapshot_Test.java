@@ -0,0 +1,278 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the snapshots of the data and of the start point of {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_Snapshot_Test extends AbstractTest {
+
+  /**
+   * This method test the snapshot of a table.
+   */
+  @Test
+  public void test_snapshot_of_table() {
+    Table table = new Table(source, "movie");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    table.writeSnapshot(outputStream);
+
+    Table tableFromSnapshot = new Table().readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertThat(tableFromSnapshot.getName()).isEqualTo("movie");
+    assertThat(tableFromSnapshot.getColumnsNameList()).isEqualTo(table.getColumnsNameList());
+    assertThat(tableFromSnapshot.getPksNameList()).isEqualTo(table.getPksNameList());
+    assertThat(tableFromSnapshot.getRowsList()).hasSize(3);
+    for (int index = 0; index < 3; index++) {
+      assertThat(tableFromSnapshot.getRow(index).hasValues(table.getRow(index))).isTrue();
+    }
+  }
+
+  /**
+   * This method test the snapshot of a request.
+   */
+  @Test
+  public void test_snapshot_of_request() {
+    Request request = new Request(source, "select * from movie where id > ?", 1).setPksName("id");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    request.writeSnapshot(outputStream);
+
+    Request requestFromSnapshot = new Request().readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertThat(requestFromSnapshot.getRequest()).isEqualTo("select * from movie where id > ?");
+    assertThat(requestFromSnapshot.getParameters()).containsExactly(1);
+    assertThat(requestFromSnapshot.getPksNameList()).containsExactly("ID");
+    assertThat(requestFromSnapshot.getRowsList()).hasSize(2);
+    assertThat(requestFromSnapshot.getRow(0).getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(2));
+  }
+
+  /**
+   * This method should fail because the snapshot is the snapshot of another table.
+   */
+  @Test
+  public void should_fail_because_snapshot_is_of_another_table() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new Table(source, "movie").writeSnapshot(outputStream);
+    try {
+      new Table(source, "actor").readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The snapshot of <movie> does not correspond to <actor>");
+    }
+  }
+
+  /**
+   * This method should fail because the stream does not contain a snapshot.
+   */
+  @Test
+  public void should_fail_because_stream_does_not_contain_snapshot() {
+    try {
+      new Table(source, "movie").readSnapshot(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The stream does not contain a snapshot");
+    }
+  }
+
+  /**
+   * This method should fail because the version of the format of the snapshot is not supported.
+   */
+  @Test
+  public void should_fail_because_version_is_not_supported() {
+    try {
+      new Table(source, "movie").readSnapshot(new ByteArrayInputStream(new byte[] { 0x41, 0x44, 0x42, 0x53, 0, 0, 0,
+          2, 0, 0, 0, 0 }));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The version 2 of the snapshot is not supported");
+    }
+  }
+
+  /**
+   * This method should fail because the number of data in the snapshot is greater than the data available.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_number_of_data_is_corrupted() {
+    new Table(source, "movie").readSnapshot(new ByteArrayInputStream(new byte[] { 0x41, 0x44, 0x42, 0x53, 0, 0, 0, 1,
+        127, -1, -1, -1 }));
+  }
+
+  /**
+   * This method should fail because the name of the table in the snapshot is not a text.
+   */
+  @Test
+  public void should_fail_because_name_is_not_a_text() {
+    try {
+      new Table(source, "movie").readSnapshot(new ByteArrayInputStream(new byte[] { 0x41, 0x44, 0x42, 0x53, 0, 0, 0,
+          1, 0, 0, 0, 1, 0, 5, 0, 0, 0, 1 }));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("java.io.IOException: A text is expected instead of java.lang.Integer");
+    }
+  }
+
+  /**
+   * This method test the changes on the tables with a start point read from a snapshot.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_from_snapshot() {
+    Changes changes = new Changes(source);
+    changes.setStartPointNow();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    changes.writeStartPoint(outputStream);
+
+    updateChangesForTests();
+    Changes changesFromSnapshot = new Changes(source);
+    changesFromSnapshot.setStartPointFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+    changesFromSnapshot.setEndPointNow();
+
+    assertThat(changesFromSnapshot.getTablesList()).hasSize(changes.getTablesList().size());
+    assertThat(changesFromSnapshot.getChangesList()).hasSize(8);
+    assertThat(changesFromSnapshot.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changesFromSnapshot.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changesFromSnapshot.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on a request with a start point read from a snapshot.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_from_snapshot() throws SQLException {
+    Request request = new Request(source, "select * from movie").setPksName("id");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new Changes(request).setStartPointNow().writeStartPoint(outputStream);
+
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    Changes changes = new Changes(request).setStartPointFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+  }
+
+  /**
+   * This method should fail because the snapshot does not contain a table of the comparison.
+   */
+  @Test
+  public void should_fail_because_snapshot_does_not_contain_table() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new Changes(new Table(source, "movie")).setStartPointNow().writeStartPoint(outputStream);
+    try {
+      new Changes(new Table(source, "actor")).setStartPointFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The snapshot does not contain the table <actor>");
+    }
+  }
+
+  /**
+   * This method test that the columns to check and to exclude are read in the snapshot.
+   */
+  @Test
+  public void test_snapshot_of_table_with_columns_to_check() {
+    Table table = new Table(source, "movie", new String[] { "id", "title", "year" }, new String[] { "year" });
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    table.writeSnapshot(outputStream);
+
+    Table tableFromSnapshot = new Table().readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertThat(tableFromSnapshot.getColumnsToCheck()).containsExactly("ID", "TITLE", "YEAR");
+    assertThat(tableFromSnapshot.getColumnsToExclude()).containsExactly("YEAR");
+    assertThat(tableFromSnapshot.getColumnsNameList()).containsExactly("ID", "TITLE");
+  }
+
+  /**
+   * This method should fail because the columns to check of the table are not the same in the snapshot.
+   */
+  @Test
+  public void should_fail_because_columns_to_check_are_not_the_same() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new Changes(new Table(source, "movie")).setStartPointNow().writeStartPoint(outputStream);
+    try {
+      new Changes(new Table(source, "movie", new String[] { "id", "title" }, null))
+          .setStartPointFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The columns to check of the table <movie> are not the same in the snapshot");
+    }
+  }
+
+  /**
+   * This method should fail because the columns to exclude of the table are not the same in the snapshot.
+   */
+  @Test
+  public void should_fail_because_columns_to_exclude_are_not_the_same() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new Table(source, "movie", null, new String[] { "year" }).writeSnapshot(outputStream);
+    try {
+      new Table(source, "movie").readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo(
+          "The columns to exclude of the table <movie> are not the same in the snapshot");
+    }
+  }
+
+  /**
+   * This method should fail because the parameters of the request are not the same in the snapshot.
+   */
+  @Test
+  public void should_fail_because_parameters_are_not_the_same() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Request request = new Request(source, "select * from movie where id > ?", 1).setPksName("id");
+    new Changes(request).setStartPointNow().writeStartPoint(outputStream);
+    try {
+      new Changes(new Request(source, "select * from movie where id > ?", 2).setPksName("id"))
+          .setStartPointFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo(
+          "The parameters of the request <select * from movie where id > ?> are not the same in the snapshot");
+    }
+  }
+
+  /**
+   * This method should fail because the start point is not set.
+   */
+  @Test
+  public void should_fail_because_start_point_is_not_set() {
+    try {
+      new Changes(source).writeStartPoint(new ByteArrayOutputStream());
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Start point must be set before");
+    }
+  }
+}
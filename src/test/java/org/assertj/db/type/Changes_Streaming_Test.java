@@ -0,0 +1,201 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the streaming mode of {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_Streaming_Test extends AbstractTest {
+
+  /**
+   * This method test the default streaming mode.
+   */
+  @Test
+  public void test_default_streaming() {
+    assertThat(new Changes(source).isStreaming()).isFalse();
+  }
+
+  /**
+   * This method test the changes on the tables with the streaming mode.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_streaming() {
+    Changes changes = new Changes(source).setStreaming(true);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on a request with the streaming mode.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_streaming() throws SQLException {
+    Changes changes = new Changes(new Request(source, "select * from movie").setPksName("id")).setStreaming(true);
+
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("delete interpretation where id_movie = 1");
+    update("delete movie where id = 1");
+    changes.setEndPointNow();
+
+    // Only the changed rows are kept at end point
+    assertThat(changes.getRequestAtEndPoint().getRowsList()).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(3);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+    change = changes.getChangesList().get(2);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(1));
+    assertThat(change.getRowAtEndPoint()).isNull();
+  }
+
+  /**
+   * This method test the changes on the tables with the streaming mode and a budget of memory (the rows at start point
+   * are written in files).
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_tables_with_streaming_and_heap_budget() {
+    Changes changes = new Changes(source).setStreaming(true).setHeapBudget(1);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).isInstanceOf(SpilledRowsList.class);
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method test the changes on a request with the streaming mode and a budget of memory (the rows at start point
+   * are written in a file).
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_streaming_and_heap_budget() throws SQLException {
+    Changes changes = new Changes(new Request(source, "select * from movie").setPksName("id")).setStreaming(true)
+        .setHeapBudget(1);
+
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("delete interpretation where id_movie = 1");
+    update("delete movie where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getRequestAtStartPoint().getRowsList()).isInstanceOf(SpilledRowsList.class).hasSize(3);
+    // Only the changed rows are kept at end point
+    assertThat(changes.getRequestAtEndPoint().getRowsList()).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(3);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+    change = changes.getChangesList().get(2);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(1));
+  }
+
+  /**
+   * This method test the changes on a request without primary key with the streaming mode (all the rows are kept).
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_without_primary_key_with_streaming() throws SQLException {
+    Changes changes = new Changes(new Request(source, "select * from movie")).setStreaming(true);
+
+    changes.setStartPointNow();
+    update("delete interpretation where id_movie = 1");
+    update("delete movie where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getRequestAtEndPoint().getRowsList()).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.DELETION);
+  }
+
+  /**
+   * This method test the changes on a table with the streaming mode when the database does not sort the primary keys
+   * like Java (the rows at start point are found with the index after the first row out of order).
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_table_sorted_in_another_order_with_streaming() throws SQLException {
+    update("create table sorted(id varchar_ignorecase(10) primary key, val int)");
+    try {
+      update("insert into sorted values('a', 1)");
+      update("insert into sorted values('B', 2)");
+      update("insert into sorted values('c', 3)");
+      update("insert into sorted values('D', 4)");
+      Changes changes = new Changes(new Table(source, "sorted")).setStreaming(true);
+
+      changes.setStartPointNow();
+      update("update sorted set val = 5 where id = 'a'");
+      update("update sorted set val = 6 where id = 'D'");
+      update("delete sorted where id = 'c'");
+      update("insert into sorted values('E', 7)");
+      changes.setEndPointNow();
+
+      assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).hasSize(3);
+      assertThat(changes.getChangesList()).hasSize(4);
+      assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(1);
+      assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(2);
+      assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(1);
+      Change change = changes.getChangesOfType(ChangeType.DELETION).getChangesList().get(0);
+      assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo("c");
+    } finally {
+      update("drop table sorted");
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the changes of a table with a version column.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_VersionColumn_Test extends AbstractTest {
+
+  /**
+   * Updates the database : the {@code year} column is used like a version column.
+   */
+  private void updateMovies() {
+    update("update movie set title = 'The Avatar', year = 2010 where id = 3");
+    update("insert into movie values(4, 'Ghostbusters', 2016, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("delete from interpretation where id_movie = 1");
+    update("delete from movie where id = 1");
+  }
+
+  /**
+   * This method test the changes on a table with a version column.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_version_column() {
+    Changes changes = new Changes(new Table(source, "movie").setVersionColumnName("year"));
+    changes.setStartPointNow();
+    updateMovies();
+    changes.setEndPointNow();
+
+    Table tableAtEndPoint = changes.getTablesAtEndPointList().get(0);
+    assertThat(tableAtEndPoint.getVersionColumnName()).isEqualTo("YEAR");
+    assertThat(tableAtEndPoint.getRequest()).isEqualTo("SELECT * FROM movie");
+    assertThat(tableAtEndPoint.getRowsList()).hasSize(3);
+    assertThat(tableAtEndPoint.getRow(0).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(2));
+    assertThat(tableAtEndPoint.getRow(1).getColumnValue("TITLE").getValue()).isEqualTo("The Avatar");
+    assertThat(tableAtEndPoint.getRow(2).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(4));
+
+    assertThat(changes.getChangesList()).hasSize(3);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getColumnValue("TITLE").getValue()).isEqualTo("Avatar");
+    assertThat(change.getRowAtEndPoint().getColumnValue("TITLE").getValue()).isEqualTo("The Avatar");
+    change = changes.getChangesList().get(2);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change.getRowAtStartPoint().getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(1));
+  }
+
+  /**
+   * This method test the changes on a table with a version column and the streaming mode.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_version_column_and_streaming() {
+    Changes changes = new Changes(new Table(source, "movie").setVersionColumnName("year")).setStreaming(true);
+    changes.setStartPointNow();
+    updateMovies();
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(1);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(1);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(1);
+  }
+
+  /**
+   * This method test that the rows at end point are in the same order than in a loading of the table.
+   */
+  @Test
+  @NeedReload
+  public void test_rows_at_end_point_are_sorted() {
+    Changes changes = new Changes(new Table(source, "movie").setVersionColumnName("year"));
+    changes.setStartPointNow();
+    update("insert into movie values(0, 'Ghostbusters', 2016, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    changes.setEndPointNow();
+
+    Table tableAtEndPoint = changes.getTablesAtEndPointList().get(0);
+    assertThat(tableAtEndPoint.getRowsList()).hasSize(4);
+    assertThat(tableAtEndPoint.getRow(0).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(0));
+    assertThat(tableAtEndPoint.getRow(1).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(1));
+    assertThat(tableAtEndPoint.getRow(3).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(3));
+  }
+
+  /**
+   * This method test that a row updated without changing the version is not seen.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_version_not_changed() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie").setVersionColumnName("year"));
+    changes.setStartPointNow();
+    update("update movie set title = 'Alien (1979)' where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(0);
+  }
+
+  /**
+   * This method should fail because the version column does not exist.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_version_column_does_not_exist() {
+    Changes changes = new Changes(new Table(source, "movie").setVersionColumnName("version"));
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the datasets and on the reading of their records.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Dataset_Test {
+
+  /**
+   * This method test the default options of a dataset.
+   */
+  @Test
+  public void test_default_options() {
+    Dataset dataset = new Dataset(new File("target/test-classes/movie.csv"));
+
+    assertThat(dataset.getSeparator()).isEqualTo(',');
+    assertThat(dataset.getCharset()).isEqualTo(Charset.forName("UTF-8"));
+    assertThat(dataset.hasHeader()).isTrue();
+    assertThat(dataset.getNullValue()).isEqualTo("");
+  }
+
+  /**
+   * This method test the reading of the records (with quoted values, line breaks and empty lines).
+   */
+  @Test
+  public void test_read_records() {
+    Dataset dataset = new Dataset(new File("target/test-classes/dataset.csv")).setSeparator(';');
+    try (DatasetReader reader = dataset.openReader()) {
+      assertThat(reader.getColumnsNames()).containsExactly("id", "name");
+
+      assertThat(reader.readRecord()).containsExactly("1", "a;\"b\"\r\nc");
+      assertThat(reader.getLineNumber()).isEqualTo(2);
+      assertThat(reader.readRecord()).containsExactly("2", null);
+      assertThat(reader.getLineNumber()).isEqualTo(5);
+      assertThat(reader.readRecord()).containsExactly("3", "");
+      assertThat(reader.getLineNumber()).isEqualTo(6);
+      assertThat(reader.readRecord()).isNull();
+    }
+  }
+
+  /**
+   * This method test the reading of the records without header and with a representation of {@code null}.
+   */
+  @Test
+  public void test_read_records_without_header() {
+    Dataset dataset = new Dataset(new File("target/test-classes/dataset.csv")).setSeparator(';').setHeader(false)
+                                                                              .setNullValue("id");
+    try (DatasetReader reader = dataset.openReader()) {
+      assertThat(reader.getColumnsNames()).isNull();
+
+      assertThat(reader.readRecord()).containsExactly(null, "name");
+      assertThat(reader.getLineNumber()).isEqualTo(1);
+    }
+  }
+
+  /**
+   * This method should fail because a quoted value is not closed.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_quoted_value_is_not_closed() {
+    Dataset dataset = new Dataset(new File("target/test-classes/dataset-not-closed.csv"));
+    try (DatasetReader reader = dataset.openReader()) {
+      reader.readRecord();
+    }
+  }
+
+  /**
+   * This method should fail because the file is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_file_is_null() {
+    new Dataset(null);
+  }
+
+  /**
+   * This method should fail because the separator is a quote.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_separator_is_a_quote() {
+    new Dataset(new File("target/test-classes/movie.csv")).setSeparator('"');
+  }
+
+  /**
+   * This method should fail because the file does not exist.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_file_does_not_exist() {
+    new Dataset(new File("target/test-classes/not-exist.csv")).openReader();
+  }
+}
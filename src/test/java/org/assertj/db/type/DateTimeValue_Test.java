@@ -200,6 +200,15 @@ public class DateTimeValue_Test extends AbstractTest {
     assertThat(dateTimeValue.getTime().getNanoSeconds()).isEqualTo(3);
   }
 
+  /**
+   * This method tests that the {@code parse} static method returns the same instance for the same {@code String}.
+   */
+  @Test
+  public void test_parse_twice() throws ParseException {
+    DateTimeValue dateTimeValue = DateTimeValue.parse("2007-12-24T09:01:06");
+    assertThat(DateTimeValue.parse("2007-12-24T09:01:06")).isSameAs(dateTimeValue);
+  }
+
   /**
    * This method tests the {@code parse} static method with a {@code String} with only the day.
    */
@@ -188,6 +188,15 @@ public class DateValue_Test extends AbstractTest {
     assertThat(dateValue.getYear()).isEqualTo(2002);
   }
 
+  /**
+   * This method tests that the {@code parse} static method returns the same instance for the same {@code String}.
+   */
+  @Test
+  public void test_parse_twice() throws ParseException {
+    DateValue dateValue = DateValue.parse("2002-07-27");
+    assertThat(DateValue.parse("2002-07-27")).isSameAs(dateValue);
+  }
+
   /**
    * This method should throw a {@code NullPointerException} because passing a {@code null} parameter to the
    * {@code parse} static method.
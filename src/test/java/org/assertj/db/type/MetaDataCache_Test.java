@@ -0,0 +1,141 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the cache of the metadata.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class MetaDataCache_Test extends AbstractTest {
+
+  /**
+   * This method test that the columns name are read in the cache.
+   */
+  @Test
+  public void test_columns_name_from_cache() {
+    MetaDataCache metaDataCache = new MetaDataCache();
+    Table table = new Table(source, "movie").setMetaDataCache(metaDataCache);
+    metaDataCache.put(table, MetaDataCache.COLUMNS, Arrays.asList("id", "title"), table.getRequest());
+
+    assertThat(table.getColumnsNameList()).containsExactly("ID", "TITLE");
+    Table table1 = new Table(source, "movie").setMetaDataCache(metaDataCache);
+    assertThat(table1.getColumnsNameList()).containsExactly("ID", "TITLE");
+
+    metaDataCache.invalidate(source);
+    Table table2 = new Table(source, "movie").setMetaDataCache(metaDataCache);
+    assertThat(table2.getColumnsNameList()).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(metaDataCache.get(table2, MetaDataCache.COLUMNS, table2.getRequest()))
+        .containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+  }
+
+  /**
+   * This method test that the primary keys are the same with the cache.
+   */
+  @Test
+  public void test_primary_keys_with_cache() {
+    MetaDataCache metaDataCache = new MetaDataCache();
+    Table table = new Table(source, "movie").setMetaDataCache(metaDataCache);
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    Table table1 = new Table(source, "movie").setMetaDataCache(metaDataCache);
+    assertThat(table1.getPksNameList()).containsExactly("ID");
+    Table table2 = new Table(source, "movie", null, new String[] { "id" }).setMetaDataCache(metaDataCache);
+    assertThat(table2.getPksNameList()).isEmpty();
+  }
+
+  /**
+   * This method test the invalidation by source and by data source.
+   */
+  @Test
+  public void test_invalidate() {
+    MetaDataCache metaDataCache = new MetaDataCache();
+    Table table = new Table(source, "movie");
+    Table table1 = new Table(dataSource, "movie");
+    metaDataCache.put(table, MetaDataCache.TABLES, Arrays.asList("MOVIE"));
+    metaDataCache.put(table1, MetaDataCache.TABLES, Arrays.asList("MOVIE"));
+
+    metaDataCache.invalidate(dataSource);
+    assertThat(metaDataCache.get(table, MetaDataCache.TABLES)).containsExactly("MOVIE");
+    assertThat(metaDataCache.get(table1, MetaDataCache.TABLES)).isNull();
+
+    metaDataCache.invalidate();
+    assertThat(metaDataCache.get(table, MetaDataCache.TABLES)).isNull();
+  }
+
+  /**
+   * This method test that the informations expire after the time to live.
+   *
+   * @throws InterruptedException
+   */
+  @Test
+  public void test_time_to_live() throws InterruptedException {
+    MetaDataCache metaDataCache = new MetaDataCache(1);
+    Table table = new Table(source, "movie");
+    metaDataCache.put(table, MetaDataCache.TABLES, Arrays.asList("MOVIE"));
+    Thread.sleep(10);
+    assertThat(metaDataCache.get(table, MetaDataCache.TABLES)).isNull();
+  }
+
+  /**
+   * This method test that the informations kept again expire after the time to live of the first keeping.
+   *
+   * @throws InterruptedException
+   */
+  @Test
+  public void test_time_to_live_is_not_extended_by_put() throws InterruptedException {
+    MetaDataCache metaDataCache = new MetaDataCache(100);
+    Table table = new Table(source, "movie");
+    metaDataCache.put(table, MetaDataCache.TABLES, Arrays.asList("MOVIE"));
+    Thread.sleep(60);
+    metaDataCache.put(table, MetaDataCache.TABLES, Arrays.asList("MOVIE"));
+    Thread.sleep(60);
+    assertThat(metaDataCache.get(table, MetaDataCache.TABLES)).isNull();
+  }
+
+  /**
+   * This method test the changes with the cache.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_cache() {
+    MetaDataCache metaDataCache = new MetaDataCache();
+    Changes changes = new Changes(source).setMetaDataCache(metaDataCache);
+    changes.setStartPointNow();
+    Changes changes1 = new Changes(source).setMetaDataCache(metaDataCache);
+    changes1.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    changes1.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes1.getChangesList()).hasSize(8);
+    assertThat(changes1.getTablesList()).hasSameSizeAs(changes.getTablesList());
+  }
+
+  /**
+   * This method should fail because the time to live is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_time_to_live_is_negative() {
+    new MetaDataCache(-1);
+  }
+}
@@ -0,0 +1,168 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the reuse of the connections by {@code PooledSource}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class PooledSource_Test extends AbstractTest {
+
+  /**
+   * This method test that the connection is reused by the loadings.
+   */
+  @Test
+  public void test_connection_is_reused() {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "");
+    try {
+      Table table = new Table(pooledSource, "movie");
+      assertThat(table.getRowsList()).hasSize(3);
+      assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(1);
+
+      Table table1 = new Table(pooledSource, "actor");
+      assertThat(table1.getRowsList()).hasSize(3);
+      assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(1);
+    } finally {
+      pooledSource.close();
+    }
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(0);
+  }
+
+  /**
+   * This method test that the connection is closed only for the user.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_connection_closed() throws SQLException {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "");
+    Connection connection = pooledSource.getConnection();
+    assertThat(connection.isClosed()).isFalse();
+    connection.close();
+    assertThat(connection.isClosed()).isTrue();
+    connection.close();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(1);
+
+    Connection connection1 = pooledSource.getConnection();
+    assertThat(connection1.isClosed()).isFalse();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(0);
+    connection1.close();
+    pooledSource.close();
+  }
+
+  /**
+   * This method test that the connections are not kept when the maximum is reached.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_max_idle_connections() throws SQLException {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "").setMaxIdleConnections(1);
+    Connection connection = pooledSource.getConnection();
+    Connection connection1 = pooledSource.getConnection();
+    connection.close();
+    connection1.close();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(1);
+    pooledSource.close();
+  }
+
+  /**
+   * This method test that the connections not used since more than the idle timeout are closed.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void test_idle_timeout() throws Exception {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "").setIdleTimeout(100);
+    Connection connection = pooledSource.getConnection();
+    Connection connection1 = pooledSource.getConnection();
+    connection.close();
+    connection1.close();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(2);
+
+    Thread.sleep(200);
+    Connection connection2 = pooledSource.getConnection();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(0);
+    connection2.close();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(1);
+    pooledSource.close();
+  }
+
+  /**
+   * This method test that the connections given back after the closing of the source are not kept.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_connection_given_back_after_close() throws SQLException {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "");
+    Connection connection = pooledSource.getConnection();
+    pooledSource.close();
+    connection.close();
+    assertThat(pooledSource.getNumberOfIdleConnections()).isEqualTo(0);
+  }
+
+  /**
+   * This method test the changes with connections reused.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_pooled_source() {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "");
+    Changes changes = new Changes(pooledSource).setParallelism(3);
+
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(pooledSource.getNumberOfIdleConnections()).isBetween(1, 3);
+    pooledSource.close();
+  }
+
+  /**
+   * This method should fail because the connection is closed.
+   *
+   * @throws SQLException
+   */
+  @Test(expected = SQLException.class)
+  public void should_fail_because_connection_is_closed() throws SQLException {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "");
+    Connection connection = pooledSource.getConnection();
+    connection.close();
+    try {
+      connection.createStatement();
+    } finally {
+      pooledSource.close();
+    }
+  }
+
+  /**
+   * This method should fail because the maximum number of connections is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_idle_connections_is_negative() {
+    new PooledSource("jdbc:h2:mem:test", "sa", "").setMaxIdleConnections(-1);
+  }
+}
@@ -0,0 +1,190 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the binary encoding of the values by {@code RowCodec}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class RowCodec_Test extends AbstractTest {
+
+  /**
+   * Returns the object written then read.
+   *
+   * @param object The object.
+   * @return The object read.
+   * @throws IOException
+   */
+  private static Object writeAndRead(Object object) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    RowCodec.writeObject(new DataOutputStream(byteArrayOutputStream), object);
+    return RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+  }
+
+  /**
+   * This method test the values written then read.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void test_write_and_read() throws IOException {
+    Timestamp timestamp = Timestamp.valueOf("2014-05-24 09:46:30.123456789");
+    UUID uuid = UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435");
+
+    assertThat(writeAndRead(null)).isNull();
+    assertThat(writeAndRead("Alien")).isEqualTo("Alien");
+    assertThat(writeAndRead(1979)).isEqualTo(1979);
+    assertThat(writeAndRead(new BigDecimal("5.60"))).isEqualTo(new BigDecimal("5.60"));
+    assertThat(writeAndRead(new byte[] { 1, 2 })).isEqualTo(new byte[] { 1, 2 });
+    assertThat(writeAndRead(timestamp)).isEqualTo(timestamp);
+    assertThat(writeAndRead(uuid)).isEqualTo(uuid);
+  }
+
+  /**
+   * This method test that the dates and times are read with the same fields in another time zone.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void test_write_and_read_dates_and_times_in_another_time_zone() throws IOException {
+    TimeZone timeZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+      RowCodec.writeObject(output, Date.valueOf("2007-12-23"));
+      RowCodec.writeObject(output, Time.valueOf("09:01:06"));
+      RowCodec.writeObject(output, Timestamp.valueOf("2014-05-24 09:46:30.123456789"));
+
+      TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+      assertThat(RowCodec.readObject(input)).isEqualTo(Date.valueOf("2007-12-23"));
+      assertThat(RowCodec.readObject(input)).isEqualTo(Time.valueOf("09:01:06"));
+      assertThat(RowCodec.readObject(input)).isEqualTo(Timestamp.valueOf("2014-05-24 09:46:30.123456789"));
+    } finally {
+      TimeZone.setDefault(timeZone);
+    }
+  }
+
+  /**
+   * This method should fail because the class of the value has no encoding (the Java serialization is not used).
+   *
+   * @throws IOException
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_class_can_not_be_written() throws IOException {
+    RowCodec.writeObject(new DataOutputStream(new ByteArrayOutputStream()), new ArrayList<String>());
+  }
+
+  /**
+   * This method test if the values of the rows can be written.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_can_write() throws Exception {
+    Row row = getRow(null, Arrays.asList("COL1", "COL2"),
+                     Arrays.asList(getValue(null, "Alien"), getValue(null, Timestamp.valueOf("2014-05-24 09:46:30"))));
+    Row rowWithArray = getRow(null, Arrays.asList("COL1", "COL2"),
+                              Arrays.asList(getValue(null, "Alien"), getValue(null, new Object[] { 1, "Alien" })));
+
+    assertThat(RowCodec.canWrite(row)).isTrue();
+    assertThat(RowCodec.canWrite(rowWithArray)).isFalse();
+  }
+
+  /**
+   * This method should fail because the tag is unknown (like the tag of the Java serialization in the former format).
+   *
+   * @throws IOException
+   */
+  @Test(expected = IOException.class)
+  public void should_fail_because_tag_is_unknown() throws IOException {
+    RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(new byte[] { 17, 0, 0, 0, 0 })));
+  }
+
+  /**
+   * This method should fail because the length of the bytes is negative.
+   *
+   * @throws IOException
+   */
+  @Test(expected = IOException.class)
+  public void should_fail_because_length_is_negative() throws IOException {
+    RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(new byte[] { 1, -1, -1, -1, -1 })));
+  }
+
+  /**
+   * This method should fail because the length of the bytes is greater than the bytes available (without allocating
+   * the length).
+   *
+   * @throws IOException
+   */
+  @Test(expected = EOFException.class)
+  public void should_fail_because_length_is_greater_than_bytes_available() throws IOException {
+    RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(new byte[] { 11, 127, -1, -1, -1, 1, 2, 3 })));
+  }
+
+  /**
+   * This method should fail because the nanoseconds of the timestamp are invalid.
+   *
+   * @throws IOException
+   */
+  @Test(expected = IOException.class)
+  public void should_fail_because_nanoseconds_are_invalid() throws IOException {
+    RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(new byte[] { 14, 0, 0, 0, 0, 0, 0, 0, 0,
+        -1, -1, -1, -1 })));
+  }
+
+  /**
+   * This method should fail because the number is empty.
+   *
+   * @throws IOException
+   */
+  @Test(expected = IOException.class)
+  public void should_fail_because_number_is_empty() throws IOException {
+    RowCodec.readObject(new DataInputStream(new ByteArrayInputStream(new byte[] { 10, 0, 0, 0, 0 })));
+  }
+
+  /**
+   * This method should fail because the number of values is not the number of columns.
+   *
+   * @throws IOException
+   */
+  @Test(expected = IOException.class)
+  public void should_fail_because_number_of_values_is_not_number_of_columns() throws IOException {
+    RowCodec.readRow(new DataInputStream(new ByteArrayInputStream(new byte[] { 127, -1, -1, -1 })),
+        new ArrayList<String>(), Arrays.asList("ID"));
+  }
+}
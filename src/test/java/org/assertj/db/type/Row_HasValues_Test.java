@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the comparison of the values of {@code Row} and on the hash of the values.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Row_HasValues_Test extends AbstractTest {
+
+  /**
+   * This method test the comparison of rows with equal values.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_values_are_equal() throws Exception {
+    Row row1 = getRow(null, Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, 3), getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+    Row row2 = getRow(null, Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, new BigDecimal("3.00")),
+            getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+
+    assertThat(row1.hasValues(row2)).isTrue();
+    assertThat(row2.hasValues(row1)).isTrue();
+    assertThat(row1.getHash64()).isEqualTo(row2.getHash64());
+  }
+
+  /**
+   * This method test the comparison of rows with different values.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_values_are_different() throws Exception {
+    Row row1 = getRow(null, Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, 3), getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+    Row row2 = getRow(null, Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, 3), getValue(null, Timestamp.valueOf("2007-12-23 09:01:01"))));
+    Row row3 = getRow(null, Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList(getValue(null, "val2"), getValue(null, 3), getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+
+    assertThat(row1.hasValues(row2)).isFalse();
+    assertThat(row1.hasValues(row3)).isFalse();
+    assertThat(row1.getHash64()).isNotEqualTo(row2.getHash64()).isNotEqualTo(row3.getHash64());
+  }
+
+  /**
+   * This method test the comparison of rows with values of different types (the hashes are not used).
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_types_are_different() throws Exception {
+    Row row1 = getRow(null, Arrays.asList("col1", "col2"), Arrays.asList(getValue(null, 3), getValue(null, null)));
+    Row row2 = getRow(null, Arrays.asList("col1", "col2"), Arrays.asList(getValue(null, "3"), getValue(null, null)));
+
+    assertThat(row1.getTypesHash64()).isNotEqualTo(row2.getTypesHash64());
+    assertThat(row1.hasValues(row2)).isTrue();
+  }
+
+  /**
+   * This method test the comparison of rows with equal floating and exact numbers (the hashes are not the same).
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_floating_and_exact_numbers_are_equal() throws Exception {
+    Row row1 = getRow(null, Arrays.asList("col1", "col2"), Arrays.asList(getValue(null, "val1"), getValue(null, 2.5)));
+    Row row2 = getRow(null, Arrays.asList("col1", "col2"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, new BigDecimal("2.5"))));
+
+    assertThat(row1.getTypesHash64()).isNotEqualTo(row2.getTypesHash64());
+    assertThat(row1.hasValues(row2)).isTrue();
+    assertThat(row2.hasValues(row1)).isTrue();
+  }
+
+  /**
+   * This method test the comparison of a row with a {@code Float} to a row with a {@code Double} which is equal with
+   * the precision of the {@code Float} (the hashes are not the same).
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_float_and_double_are_equal() throws Exception {
+    Row row1 = getRow(null, Arrays.asList("col1", "col2"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, 16777216f)));
+    Row row2 = getRow(null, Arrays.asList("col1", "col2"),
+        Arrays.asList(getValue(null, "val1"), getValue(null, 16777217.0)));
+
+    assertThat(row1.getHash64()).isNotEqualTo(row2.getHash64());
+    assertThat(row1.getTypesHash64()).isNotEqualTo(row2.getTypesHash64());
+    assertThat(row1.hasValues(row2)).isTrue();
+  }
+}
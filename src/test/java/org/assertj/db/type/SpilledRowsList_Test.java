@@ -0,0 +1,101 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.util.RowComparator;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the list of the rows written in a file.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class SpilledRowsList_Test extends AbstractTest {
+
+  /**
+   * Returns a list written in a file with the rows of the movies in the reverse order.
+   *
+   * @return The list.
+   */
+  private SpilledRowsList getReversedList() {
+    Request request = new Request(source, "select * from movie").setPksName("id");
+    List<Row> rowsList = new ArrayList<>(request.getRowsList());
+    Collections.reverse(rowsList);
+    SpilledRowsList spilledRowsList = new SpilledRowsList(request.getPksNameList(), request.getColumnsNameList());
+    spilledRowsList.addAll(rowsList);
+    spilledRowsList.finish();
+    return spilledRowsList;
+  }
+
+  /**
+   * Returns the ids of the rows.
+   *
+   * @param rowsList The rows.
+   * @return The ids.
+   */
+  private static Object[] getIds(List<Row> rowsList) {
+    Object[] ids = new Object[rowsList.size()];
+    for (int index = 0; index < ids.length; index++) {
+      ids[index] = rowsList.get(index).getColumnValue("id").getValue();
+    }
+    return ids;
+  }
+
+  /**
+   * This method test the sort of the rows in only one run.
+   */
+  @Test
+  public void test_sort_rows_in_one_run() {
+    SpilledRowsList spilledRowsList = getReversedList();
+
+    spilledRowsList.sortRows(RowComparator.INSTANCE, Long.MAX_VALUE);
+
+    assertThat(getIds(spilledRowsList)).containsExactly(new BigDecimal(1), new BigDecimal(2), new BigDecimal(3));
+  }
+
+  /**
+   * This method test the sort of the rows in several runs which are merged.
+   */
+  @Test
+  public void test_sort_rows_in_several_runs() {
+    SpilledRowsList spilledRowsList = getReversedList();
+
+    spilledRowsList.sortRows(RowComparator.INSTANCE, 1);
+
+    assertThat(getIds(spilledRowsList)).containsExactly(new BigDecimal(1), new BigDecimal(2), new BigDecimal(3));
+    assertThat(spilledRowsList.get(0).getColumnValue("title").getValue()).isEqualTo("Alien");
+  }
+
+  /**
+   * This method should fail because the list is not finished.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void should_fail_because_list_is_not_finished() {
+    Request request = new Request(source, "select * from movie").setPksName("id");
+    SpilledRowsList spilledRowsList = new SpilledRowsList(request.getPksNameList(), request.getColumnsNameList());
+    try {
+      spilledRowsList.sortRows(RowComparator.INSTANCE, 1);
+    } finally {
+      spilledRowsList.discard();
+    }
+  }
+}
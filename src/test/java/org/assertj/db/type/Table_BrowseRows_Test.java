@@ -0,0 +1,126 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the browsing of the rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_BrowseRows_Test extends AbstractTest {
+
+  /**
+   * This method test the browsing of the rows in the order of the primary keys, without loading them.
+   */
+  @Test
+  public void test_browse_rows() {
+    Table table = new Table(source, "interpretation", new String[] { "id", "character" }, null);
+    final List<Row> rowsList = new ArrayList<>();
+    table.browseRows(new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        rowsList.add(row);
+      }
+    });
+
+    assertThat(rowsList).hasSize(5);
+    for (int index = 0; index < 5; index++) {
+      Row row = rowsList.get(index);
+      assertThat(row.getPksNameList()).containsExactly("ID");
+      assertThat(row.getColumnsNameList()).containsExactly("ID", "CHARACTER");
+      assertThat(row.getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(index + 1));
+    }
+    assertThat(rowsList.get(4).getColumnValue("CHARACTER").getValue()).isEqualTo("Jake Sully");
+  }
+
+  /**
+   * This method test the browsing of the rows which are already loaded : the rows are read in the database.
+   */
+  @Test
+  public void test_browse_rows_already_loaded() {
+    Table table = new Table(source, "movie");
+    final List<Row> rowsList = new ArrayList<>();
+    table.browseRows(new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        rowsList.add(row);
+      }
+    });
+    assertThat(rowsList).hasSize(3);
+
+    final List<Row> loadedRowsList = new ArrayList<>();
+    table.getRowsList();
+    table.browseRows(new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        loadedRowsList.add(row);
+      }
+    });
+    assertThat(loadedRowsList).hasSize(3);
+    for (int index = 0; index < 3; index++) {
+      assertThat(loadedRowsList.get(index).hasValues(rowsList.get(index))).isTrue();
+    }
+  }
+
+  /**
+   * This method test that the rows without primary keys are browsed in the order of the request, before and after
+   * the loading (the loaded rows are sorted on the values).
+   */
+  @Test
+  public void test_browse_rows_without_primary_keys_in_the_order_of_the_request() {
+    Request request = new Request(source, "select id, title from movie order by id desc");
+    final List<Object> idsList = new ArrayList<>();
+    RowVisitor visitor = new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        idsList.add(row.getColumnValue("ID").getValue());
+      }
+    };
+
+    request.browseRows(visitor);
+    assertThat(request.getRow(0).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal("1"));
+    request.browseRows(visitor);
+
+    assertThat(idsList).containsExactly(new BigDecimal("3"), new BigDecimal("2"), new BigDecimal("1"),
+                                        new BigDecimal("3"), new BigDecimal("2"), new BigDecimal("1"));
+  }
+
+  /**
+   * This method test that all the rows are browsed when only a sample of the rows is loaded.
+   */
+  @Test
+  public void test_browse_rows_with_sample() {
+    Table table = new Table(source, "movie");
+    table.setLoadOptions(new LoadOptions().setSampleSize(1));
+    final List<Object> idsList = new ArrayList<>();
+    table.browseRows(new RowVisitor() {
+      @Override
+      public void visit(Row row) {
+        idsList.add(row.getColumnValue("ID").getValue());
+      }
+    });
+
+    assertThat(table.getRowsList()).hasSize(1);
+    assertThat(idsList).containsExactly(new BigDecimal("1"), new BigDecimal("2"), new BigDecimal("3"));
+  }
+}
@@ -0,0 +1,134 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the aggregates (sum, average, minimum, maximum and number of distinct values) of the values in a column of
+ * a {@code Table} and of a {@code Request}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetAggregatesOfValues_Test extends AbstractTest {
+
+  /**
+   * This method test the aggregates without loading the rows.
+   */
+  @Test
+  public void test_aggregates_without_loading() throws Exception {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getSumOfValues("year")).isEqualByComparingTo("5992");
+    assertThat(table.getAverageOfValues("year")).isEqualByComparingTo("1997.333333333333333333333333333333");
+    assertThat(table.getMinimumOfValues("year")).isEqualByComparingTo("1979");
+    assertThat(table.getMaximumOfValues("YEAR")).isEqualByComparingTo("2009");
+    assertThat(table.getNumberOfDistinctValues("title")).isEqualTo(3);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the aggregates of a request with parameters without loading the rows.
+   */
+  @Test
+  public void test_aggregates_of_request_without_loading() throws Exception {
+    Request request = new Request(dataSource, "select * from interpretation where id_actor = ?", 1);
+
+    assertThat(request.getSumOfValues("id_movie")).isEqualByComparingTo("6");
+    assertThat(request.getAverageOfValues("id_movie")).isEqualByComparingTo("2");
+    assertThat(request.getNumberOfDistinctValues("id_actor")).isEqualTo(1);
+    assertThat(request.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the aggregates when the rows are loaded.
+   */
+  @Test
+  public void test_aggregates_when_rows_are_loaded() throws Exception {
+    Table table = new Table(source, "interpretation");
+    table.getRowsList();
+
+    assertThat(table.getSumOfValues("id_movie")).isEqualByComparingTo("11");
+    assertThat(table.getAverageOfValues("id_movie")).isEqualByComparingTo("2.2");
+    assertThat(table.getMinimumOfValues("id_movie")).isEqualByComparingTo("1");
+    assertThat(table.getMaximumOfValues("id_movie")).isEqualByComparingTo("3");
+    assertThat(table.getNumberOfDistinctValues("id_movie")).isEqualTo(3);
+    assertThat(table.getNumberOfDistinctValues("id_actor")).isEqualTo(3);
+  }
+
+  /**
+   * This method test the aggregates of a column with only {@code null} values.
+   */
+  @Test
+  public void test_aggregates_of_null_values() {
+    Table table = new Table(source, "test2");
+
+    assertThat(table.getSumOfValues("var15")).isNull();
+    assertThat(table.getAverageOfValues("var15")).isNull();
+    assertThat(table.getMinimumOfValues("var15")).isNull();
+    assertThat(table.getMaximumOfValues("var15")).isNull();
+    assertThat(table.getNumberOfDistinctValues("var15")).isEqualTo(0);
+
+    table.getRowsList();
+    assertThat(table.getSumOfValues("var15")).isNull();
+    assertThat(table.getAverageOfValues("var15")).isNull();
+    assertThat(table.getNumberOfDistinctValues("var15")).isEqualTo(0);
+  }
+
+  /**
+   * This method test that the assertions on the aggregates of a column do not load the rows.
+   */
+  @Test
+  public void test_aggregates_assertions_without_loading() throws Exception {
+    Table table = new Table(source, "movie");
+
+    assertThat(table).column("year").hasSumBetween(5000, 6000).hasAverageBetween(1990, 2000.5)
+                     .hasMinimumBetween(1979, 1979).hasMaximumBetween(2000, 2010)
+                     .hasNumberOfDistinctValuesBetween(3, 3).hasNumberOfNullValuesBetween(0, 0);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method should fail because the values of the column are not numbers.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_values_are_not_numbers() {
+    Table table = new Table(source, "movie");
+    table.getMinimumOfValues("title");
+  }
+
+  /**
+   * This method should fail because the values of the column are not numbers (when the rows are loaded).
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_values_are_not_numbers_when_rows_are_loaded() {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+    table.getSumOfValues("title");
+  }
+
+  /**
+   * This method should fail because the column does not exist.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_column_does_not_exist() {
+    Table table = new Table(source, "movie");
+    table.getSumOfValues("not_exist");
+  }
+}
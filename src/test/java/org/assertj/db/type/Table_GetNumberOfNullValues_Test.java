@@ -0,0 +1,88 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the number of {@code null} and not {@code null} values in a column of a {@code Table} and of a
+ * {@code Request}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetNumberOfNullValues_Test extends AbstractTest {
+
+  /**
+   * This method test the number of values without loading the rows.
+   */
+  @Test
+  public void test_number_of_values_without_loading() throws Exception {
+    Table table = new Table(source, "test2");
+
+    assertThat(table.getNumberOfNullValues("var15")).isEqualTo(2);
+    assertThat(table.getNumberOfNotNullValues("var15")).isEqualTo(0);
+    assertThat(table.getNumberOfNullValues("var14")).isEqualTo(1);
+    assertThat(table.getNumberOfNotNullValues("VAR14")).isEqualTo(1);
+    assertThat(table.getColumnsNameList()).hasSize(16);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the number of values of a request with parameters without loading the rows.
+   */
+  @Test
+  public void test_number_of_values_of_request_without_loading() throws Exception {
+    Request request = new Request(dataSource, "select * from test2 where var1 = ?", 1);
+
+    assertThat(request.getNumberOfNullValues("var14")).isEqualTo(0);
+    assertThat(request.getNumberOfNotNullValues("var14")).isEqualTo(1);
+    assertThat(request.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the number of values when the rows are loaded.
+   */
+  @Test
+  public void test_number_of_values_when_rows_are_loaded() throws Exception {
+    Table table = new Table(source, "test2");
+    table.getRowsList();
+
+    assertThat(table.getNumberOfNullValues("var14")).isEqualTo(1);
+    assertThat(table.getNumberOfNotNullValues("var14")).isEqualTo(1);
+  }
+
+  /**
+   * This method test that the assertions on the nullity of a column do not load the rows.
+   */
+  @Test
+  public void test_nullity_assertions_without_loading() throws Exception {
+    Table table = new Table(source, "test2");
+
+    assertThat(table).column("var15").hasOnlyNullValues().hasNumberOfRows(2);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method should fail because the column does not exist.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_column_does_not_exist() {
+    new Table(source, "test2").getNumberOfNullValues("not_exist");
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the number of rows of a {@code Table} and of a {@code Request}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method test the number of rows of a table without loading the rows.
+   */
+  @Test
+  public void test_number_of_rows_of_table_without_loading() throws Exception {
+    Table table = new Table(source, "interpretation");
+
+    assertThat(table.getNumberOfRows()).isEqualTo(5);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the number of rows of a request with parameters without loading the rows.
+   */
+  @Test
+  public void test_number_of_rows_of_request_without_loading() throws Exception {
+    Request request = new Request(dataSource, "select * from interpretation where id_actor = ?", 1);
+
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+    assertThat(request.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method test the number of rows of a request which can not be used as a sub-request (the syntax error means
+   * that the count is not supported, so the rows are loaded).
+   */
+  @Test
+  public void test_number_of_rows_of_request_not_supported_as_sub_request() throws Exception {
+    Request request = new Request(source, "select * from movie;");
+
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+    assertThat(request.isLoaded()).isTrue();
+  }
+
+  /**
+   * This method test the number of rows when the rows are already loaded.
+   */
+  @Test
+  public void test_number_of_rows_when_rows_are_loaded() throws Exception {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+
+    assertThat(table.isLoaded()).isTrue();
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+  }
+}
@@ -61,4 +61,19 @@ public class Table_GetRowFromPksValues_Test extends AbstractTest {
             .isEqualTo(UUID.fromString(
                                "30B443AE-C0C9-4790-9BEC-CE1380808435"));
   }
+
+  /**
+   * This method test getting a row from primary keys values of another kind than the primary keys.
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_of_another_kind() throws Exception {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getRowFromPksValues(getValue(null, "2")).getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(table.getRowFromPksValues(getValue(null, 2.0)).getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(table.getRowFromPksValues(getValue(null, new BigDecimal("2.00"))).getValuesList().get(1).getValue())
+            .isEqualTo("The Village");
+    assertThat(table.getRowFromPksValues(getValue(null, "4"))).isNull();
+    assertThat(table.getRowFromPksValues(getValue(null, null))).isNull();
+  }
 }
@@ -0,0 +1,163 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the options of the loading of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_LoadOptions_Test extends AbstractTest {
+
+  /**
+   * This method test that the default options are used when no option is set.
+   */
+  @Test
+  public void test_default_load_options() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getLoadOptions()).isNotSameAs(LoadOptions.getDefault());
+    assertThat(table.getLoadOptions().getFetchSize()).isEqualTo(0);
+    assertThat(table.getLoadOptions().getQueryTimeout()).isEqualTo(0);
+    assertThat(table.getLoadOptions().isReadOnly()).isFalse();
+    assertThat(table.getLoadOptions().getSampleSize()).isEqualTo(0);
+    assertThat(table.getLoadOptions().getSampleSeed()).isEqualTo(0L);
+  }
+
+  /**
+   * This method test that the default options can only be changed with {@code LoadOptions.setDefault}.
+   */
+  @Test
+  public void test_default_load_options_are_copied() {
+    new Table(source, "movie").getLoadOptions().setFetchSize(2);
+    LoadOptions.getDefault().setSampleSize(1);
+    assertThat(LoadOptions.getDefault().getFetchSize()).isEqualTo(0);
+    assertThat(LoadOptions.getDefault().getSampleSize()).isEqualTo(0);
+
+    LoadOptions loadOptions = new LoadOptions().setFetchSize(3);
+    try {
+      LoadOptions.setDefault(loadOptions);
+      loadOptions.setFetchSize(4);
+      assertThat(new Table(source, "movie").getLoadOptions().getFetchSize()).isEqualTo(3);
+    } finally {
+      LoadOptions.setDefault(new LoadOptions());
+    }
+  }
+
+  /**
+   * This method test the loading with options.
+   */
+  @Test
+  public void test_loading_with_load_options() {
+    LoadOptions loadOptions = new LoadOptions().setFetchSize(2).setQueryTimeout(10).setReadOnly(true);
+    Table table = new Table(source, "movie").setLoadOptions(loadOptions);
+
+    assertThat(table.getLoadOptions()).isSameAs(loadOptions);
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getRow(0).getColumnValue("title").getValue()).isEqualTo("Alien");
+  }
+
+  /**
+   * This method test the loading of a request with options.
+   */
+  @Test
+  public void test_loading_request_with_load_options() {
+    LoadOptions loadOptions = new LoadOptions().setFetchSize(1).setReadOnly(true);
+    Request request = new Request(dataSource, "select * from movie where id > ?", 1).setLoadOptions(loadOptions);
+
+    assertThat(request.getRowsList()).hasSize(2);
+  }
+
+  /**
+   * This method test the loading of a sample of the rows.
+   */
+  @Test
+  public void test_loading_with_sample() {
+    Table table = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(2));
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getRow(0).getColumnValue("id").getValue()).isEqualTo(new BigDecimal("2"));
+    assertThat(table.getRow(1).getColumnValue("id").getValue()).isEqualTo(new BigDecimal("3"));
+
+    Table table2 = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(2).setSampleSeed(2));
+    assertThat(table2.getRowsList()).hasSize(2);
+    assertThat(table2.getRow(0).getColumnValue("id").getValue()).isEqualTo(new BigDecimal("1"));
+    assertThat(table2.getRow(1).getColumnValue("id").getValue()).isEqualTo(new BigDecimal("3"));
+
+    Table table3 = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(10));
+    assertThat(table3.getRowsList()).hasSize(3);
+  }
+
+  /**
+   * This method test that the number of rows and the aggregates are computed on the sample of the rows.
+   */
+  @Test
+  public void test_number_of_rows_and_aggregates_of_sample() {
+    Table table = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(2));
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+
+    Table table2 = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(2));
+    assertThat(table2.getSumOfValues("year")).isEqualByComparingTo("4013");
+    assertThat(table2.getNumberOfDistinctValues("year")).isEqualTo(2);
+
+    Request request = new Request(source, "select * from movie").setLoadOptions(new LoadOptions().setSampleSize(1));
+    assertThat(request.getNumberOfRows()).isEqualTo(1);
+  }
+
+  /**
+   * This method test that all the rows are loaded for the changes.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_without_sample() {
+    Table table = new Table(source, "movie").setLoadOptions(new LoadOptions().setSampleSize(1));
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update movie set title = 'Alien 2' where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+  }
+
+  /**
+   * This method should fail because the sample size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_sample_size_is_negative() {
+    new LoadOptions().setSampleSize(-1);
+  }
+
+  /**
+   * This method should fail because the fetch size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_fetch_size_is_negative() {
+    new LoadOptions().setFetchSize(-1);
+  }
+
+  /**
+   * This method should fail because the default options are {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_default_load_options_are_null() {
+    LoadOptions.setDefault(null);
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the sharing of the identical values of a column in a {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_ValueDictionary_Test extends AbstractTest {
+
+  /**
+   * This method test that the identical values of a column are shared.
+   */
+  @Test
+  public void test_identical_values_are_shared() {
+    Table table = new Table(source, "interpretation");
+
+    Column column = table.getColumn(2);
+    assertThat(column.getName()).isEqualTo("ID_ACTOR");
+    assertThat(column.getRowValue(0)).isSameAs(column.getRowValue(1)).isSameAs(column.getRowValue(2));
+    assertThat(column.getRowValue(0)).isNotSameAs(column.getRowValue(3));
+    assertThat(column.getRowValue(3).getValue()).isNotEqualTo(column.getRowValue(0).getValue());
+    assertThat(table.getRow(1).getColumnValue(2)).isSameAs(column.getRowValue(1));
+  }
+
+  /**
+   * This method test the dictionary directly.
+   */
+  @Test
+  public void test_dictionary() {
+    ValueDictionary dictionary = new ValueDictionary("COLUMN");
+
+    assertThat(dictionary.getValue(null)).isSameAs(dictionary.getValue(null));
+    assertThat(dictionary.getValue(null).getValue()).isNull();
+    assertThat(dictionary.getValue("text")).isSameAs(dictionary.getValue(new String("text")));
+    assertThat(dictionary.getValue("text").getColumnName()).isEqualTo("COLUMN");
+    Date date = Date.valueOf("2014-05-24");
+    assertThat(dictionary.getValue(date)).isNotSameAs(dictionary.getValue(date));
+    for (int i = 0; i < 2000; i++) {
+      dictionary.getValue(i);
+    }
+    assertThat(dictionary.getValue(1)).isSameAs(dictionary.getValue(1));
+    assertThat(dictionary.getValue(1500)).isNotSameAs(dictionary.getValue(1500));
+  }
+
+  /**
+   * This method test the types of the values resolved by the dictionary.
+   */
+  @Test
+  public void test_types_of_values() {
+    ValueDictionary dictionary = new ValueDictionary("COLUMN");
+
+    assertThat(dictionary.getValue(1).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(dictionary.getValue(2).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(dictionary.getValue("text").getValueType()).isEqualTo(ValueType.TEXT);
+    assertThat(dictionary.getValue(3L).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(dictionary.getValue(null).getValueType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+
+    ValueDictionary dateDictionary = new ValueDictionary("COLUMN", ValueType.DATE);
+    assertThat(dateDictionary.getValue(Date.valueOf("2014-05-24")).getValueType()).isEqualTo(ValueType.DATE);
+    assertThat(dateDictionary.getValue(null).getValueType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+  }
+
+  /**
+   * This method test the types of the values of a table.
+   */
+  @Test
+  public void test_types_of_values_in_table() {
+    Table table = new Table(source, "actor");
+
+    assertThat(table.getColumn(0).getRowValue(0).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(table.getColumn(1).getRowValue(0).getValueType()).isEqualTo(ValueType.TEXT);
+    assertThat(table.getColumn(3).getRowValue(0).getValueType()).isEqualTo(ValueType.DATE);
+  }
+}
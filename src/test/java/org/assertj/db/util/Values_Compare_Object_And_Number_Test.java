@@ -235,6 +235,57 @@ public class Values_Compare_Object_And_Number_Test extends AbstractTest {
     assertThat(Values.compare(getValue(null, (long) 2), 1D)).isEqualTo(1);
   }
 
+  /**
+   * This method tests the {@code compare} method for {@code Long}s which are not exact in {@code double}.
+   */
+  @Test
+  public void test_compare_for_long_and_long_greater_than_double_precision() throws Exception {
+    assertThat(Values.compare(getValue(null, 9007199254740993L), 9007199254740992L)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, 9007199254740992L), 9007199254740993L)).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), Long.MAX_VALUE - 1)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), new BigInteger("9223372036854775808"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), new BigInteger("-9223372036854775809"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, 3L), new BigDecimal("3.00"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 3L), new BigDecimal("2.99"))).isEqualTo(1);
+  }
+
+  /**
+   * This method tests the {@code compare} method for {@code Long}s and {@code BigDecimal}s with a scale.
+   */
+  @Test
+  public void test_compare_for_long_and_big_decimal_with_scale() throws Exception {
+    assertThat(Values.compare(getValue(null, 8L), new BigDecimal("8.50"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 9L), new BigDecimal("8.50"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -8L), new BigDecimal("-8.50"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -9L), new BigDecimal("-8.50"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, new BigDecimal("8.50")), 8L)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, new BigDecimal("8.50")), 9)).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 0L), new BigDecimal("0.000000000000000001"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 1L), new BigDecimal("0.000000000000000001"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -1L), new BigDecimal("0.000000000000000001"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 1L), new BigDecimal("1.0000000000000000000"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 1L), new BigDecimal("1E+2"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 1L), new BigDecimal("12345678901234567890.12"))).isEqualTo(-1);
+  }
+
+  /**
+   * This method tests the {@code compare} method for {@code Long}s and {@code BigDecimal}s with a scale when the
+   * scaled {@code long} overflows.
+   */
+  @Test
+  public void test_compare_for_long_and_big_decimal_with_scale_at_the_overflow() throws Exception {
+    assertThat(Values.compare(getValue(null, 922337203685477580L), new BigDecimal("922337203685477580.7")))
+        .isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 922337203685477581L), new BigDecimal("922337203685477580.7")))
+        .isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -922337203685477580L), new BigDecimal("-922337203685477580.8")))
+        .isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -922337203685477581L), new BigDecimal("-922337203685477580.8")))
+        .isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), new BigDecimal("0.01"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), new BigDecimal("0.01"))).isEqualTo(-1);
+  }
+
   /**
    * This method should fail because the value ("-") can not be compared to a {@code Number}.
    */